@@ -0,0 +1,91 @@
+package com.whitechapel.comics_collection_api.benchmark;
+
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.dto.EntityRef;
+import com.whitechapel.comics_collection_api.dto.SeriesView;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Datos fijos compartidos por los benchmarks.
+ * Siempre los mismos valores para que los resultados sean comparables entre versiones.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Series series() {
+        Publisher publisher = Publisher.builder().id(1L).name("Marvel").comics(new HashSet<>()).build();
+        return Series.builder()
+                .id(1L)
+                .title("Amazing Spider-Man")
+                .numbers(441)
+                .publisher(publisher)
+                .comics(new HashSet<>())
+                .build();
+    }
+
+    static Comic comic(long id, Series series) {
+        Set<Creator> creators = new HashSet<>();
+        creators.add(Creator.builder().id(1L).name("Stan Lee").comics(new HashSet<>()).build());
+        creators.add(Creator.builder().id(2L).name("Steve Ditko").comics(new HashSet<>()).build());
+        return Comic.builder()
+                .id(id)
+                .title("Amazing Spider-Man #" + id)
+                .issueNumber((int) id)
+                .year(1963)
+                .variant("Standard")
+                .series(series)
+                .publisher(series.getPublisher())
+                .creators(creators)
+                .owned(true)
+                .condition("Near Mint")
+                .purchasePrice(1000.0)
+                .purchaseDate(LocalDate.of(2020, 1, 1))
+                .notes("Primera aparición de Spider-Man")
+                .coverImageUrl("https://example.com/cover.jpg")
+                .build();
+    }
+
+    static List<Comic> comics(int count) {
+        Series series = series();
+        List<Comic> comics = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            comics.add(comic(i, series));
+        }
+        return comics;
+    }
+
+    /**
+     * Las mismas filas que {@link #comics(int)} como read model (lo que devuelven los listados).
+     */
+    static List<ComicView> comicViews(int count) {
+        List<ComicView> views = new ArrayList<>(count);
+        for (Comic comic : comics(count)) {
+            List<EntityRef> creators = comic.getCreators().stream()
+                    .map(creator -> new EntityRef(creator.getId(), creator.getName()))
+                    .toList();
+            views.add(ComicView.of(comic, creators));
+        }
+        return views;
+    }
+
+    static List<SeriesView> seriesViews(int count) {
+        Series series = series();
+        List<SeriesView> views = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            views.add(new SeriesView(id, series.getTitle() + " Vol. " + id, series.getNumbers(),
+                    series.getPublisher().getId(), series.getPublisher().getName()));
+        }
+        return views;
+    }
+}
@@ -0,0 +1,115 @@
+package com.whitechapel.comics_collection_api.benchmark;
+
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.dto.SeriesView;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Series;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización Jackson de las respuestas más frecuentes: un Comic, una Series
+ * y una página de 20 cómics (lo que devuelve GET /api/comics por defecto).
+ *
+ * Los listados (página de 100 ComicView, 100 SeriesView) se escriben a un stream,
+ * como hace el converter de Spring MVC. Cada uno se mide con su serializador
+ * específico y con la introspección por defecto del record (*Reflective).
+ * Bytes asignados por operación: -Djmh.args="JsonSerialization -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper mapper;
+
+    private Comic comic;
+
+    private Series series;
+
+    private Page<Comic> page;
+
+    private ObjectMapper reflectiveMapper;
+
+    private Page<ComicView> viewPage;
+
+    private List<SeriesView> seriesViews;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        List<Comic> comics = BenchmarkFixtures.comics(20);
+        comic = comics.getFirst();
+        series = comic.getSeries();
+        page = new PageImpl<>(comics, PageRequest.of(0, 20), 1_000);
+
+        reflectiveMapper = JsonMapper.builder()
+                .addMixIn(ComicView.class, DefaultSerialization.class)
+                .addMixIn(SeriesView.class, DefaultSerialization.class)
+                .build();
+        viewPage = new PageImpl<>(BenchmarkFixtures.comicViews(100), PageRequest.of(0, 100), 1_000);
+        seriesViews = BenchmarkFixtures.seriesViews(100);
+    }
+
+    @Benchmark
+    public byte[] comic() {
+        return mapper.writeValueAsBytes(comic);
+    }
+
+    @Benchmark
+    public byte[] series() {
+        return mapper.writeValueAsBytes(series);
+    }
+
+    @Benchmark
+    public byte[] pageOfComics() {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public void pageOfComicViews() {
+        mapper.writeValue(OutputStream.nullOutputStream(), viewPage);
+    }
+
+    @Benchmark
+    public void pageOfComicViewsReflective() {
+        reflectiveMapper.writeValue(OutputStream.nullOutputStream(), viewPage);
+    }
+
+    @Benchmark
+    public void listOfSeriesViews() {
+        mapper.writeValue(OutputStream.nullOutputStream(), seriesViews);
+    }
+
+    @Benchmark
+    public void listOfSeriesViewsReflective() {
+        reflectiveMapper.writeValue(OutputStream.nullOutputStream(), seriesViews);
+    }
+
+    // Anula @JsonSerialize de las vistas: serialización por defecto del record
+    @JsonSerialize(using = ValueSerializer.None.class)
+    private interface DefaultSerialization {
+    }
+}
@@ -0,0 +1,83 @@
+package com.whitechapel.comics_collection_api.benchmark;
+
+import com.whitechapel.comics_collection_api.security.JwtTokenProvider;
+import com.whitechapel.comics_collection_api.security.UserSnapshot;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de validar el JWT que acompaña a cada request.
+ *
+ *  - validateToken / getUsernameFromJwt: camino real del filtro (token ya verificado en caché)
+ *  - verifySignature: verificación HMAC completa con jjwt, el coste de un token
+ *    que todavía no está en caché
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+
+    private String token;
+
+    private JwtParser parser;
+
+    private String signedToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("ROLE_USER"));
+        UserSnapshot user = new UserSnapshot(1L, "reader", "{noop}secret", authorities, 0);
+        token = provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, authorities));
+
+        Key key = Keys.hmacShaKeyFor("secreto_de_benchmark_de_al_menos_256_bits_de_longitud".getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        signedToken = Jwts.builder()
+                .setSubject("reader")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromJwt() {
+        return provider.getUsernameFromJwt(token);
+    }
+
+    @Benchmark
+    public Claims verifySignature() {
+        return parser.parseClaimsJws(signedToken).getBody();
+    }
+}
@@ -0,0 +1,57 @@
+package com.whitechapel.comics_collection_api.benchmark;
+
+import com.whitechapel.comics_collection_api.controller.ComicController;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de construir la respuesta 400 de GlobalExceptionHandler.handleValidationExceptions
+ * para un Comic con tres campos inválidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationErrorBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    private MethodArgumentNotValidException exception;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Comic(), "comic");
+        bindingResult.addError(new FieldError("comic", "title", "Title is required"));
+        bindingResult.addError(new FieldError("comic", "issueNumber", "Issue number must be positive"));
+        bindingResult.addError(new FieldError("comic", "year", "Year must be positive"));
+        MethodParameter parameter = new MethodParameter(
+                ComicController.class.getMethod("createComic", Comic.class), 0);
+        exception = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> handleValidationExceptions() {
+        return handler.handleValidationExceptions(exception);
+    }
+}
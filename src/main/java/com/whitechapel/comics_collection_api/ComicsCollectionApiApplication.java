@@ -2,8 +2,10 @@ package com.whitechapel.comics_collection_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ComicsCollectionApiApplication {
 
 	public static void main(String[] args) {
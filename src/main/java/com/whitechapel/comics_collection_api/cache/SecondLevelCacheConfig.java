@@ -0,0 +1,78 @@
+package com.whitechapel.comics_collection_api.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché de segundo nivel de Hibernate para los datos de referencia
+ * (Publisher, Creator, Role) y sus búsquedas por nombre.
+ *
+ * Función:
+ *  - JCache en memoria con Caffeine; una región por entidad y otra para las consultas
+ *  - Tamaño máximo y TTL configurables en application.properties
+ *    (cache.reference.max-size, cache.reference.ttl-seconds)
+ *  - Hibernate invalida las regiones en cada escritura (controllers, importación,
+ *    JPQL masivo); la región de timestamps invalida las consultas cacheadas
+ *
+ * Buenas prácticas:
+ *  - Las regiones se crean aquí, con nombre explícito, en lugar de dejar que
+ *    Hibernate las cree sin límites
+ *  - La región de timestamps no caduca: si se perdiera una entrada, una consulta
+ *    cacheada podría devolver resultados obsoletos
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String PUBLISHER_REGION = "reference.publisher";
+    public static final String CREATOR_REGION = "reference.creator";
+    public static final String ROLE_REGION = "reference.role";
+    public static final String USER_ROLES_REGION = "reference.user-roles";
+    public static final String QUERY_REGION = "reference.queries";
+
+    static final List<String> REGIONS = List.of(
+            PUBLISHER_REGION, CREATOR_REGION, ROLE_REGION, USER_ROLES_REGION, QUERY_REGION);
+
+    // Una entrada por tabla: basta con un tamaño pequeño
+    private static final long TIMESTAMPS_MAX_SIZE = 1_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${cache.reference.max-size:10000}") long maxSize,
+                                              @Value("${cache.reference.ttl-seconds:600}") long ttlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("comics-collection-api:hibernate"), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setMaximumSize(OptionalLong.of(TIMESTAMPS_MAX_SIZE));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    /**
+     * Entrega el CacheManager anterior a Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,53 @@
+package com.whitechapel.comics_collection_api.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aciertos y fallos de la caché de segundo nivel, por región.
+ * Requiere hibernate.generate_statistics=true; con las estadísticas desactivadas
+ * (HIBERNATE_STATISTICS=false) no devuelve ninguna región.
+ */
+@Component
+public class SecondLevelCacheStats {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<RegionStats> regions() {
+        List<RegionStats> regions = new ArrayList<>();
+        if (!statistics.isStatisticsEnabled()) {
+            return regions;
+        }
+        for (String region : SecondLevelCacheConfig.REGIONS) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats != null) {
+                regions.add(new RegionStats(region, stats.getHitCount(), stats.getMissCount(),
+                        stats.getPutCount(), stats.getElementCountInMemory()));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Cifras de una región; elementsInMemory es -1 si el proveedor no lo informa.
+     */
+    public record RegionStats(String region, long hits, long misses, long puts, long elementsInMemory) {
+
+        @JsonProperty
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheStats;
+import com.whitechapel.comics_collection_api.security.TokenRevocationRegistry;
+import com.whitechapel.comics_collection_api.security.UserDetailsCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST con información operativa de la API.
+ *
+ * Función:
+ *  - Expone contadores internos (cachés, etc.) para dimensionarlos en producción
+ *
+ * Buenas prácticas aplicadas:
+ *  - Endpoints de solo lectura bajo /api/admin (requieren el rol ADMIN, ver SecurityConfig)
+ *  - Inyección de dependencias vía constructor
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final SecondLevelCacheStats secondLevelCacheStats;
+
+    private final TokenRevocationRegistry tokenRevocations;
+
+    @Autowired
+    public AdminController(UserDetailsCache userDetailsCache, SecondLevelCacheStats secondLevelCacheStats,
+                           TokenRevocationRegistry tokenRevocations) {
+        this.userDetailsCache = userDetailsCache;
+        this.secondLevelCacheStats = secondLevelCacheStats;
+        this.tokenRevocations = tokenRevocations;
+    }
+
+    // ------------------------
+    // GET: Estadísticas de la caché de usuarios (aciertos, fallos, desalojos)
+    // ------------------------
+    @GetMapping("/user-cache")
+    public UserDetailsCache.Stats getUserCacheStats() {
+        return userDetailsCache.stats();
+    }
+
+    // ------------------------
+    // GET: Caché de segundo nivel de Hibernate (aciertos y fallos por región)
+    // ------------------------
+    @GetMapping("/second-level-cache")
+    public List<SecondLevelCacheStats.RegionStats> getSecondLevelCacheStats() {
+        return secondLevelCacheStats.regions();
+    }
+
+    // ------------------------
+    // GET: Tokens revocados en memoria y tamaño del filtro de Bloom
+    // ------------------------
+    @GetMapping("/revoked-tokens")
+    public TokenRevocationRegistry.Stats getRevokedTokenStats() {
+        return tokenRevocations.stats();
+    }
+}
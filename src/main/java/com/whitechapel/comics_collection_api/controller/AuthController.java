@@ -2,13 +2,18 @@ package com.whitechapel.comics_collection_api.controller;
 
 import com.whitechapel.comics_collection_api.entity.User;
 import com.whitechapel.comics_collection_api.repository.UserRepository;
+import com.whitechapel.comics_collection_api.security.JwtPrincipal;
 import com.whitechapel.comics_collection_api.security.JwtTokenProvider;
+import com.whitechapel.comics_collection_api.security.TokenRevocationRegistry;
+import com.whitechapel.comics_collection_api.security.TokenVersionRegistry;
+import com.whitechapel.comics_collection_api.security.UserDetailsCache;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +21,8 @@ import org.springframework.web.bind.annotation.*;
  * Controller que expone endpoints para autenticación:
  *  - /auth/login: genera un token JWT al autenticarse
  *  - /auth/register: crea un nuevo usuario en la base de datos
+ *  - /auth/logout: revoca el token usado en la request
+ *  - /auth/logout-all: revoca todos los tokens emitidos para el usuario actual
  *
  * Buenas prácticas aplicadas:
  *  - Validación de entradas con @Valid
@@ -39,6 +46,15 @@ public class AuthController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersions;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocations;
+
     /**
      * Endpoint para login de usuario
      * @param username Nombre de usuario
@@ -77,9 +93,43 @@ public class AuthController {
 
         // 3. Guardar usuario en base de datos
         User savedUser = userRepository.save(user);
+        userDetailsCache.evict(savedUser.getUsername()); // Nunca servir un estado previo cacheado
 
         // 4. Devolver usuario creado (sin password plano)
         savedUser.setPassword(null); // Nunca devuelvas la contraseña
         return ResponseEntity.status(201).body(savedUser); // 201 Created
     }
+
+    /**
+     * Endpoint para cerrar sesión en este dispositivo.
+     * Revoca solo el token enviado; el resto de sesiones del usuario siguen activas.
+     * @param principal Usuario autenticado (construido desde el JWT)
+     * @param authorization Cabecera "Bearer <token>" con el token a revocar
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal JwtPrincipal principal,
+                                       @RequestHeader("Authorization") String authorization) {
+        if (principal == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(401).build(); // 401 Unauthorized
+        }
+        tokenProvider.parseValidToken(authorization.substring(7)).ifPresent(claims ->
+                tokenRevocations.revoke(claims.getId(), principal.id(), claims.getExpiration().toInstant()));
+        return ResponseEntity.noContent().build(); // 204 No Content
+    }
+
+    /**
+     * Endpoint para cerrar sesión en todos los dispositivos.
+     * Incrementa la versión de tokens del usuario: todos sus JWT dejan de ser válidos.
+     * @param principal Usuario autenticado (construido desde el JWT)
+     * @return 204 No Content
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal JwtPrincipal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build(); // 401 Unauthorized
+        }
+        tokenVersions.revokeAll(principal.id());
+        return ResponseEntity.noContent().build(); // 204 No Content
+    }
 }
@@ -0,0 +1,40 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.service.CascadeDeleteJob;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST con el progreso de los borrados en cascada en segundo plano.
+ *
+ * Función:
+ *  - DELETE /api/publishers/{id} y /api/series/{id} devuelven 202 con Location
+ *    apuntando aquí cuando la cascada es grande
+ *  - GET /api/cascade-deletes/{jobId}: estado, cómics borrados y progreso
+ */
+@RestController
+@RequestMapping("/api/cascade-deletes")
+public class CascadeDeleteController {
+
+    private final CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    public CascadeDeleteController(CascadeDeleteService cascadeDeleteService) {
+        this.cascadeDeleteService = cascadeDeleteService;
+    }
+
+    // ------------------------
+    // GET: Progreso de un borrado en cascada
+    // ------------------------
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CascadeDeleteJob> getJob(@PathVariable String jobId) {
+        return cascadeDeleteService.job(jobId)
+                .map(ResponseEntity::ok)                       // 200 OK con el estado
+                .orElse(ResponseEntity.notFound().build());    // 404 si no existe o ya se olvidó
+    }
+}
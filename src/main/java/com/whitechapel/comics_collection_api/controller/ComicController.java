@@ -1,16 +1,42 @@
 package com.whitechapel.comics_collection_api.controller;
 
+import com.whitechapel.comics_collection_api.datasource.ReplicaReads;
+import com.whitechapel.comics_collection_api.dto.BulkItemResult;
+import com.whitechapel.comics_collection_api.dto.ComicBulkPatch;
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.pagination.CursorPage;
+import com.whitechapel.comics_collection_api.pagination.KeysetCursor;
 import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.service.ComicBulkService;
+import com.whitechapel.comics_collection_api.service.ComicQueryService;
+import com.whitechapel.comics_collection_api.service.EntityUpdateService;
+import com.whitechapel.comics_collection_api.service.VersionStampService;
+import com.whitechapel.comics_collection_api.transfer.ComicExportService;
+import com.whitechapel.comics_collection_api.transfer.ComicImportService;
+import com.whitechapel.comics_collection_api.transfer.ImportReport;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Controller REST para gestionar Comics.
@@ -21,37 +47,114 @@ import java.util.Optional;
  *  - Constructor para inyección de dependencias
  *  - @Valid para validar datos según anotaciones de Comic.java
  *  - ResponseEntity para controlar códigos HTTP
+ *  - Las lecturas devuelven ComicView (read model) en lugar de la entidad
+ *  - GET condicionales (ETag / Last-Modified): 304 sin cargar el cómic
+ *  - Operaciones por lotes (?ids=...) en una sola request y una sola transacción
+ *  - PATCH con JSON Merge Patch: solo se escriben las columnas y filas de creadores que cambian
  *  - Comentarios explicativos en cada endpoint
  */
+@ReplicaReads
 @RestController
 @RequestMapping("/api/comics")
 public class ComicController {
 
+    // Tamaño máximo de página para la paginación por cursor
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // Órdenes permitidos en /scroll y cómo leer su valor desde el cursor
+    private static final Map<String, Function<String, Object>> SCROLL_SORTS = Map.of(
+            "id", Long::valueOf,
+            "title", value -> value,
+            "year", Integer::valueOf,
+            "purchaseDate", LocalDate::parse);
+
     private final ComicRepository comicRepository;
 
+    private final ComicQueryService comicQueryService;
+
+    private final ComicImportService comicImportService;
+
+    private final ComicExportService comicExportService;
+
+    private final VersionStampService versionStamps;
+
+    private final ComicBulkService comicBulkService;
+
+    private final EntityUpdateService entityUpdateService;
+
     /**
      * Inyección de dependencias vía constructor
      */
     @Autowired
-    public ComicController(ComicRepository comicRepository) {
+    public ComicController(ComicRepository comicRepository,
+                           ComicQueryService comicQueryService,
+                           ComicImportService comicImportService,
+                           ComicExportService comicExportService,
+                           VersionStampService versionStamps,
+                           ComicBulkService comicBulkService,
+                           EntityUpdateService entityUpdateService) {
         this.comicRepository = comicRepository;
+        this.comicQueryService = comicQueryService;
+        this.comicImportService = comicImportService;
+        this.comicExportService = comicExportService;
+        this.versionStamps = versionStamps;
+        this.comicBulkService = comicBulkService;
+        this.entityUpdateService = entityUpdateService;
     }
 
     // ------------------------
     // GET: Obtener todos los cómics con paginación
     // ------------------------
     @GetMapping
-    public Page<Comic> getAllComics(Pageable pageable) {
+    public Page<ComicView> getAllComics(Pageable pageable, WebRequest request) {
+        // ETag del listado a partir de agregados: 304 sin leer la página
+        if (versionStamps.comics().checkNotModified(request)) {
+            return null;
+        }
         // Pageable permite solicitar páginas con ?page=0&size=10
-        return comicRepository.findAll(pageable);
+        return comicQueryService.findPage(pageable);
+    }
+
+    // ------------------------
+    // GET: Varios cómics por id (?ids=1,2,3), un resultado por id
+    // ------------------------
+    @GetMapping(params = "ids")
+    public List<BulkItemResult<ComicView>> getComicsByIds(@RequestParam List<Long> ids) {
+        // Una consulta IN para las filas y otra para los creadores, sea cual sea el número de ids
+        return comicBulkService.findAll(ids);
+    }
+
+    // ------------------------
+    // GET: Paginación por cursor (keyset), sin count(*) ni OFFSET
+    // ------------------------
+    @GetMapping("/scroll")
+    public CursorPage<ComicView> scrollComics(@RequestParam(defaultValue = "id") String sort,
+                                          @RequestParam(defaultValue = "asc") String direction,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          @RequestParam(required = false) String cursor) {
+        // ?sort=title&direction=asc&size=20 para la primera página,
+        // ?cursor=<nextCursor> para las siguientes (el orden viaja en el cursor)
+        KeysetCursor keyset = cursor != null
+                ? KeysetCursor.decode(cursor, SCROLL_SORTS)
+                : KeysetCursor.first(sort, direction, SCROLL_SORTS);
+        Limit limit = Limit.of(Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+        return comicQueryService.scroll(keyset, limit);
     }
 
     // ------------------------
     // GET: Obtener un cómic por ID
     // ------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<Comic> getComicById(@PathVariable Long id) {
-        Optional<Comic> optionalComic = comicRepository.findById(id);
+    public ResponseEntity<ComicView> getComicById(@PathVariable Long id, WebRequest request) {
+        Optional<VersionStamp> stamp = versionStamps.comic(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404 si no existe
+        }
+        if (stamp.get().checkNotModified(request)) {
+            return null; // 304 Not Modified: el cliente ya tiene esta versión
+        }
+
+        Optional<ComicView> optionalComic = comicQueryService.findById(id);
         return optionalComic
                 .map(ResponseEntity::ok)          // 200 OK si existe
                 .orElse(ResponseEntity.notFound().build()); // 404 si no existe
@@ -61,45 +164,78 @@ public class ComicController {
     // POST: Crear un nuevo cómic
     // ------------------------
     @PostMapping
-    public ResponseEntity<Comic> createComic(@Valid @RequestBody Comic comic) {
+    public ResponseEntity<ComicView> createComic(@Valid @RequestBody Comic comic) {
         // @Valid activa las validaciones de Comic.java (NotBlank, Positive, etc.)
         Comic savedComic = comicRepository.save(comic);
-        // Devuelve 201 CREATED y el objeto creado
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedComic);
+        // Devuelve 201 CREATED y la vista del objeto creado (releída con sus referencias)
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(comicQueryService.findById(savedComic.getId()).orElseThrow());
+    }
+
+    // ------------------------
+    // POST: Importación masiva desde CSV (con cabecera) o NDJSON
+    // ------------------------
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportReport importCsv(InputStream body) {
+        // El cuerpo se procesa en streaming; los errores se devuelven por fila
+        return comicImportService.importCsv(body);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ImportReport importNdjson(InputStream body) {
+        return comicImportService.importNdjson(body);
+    }
+
+    // ------------------------
+    // GET: Exportar toda la colección (NDJSON o CSV)
+    // ------------------------
+    @GetMapping("/export")
+    public void exportComics(@RequestParam(defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        ComicExportService.Format exportFormat = "csv".equalsIgnoreCase(format)
+                ? ComicExportService.Format.CSV
+                : ComicExportService.Format.NDJSON;
+
+        response.setContentType(exportFormat == ComicExportService.Format.CSV
+                ? "text/csv;charset=UTF-8"
+                : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"comics." + exportFormat.name().toLowerCase() + "\"");
+
+        // Se escribe directamente en la respuesta: el heap no crece con el tamaño de la colección.
+        // El gzip lo negocia el contenedor (ResponseCompressionConfig), respetando Accept-Encoding y q=0
+        OutputStream out = response.getOutputStream();
+        comicExportService.export(out, exportFormat);
+        out.flush();
     }
 
     // ------------------------
     // PUT: Actualizar un cómic existente
     // ------------------------
     @PutMapping("/{id}")
-    public ResponseEntity<Comic> updateComic(@PathVariable Long id,
+    public ResponseEntity<ComicView> updateComic(@PathVariable Long id,
                                              @Valid @RequestBody Comic comicDetails) {
 
-        Optional<Comic> optionalComic = comicRepository.findById(id);
+        // Actualizamos campos permitidos en una transacción; los creadores se
+        // sincronizan por diferencia en lugar de reemplazar la colección entera
+        Optional<Comic> updatedComic = entityUpdateService.updateComic(id, comicDetails);
 
-        if (!optionalComic.isPresent()) {
-            // 404 Not Found si el cómic no existe
-            return ResponseEntity.notFound().build();
-        }
+        // 200 OK con la vista actualizada, 404 Not Found si el cómic no existe
+        return updatedComic
+                .map(comic -> ResponseEntity.ok(comicQueryService.findById(comic.getId()).orElseThrow()))
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        Comic comic = optionalComic.get();
-        // Actualizamos campos permitidos
-        comic.setTitle(comicDetails.getTitle());
-        comic.setIssueNumber(comicDetails.getIssueNumber());
-        comic.setYear(comicDetails.getYear());
-        comic.setVariant(comicDetails.getVariant());
-        comic.setSeries(comicDetails.getSeries());        // ManyToOne
-        comic.setCreators(comicDetails.getCreators());    // ManyToMany
-        comic.setOwned(comicDetails.isOwned());
-        comic.setCondition(comicDetails.getCondition());
-        comic.setPurchasePrice(comicDetails.getPurchasePrice());
-        comic.setPurchaseDate(comicDetails.getPurchaseDate());
-        comic.setNotes(comicDetails.getNotes());
-        comic.setCoverImageUrl(comicDetails.getCoverImageUrl());
-
-        // Guardamos cambios y devolvemos 200 OK
-        Comic updatedComic = comicRepository.save(comic);
-        return ResponseEntity.ok(updatedComic);
+    // ------------------------
+    // PATCH: Modificar solo los campos enviados (JSON Merge Patch)
+    // ------------------------
+    @PatchMapping(value = "/{id}", consumes = EntityUpdateService.MERGE_PATCH_JSON)
+    public ResponseEntity<ComicView> patchComic(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        // Body: { "condition": "Near Mint", "creators": [{ "id": 1 }, { "id": 7 }] }
+        // Campos ausentes no se tocan; null borra el valor
+        return entityUpdateService.patchComic(id, patch)
+                .map(comic -> ResponseEntity.ok(comicQueryService.findById(comic.getId()).orElseThrow()))
+                .orElse(ResponseEntity.notFound().build()); // 404 si no existe
     }
 
     // ------------------------
@@ -117,4 +253,22 @@ public class ComicController {
         comicRepository.deleteById(id);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
+
+    // ------------------------
+    // PATCH: Mismos cambios para varios cómics (un único UPDATE)
+    // ------------------------
+    @PatchMapping
+    public List<BulkItemResult<Void>> patchComics(@Valid @RequestBody ComicBulkPatch patch) {
+        // Body: { "ids": [1, 2, 3], "owned": true, "condition": "Near Mint" }
+        // Los campos ausentes no se modifican; 404 por elemento para los ids que no existen
+        return comicBulkService.patch(patch);
+    }
+
+    // ------------------------
+    // DELETE: Eliminar varios cómics (?ids=1,2,3) en una sola transacción
+    // ------------------------
+    @DeleteMapping(params = "ids")
+    public List<BulkItemResult<Void>> deleteComics(@RequestParam List<Long> ids) {
+        return comicBulkService.delete(ids);
+    }
 }
@@ -0,0 +1,113 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.cover.CoverFormat;
+import com.whitechapel.comics_collection_api.cover.CoverSender;
+import com.whitechapel.comics_collection_api.cover.CoverService;
+import com.whitechapel.comics_collection_api.cover.CoverStore;
+import com.whitechapel.comics_collection_api.cover.StoredCover;
+import com.whitechapel.comics_collection_api.cover.ThumbnailGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Controller REST de portadas almacenadas en disco local.
+ *
+ * Función:
+ *  - POST /api/comics/{id}/cover: sube la portada de un cómic (multipart, campo "file")
+ *  - GET /covers/{hash}.{ext}: original
+ *  - GET /covers/{hash}/thumbnail: miniatura (el original mientras se genera)
+ *
+ * Buenas prácticas aplicadas:
+ *  - Los GET de /covers son públicos (las etiquetas img no envían el token JWT)
+ *  - Envío zero-copy (sendfile / transferTo) con soporte de Range y caché de larga duración
+ *  - Inyección de dependencias vía constructor
+ */
+@RestController
+public class CoverController {
+
+    // Mientras no exista la miniatura, el original se sirve sin caché de larga duración
+    private static final String REVALIDATE = "public, max-age=60";
+
+    private final CoverService coverService;
+
+    private final CoverStore coverStore;
+
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    private final CoverSender coverSender;
+
+    @Autowired
+    public CoverController(CoverService coverService, CoverStore coverStore,
+                           ThumbnailGenerator thumbnailGenerator, CoverSender coverSender) {
+        this.coverService = coverService;
+        this.coverStore = coverStore;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.coverSender = coverSender;
+    }
+
+    // ------------------------
+    // POST: Subir la portada de un cómic
+    // ------------------------
+    @PostMapping(value = "/api/comics/{id}/cover", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StoredCover> upload(@PathVariable Long id, @RequestParam("file") MultipartFile file)
+            throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            Optional<StoredCover> cover = coverService.upload(id, content);
+            return cover
+                    .map(stored -> ResponseEntity.status(HttpStatus.CREATED).body(stored)) // 201 Created
+                    .orElse(ResponseEntity.notFound().build()); // 404 si el cómic no existe
+        }
+    }
+
+    // ------------------------
+    // GET: Portada original (inmutable)
+    // ------------------------
+    @GetMapping("/covers/{hash:[0-9a-f]{64}}.{extension}")
+    public void original(@PathVariable String hash, @PathVariable String extension,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<CoverFormat> format = CoverFormat.fromExtension(extension);
+        Optional<Path> file = format.flatMap(f -> coverStore.findOriginal(hash, f));
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        coverSender.send(file.get(), format.get().mediaType(), hash, request, response);
+    }
+
+    // ------------------------
+    // GET: Miniatura de una portada
+    // ------------------------
+    @GetMapping("/covers/{hash:[0-9a-f]{64}}/thumbnail")
+    public void thumbnail(@PathVariable String hash,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path thumbnail = coverStore.thumbnail(hash);
+        if (Files.exists(thumbnail)) {
+            coverSender.send(thumbnail, MediaType.IMAGE_JPEG_VALUE, hash + "-thumb", request, response);
+            return;
+        }
+
+        Optional<Path> original = coverStore.findOriginal(hash);
+        if (original.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // Todavía no hay miniatura: se encola (por si la cola estaba llena) y se sirve el original
+        thumbnailGenerator.request(hash);
+        String extension = original.get().getFileName().toString();
+        CoverFormat format = CoverFormat.fromExtension(extension.substring(extension.lastIndexOf('.') + 1))
+                .orElse(CoverFormat.JPEG);
+        coverSender.send(original.get(), format.mediaType(), hash, REVALIDATE, request, response);
+    }
+}
@@ -1,13 +1,24 @@
 package com.whitechapel.comics_collection_api.controller;
 
+import com.whitechapel.comics_collection_api.datasource.ReplicaReads;
+import com.whitechapel.comics_collection_api.dto.CreatorView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Creator;
 import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.service.EntityUpdateService;
+import com.whitechapel.comics_collection_api.service.NdjsonStreamService;
+import com.whitechapel.comics_collection_api.service.VersionStampService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.node.ObjectNode;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -19,8 +30,10 @@ import java.util.Optional;
  *  - Inyección de dependencias vía constructor
  *  - @Valid para validaciones de entidades
  *  - ResponseEntity para devolver códigos HTTP adecuados
+ *  - GET condicionales (ETag / Last-Modified): 304 sin cargar creadores
  *  - Comentarios explicativos en cada método
  */
+@ReplicaReads
 @RestController
 @RequestMapping("/api/creators")
 public class CreatorController {
@@ -31,24 +44,57 @@ public class CreatorController {
      */
     private final CreatorRepository creatorRepository;
 
+    private final NdjsonStreamService ndjsonStreamService;
+
+    private final VersionStampService versionStamps;
+
+    private final EntityUpdateService entityUpdateService;
+
     @Autowired
-    public CreatorController(CreatorRepository creatorRepository) {
+    public CreatorController(CreatorRepository creatorRepository, NdjsonStreamService ndjsonStreamService,
+                             VersionStampService versionStamps, EntityUpdateService entityUpdateService) {
         this.creatorRepository = creatorRepository;
+        this.ndjsonStreamService = ndjsonStreamService;
+        this.versionStamps = versionStamps;
+        this.entityUpdateService = entityUpdateService;
     }
 
     // ------------------------
-    // GET: Obtener todos los creadores
+    // GET: Obtener todos los creadores con paginación
+    // Cambio incompatible: antes devolvía un array con toda la tabla (docs/api-changes.md)
     // ------------------------
     @GetMapping
-    public List<Creator> getAllCreators() {
-        return creatorRepository.findAll();
+    public Page<CreatorView> getAllCreators(Pageable pageable, WebRequest request) {
+        // ETag del listado a partir de agregados: 304 sin leer la página
+        if (versionStamps.creators().checkNotModified(request)) {
+            return null;
+        }
+        // Pageable permite solicitar páginas con ?page=0&size=10 (igual que /api/comics)
+        return creatorRepository.findViews(pageable);
+    }
+
+    // ------------------------
+    // GET: Todos los creadores en streaming (NDJSON, memoria constante)
+    // ------------------------
+    @GetMapping(value = "/stream", produces = NdjsonStreamService.NDJSON)
+    public void streamAllCreators(HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonStreamService.NDJSON);
+        ndjsonStreamService.writeCreators(response.getOutputStream());
     }
 
     // ------------------------
     // GET: Obtener un creador por ID
     // ------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<Creator> getCreatorById(@PathVariable Long id) {
+    public ResponseEntity<Creator> getCreatorById(@PathVariable Long id, WebRequest request) {
+        Optional<VersionStamp> stamp = versionStamps.creator(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404 Not Found si no existe
+        }
+        if (stamp.get().checkNotModified(request)) {
+            return null; // 304 Not Modified: el cliente ya tiene esta versión
+        }
+
         Optional<Creator> creator = creatorRepository.findById(id);
         if (creator.isPresent()) {
             return ResponseEntity.ok(creator.get()); // 200 OK con el creador
@@ -90,6 +136,16 @@ public class CreatorController {
         return ResponseEntity.ok(updatedCreator);
     }
 
+    // ------------------------
+    // PATCH: Modificar solo los campos enviados (JSON Merge Patch)
+    // ------------------------
+    @PatchMapping(value = "/{id}", consumes = EntityUpdateService.MERGE_PATCH_JSON)
+    public ResponseEntity<Creator> patchCreator(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        return entityUpdateService.patchCreator(id, patch)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()); // 404 si no existe
+    }
+
     // ------------------------
     // DELETE: Eliminar un creador por ID
     // ------------------------
@@ -1,16 +1,33 @@
 package com.whitechapel.comics_collection_api.controller;
 
+import com.whitechapel.comics_collection_api.datasource.ReplicaReads;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.pagination.CursorPage;
+import com.whitechapel.comics_collection_api.pagination.KeysetCursor;
 import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteJob;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteService;
+import com.whitechapel.comics_collection_api.service.EntityUpdateService;
+import com.whitechapel.comics_collection_api.service.VersionStampService;
+import com.whitechapel.comics_collection_api.stats.SeriesGaps;
+import com.whitechapel.comics_collection_api.stats.SeriesOwnershipIndex;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.node.ObjectNode;
 
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Controller REST para gestionar Publishers (Editoriales).
@@ -21,43 +38,103 @@ import java.util.Optional;
  *  - Inyección de dependencias vía constructor (recomendado sobre @Autowired en campo)
  *  - @Valid para validar datos según anotaciones de la entidad
  *  - ResponseEntity para controlar códigos HTTP
+ *  - GET condicionales (ETag / Last-Modified): 304 sin cargar publishers
  *  - Comentarios educativos explicando cada sección
  */
+@ReplicaReads
 @RestController
 @RequestMapping("/api/publishers")
 public class PublisherController {
 
+    // Tamaño máximo de página para la paginación por cursor
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // Órdenes permitidos en /scroll y cómo leer su valor desde el cursor
+    private static final Map<String, Function<String, Object>> SCROLL_SORTS = Map.of(
+            "id", Long::valueOf,
+            "name", value -> value);
+
     private final PublisherRepository publisherRepository;
 
+    private final SeriesOwnershipIndex ownershipIndex;
+
+    private final VersionStampService versionStamps;
+
+    private final EntityUpdateService entityUpdateService;
+
+    private final CascadeDeleteService cascadeDeleteService;
+
     /**
      * Inyección de dependencias vía constructor.
      * Mejora testabilidad y evita problemas con @Autowired en campos.
      */
     @Autowired
-    public PublisherController(PublisherRepository publisherRepository) {
+    public PublisherController(PublisherRepository publisherRepository, SeriesOwnershipIndex ownershipIndex,
+                               VersionStampService versionStamps, EntityUpdateService entityUpdateService,
+                               CascadeDeleteService cascadeDeleteService) {
         this.publisherRepository = publisherRepository;
+        this.ownershipIndex = ownershipIndex;
+        this.versionStamps = versionStamps;
+        this.entityUpdateService = entityUpdateService;
+        this.cascadeDeleteService = cascadeDeleteService;
     }
 
     // ------------------------
     // GET: Obtener todos los publishers (con paginación opcional)
     // ------------------------
     @GetMapping
-    public Page<Publisher> getAll(Pageable pageable) {
+    public Page<Publisher> getAll(Pageable pageable, WebRequest request) {
+        // ETag del listado a partir de agregados: 304 sin leer la página
+        if (versionStamps.publishers().checkNotModified(request)) {
+            return null;
+        }
         // Pageable permite solicitar páginas con parámetros: ?page=0&size=10
         return publisherRepository.findAll(pageable);
     }
 
+    // ------------------------
+    // GET: Paginación por cursor (keyset), sin count(*) ni OFFSET
+    // ------------------------
+    @GetMapping("/scroll")
+    public CursorPage<Publisher> scroll(@RequestParam(defaultValue = "id") String sort,
+                                        @RequestParam(defaultValue = "asc") String direction,
+                                        @RequestParam(defaultValue = "20") int size,
+                                        @RequestParam(required = false) String cursor) {
+        KeysetCursor keyset = cursor != null
+                ? KeysetCursor.decode(cursor, SCROLL_SORTS)
+                : KeysetCursor.first(sort, direction, SCROLL_SORTS);
+        Limit limit = Limit.of(Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+        return CursorPage.of(publisherRepository.findAllBy(keyset.position(), keyset.sort(), limit), keyset);
+    }
+
     // ------------------------
     // GET: Obtener un publisher por ID
     // ------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<Publisher> getById(@PathVariable Long id) {
+    public ResponseEntity<Publisher> getById(@PathVariable Long id, WebRequest request) {
+        Optional<VersionStamp> stamp = versionStamps.publisher(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404 si no existe
+        }
+        if (stamp.get().checkNotModified(request)) {
+            return null; // 304 Not Modified: el cliente ya tiene esta versión
+        }
+
         Optional<Publisher> optional = publisherRepository.findById(id);
         return optional
                 .map(ResponseEntity::ok) // 200 OK si existe
                 .orElse(ResponseEntity.notFound().build()); // 404 si no existe
     }
 
+    // ------------------------
+    // GET: Números que faltan en cada serie del publisher
+    // ------------------------
+    @GetMapping("/{id}/gaps")
+    public List<SeriesGaps> getGaps(@PathVariable Long id) {
+        // Lista vacía si el publisher no tiene series (se responde desde memoria)
+        return ownershipIndex.gapsByPublisher(id);
+    }
+
     // ------------------------
     // POST: Crear un nuevo publisher
     // ------------------------
@@ -90,18 +167,33 @@ public class PublisherController {
         return ResponseEntity.ok(updatedPublisher);
     }
 
+    // ------------------------
+    // PATCH: Modificar solo los campos enviados (JSON Merge Patch)
+    // ------------------------
+    @PatchMapping(value = "/{id}", consumes = EntityUpdateService.MERGE_PATCH_JSON)
+    public ResponseEntity<Publisher> patch(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        return entityUpdateService.patchPublisher(id, patch)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()); // 404 si no existe
+    }
+
     // ------------------------
     // DELETE: Eliminar un publisher por ID
     // ------------------------
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        if (!publisherRepository.existsById(id)) {
+    public ResponseEntity<CascadeDeleteJob> delete(@PathVariable Long id) {
+        // Borrado set-based: los cómics por bloques y después sus series y el publisher
+        // Cascadas pequeñas: 204 al terminar; grandes: 202 con un job en segundo plano
+        Optional<CascadeDeleteJob> job = cascadeDeleteService.deletePublisher(id);
+        if (job.isEmpty()) {
+            // 404 Not Found si no existe
             return ResponseEntity.notFound().build();
         }
-
-        // NOTA: Si Publisher tiene Comics, se eliminarán automáticamente
-        // debido a orphanRemoval=true en Publisher.java
-        publisherRepository.deleteById(id);
-        return ResponseEntity.noContent().build(); // 204 No Content
+        if (job.get().getState() == CascadeDeleteJob.State.COMPLETED) {
+            return ResponseEntity.noContent().build(); // 204 No Content
+        }
+        return ResponseEntity.accepted() // 202 Accepted: progreso en la URL de Location
+                .location(URI.create("/api/cascade-deletes/" + job.get().getId()))
+                .body(job.get());
     }
 }
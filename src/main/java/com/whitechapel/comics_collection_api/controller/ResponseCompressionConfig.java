@@ -0,0 +1,61 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.ConfigurableWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compresión gzip de las respuestas de la API (Tomcat, solo si la request envía
+ * Accept-Encoding: gzip).
+ *
+ * Función:
+ *  - Propiedades api.compression.* (tipos MIME y tamaño mínimo)
+ *  - Se aplica solo al servidor de la API, no al de gestión (management.server.port)
+ *
+ * Buenas prácticas:
+ *  - No usa server.compression.*: el servidor de gestión hereda esas propiedades y
+ *    comprimiría también Actuator (Prometheus lee cada pocos segundos y no lo necesita).
+ *    Este customizer es un bean del contexto principal y el de gestión no lo ve
+ *  - La exportación (CSV y NDJSON) se comprime aquí también, mientras se escribe
+ */
+@Configuration
+public class ResponseCompressionConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableWebServerFactory> apiCompressionCustomizer(
+            @Value("${api.compression.enabled:true}") boolean enabled,
+            @Value("${api.compression.mime-types:application/json,application/x-ndjson,text/csv}") String[] mimeTypes,
+            @Value("${api.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        Compression compression = new Compression();
+        compression.setEnabled(enabled);
+        compression.setMimeTypes(mimeTypes);
+        compression.setMinResponseSize(minResponseSize);
+        return new ApiCompressionCustomizer(compression);
+    }
+
+    private static final class ApiCompressionCustomizer
+            implements WebServerFactoryCustomizer<ConfigurableWebServerFactory>, Ordered {
+
+        private final Compression compression;
+
+        private ApiCompressionCustomizer(Compression compression) {
+            this.compression = compression;
+        }
+
+        @Override
+        public void customize(ConfigurableWebServerFactory factory) {
+            factory.setCompression(compression);
+        }
+
+        // Después del customizer de Spring Boot, que fija server.compression (desactivada)
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
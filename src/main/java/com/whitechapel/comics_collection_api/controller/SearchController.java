@@ -0,0 +1,51 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.datasource.ReplicaReads;
+import com.whitechapel.comics_collection_api.search.SearchBackend;
+import com.whitechapel.comics_collection_api.search.SearchResults;
+import com.whitechapel.comics_collection_api.search.SearchType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Controller REST del buscador de texto completo.
+ * Busca en cómics (título, variante, notas), series (título) y creadores (nombre).
+ *
+ * Buenas prácticas aplicadas:
+ *  - Un único endpoint para todos los tipos, filtrable con ?types=
+ *  - Resultados ordenados por relevancia y paginados
+ *  - Backend intercambiable con la propiedad search.backend (memory | postgres)
+ */
+@ReplicaReads
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    // Tamaño máximo de página de resultados
+    private static final int MAX_SIZE = 100;
+
+    private final SearchBackend searchBackend;
+
+    @Autowired
+    public SearchController(SearchBackend searchBackend) {
+        this.searchBackend = searchBackend;
+    }
+
+    // ------------------------
+    // GET: Buscar (?q=spidr&types=COMIC,SERIES&page=0&size=20)
+    // ------------------------
+    @GetMapping
+    public SearchResults search(@RequestParam String q,
+                                @RequestParam(required = false) Set<SearchType> types,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size) {
+        Set<SearchType> selected = types == null || types.isEmpty() ? EnumSet.allOf(SearchType.class) : types;
+        return searchBackend.search(q, selected, Math.max(0, page), Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+}
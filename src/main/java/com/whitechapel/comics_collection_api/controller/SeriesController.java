@@ -1,14 +1,30 @@
 package com.whitechapel.comics_collection_api.controller;
 
+import com.whitechapel.comics_collection_api.datasource.ReplicaReads;
+import com.whitechapel.comics_collection_api.dto.SeriesView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Series;
 import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteJob;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteService;
+import com.whitechapel.comics_collection_api.service.EntityUpdateService;
+import com.whitechapel.comics_collection_api.service.NdjsonStreamService;
+import com.whitechapel.comics_collection_api.service.VersionStampService;
+import com.whitechapel.comics_collection_api.stats.SeriesGaps;
+import com.whitechapel.comics_collection_api.stats.SeriesOwnershipIndex;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.node.ObjectNode;
 
-import java.util.List;
+import java.io.IOException;
+import java.net.URI;
 import java.util.Optional;
 
 /**
@@ -20,58 +36,112 @@ import java.util.Optional;
  *  - Constructor para inyección de dependencias (recomendado sobre @Autowired en campos)
  *  - @Valid para validar datos según anotaciones de Series.java
  *  - ResponseEntity para controlar códigos HTTP
+ *  - Las respuestas usan SeriesView (serie + referencia al publisher)
+ *  - GET condicionales (ETag / Last-Modified): 304 sin cargar la serie
  *  - Comentarios educativos explicando cada sección
  */
+@ReplicaReads
 @RestController
 @RequestMapping("/api/series")
 public class SeriesController {
 
     private final SeriesRepository seriesRepository;
 
+    private final NdjsonStreamService ndjsonStreamService;
+
+    private final SeriesOwnershipIndex ownershipIndex;
+
+    private final VersionStampService versionStamps;
+
+    private final EntityUpdateService entityUpdateService;
+
+    private final CascadeDeleteService cascadeDeleteService;
+
     /**
      * Inyección de dependencias vía constructor
      */
     @Autowired
-    public SeriesController(SeriesRepository seriesRepository) {
+    public SeriesController(SeriesRepository seriesRepository, NdjsonStreamService ndjsonStreamService,
+                            SeriesOwnershipIndex ownershipIndex, VersionStampService versionStamps,
+                            EntityUpdateService entityUpdateService, CascadeDeleteService cascadeDeleteService) {
         this.seriesRepository = seriesRepository;
+        this.ndjsonStreamService = ndjsonStreamService;
+        this.ownershipIndex = ownershipIndex;
+        this.versionStamps = versionStamps;
+        this.entityUpdateService = entityUpdateService;
+        this.cascadeDeleteService = cascadeDeleteService;
     }
 
     // ------------------------
-    // GET: Obtener todas las series
+    // GET: Obtener todas las series con paginación
+    // Cambio incompatible: antes devolvía un array con toda la tabla (docs/api-changes.md)
     // ------------------------
     @GetMapping
-    public List<Series> getAll() {
-        // Retorna todas las series en la BD
-        return seriesRepository.findAll();
+    public Page<SeriesView> getAll(Pageable pageable, WebRequest request) {
+        // ETag del listado a partir de agregados: 304 sin leer la página
+        if (versionStamps.seriesList().checkNotModified(request)) {
+            return null;
+        }
+        // Pageable permite solicitar páginas con ?page=0&size=10 (igual que /api/comics)
+        return seriesRepository.findViews(pageable);
+    }
+
+    // ------------------------
+    // GET: Todas las series en streaming (NDJSON, memoria constante)
+    // ------------------------
+    @GetMapping(value = "/stream", produces = NdjsonStreamService.NDJSON)
+    public void streamAll(HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonStreamService.NDJSON);
+        ndjsonStreamService.writeSeries(response.getOutputStream());
     }
 
     // ------------------------
     // GET: Obtener una serie por ID
     // ------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<Series> getById(@PathVariable Long id) {
-        Optional<Series> optional = seriesRepository.findById(id);
+    public ResponseEntity<SeriesView> getById(@PathVariable Long id, WebRequest request) {
+        Optional<VersionStamp> stamp = versionStamps.series(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404 si no existe
+        }
+        if (stamp.get().checkNotModified(request)) {
+            return null; // 304 Not Modified: el cliente ya tiene esta versión
+        }
+
+        Optional<SeriesView> optional = seriesRepository.findViewById(id);
         return optional
                 .map(ResponseEntity::ok)          // 200 OK si existe
                 .orElse(ResponseEntity.notFound().build()); // 404 si no existe
     }
 
+    // ------------------------
+    // GET: Números que faltan, % de compleción y racha más larga de una serie
+    // ------------------------
+    @GetMapping("/{id}/gaps")
+    public ResponseEntity<SeriesGaps> getGaps(@PathVariable Long id) {
+        // Se responde desde el índice en memoria, sin consultar la base de datos
+        return ownershipIndex.gaps(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // ------------------------
     // POST: Crear una nueva serie
     // ------------------------
     @PostMapping
-    public ResponseEntity<Series> create(@Valid @RequestBody Series series) {
+    public ResponseEntity<SeriesView> create(@Valid @RequestBody Series series) {
         // @Valid activa las validaciones de Series.java
         Series savedSeries = seriesRepository.save(series);
-        // Devuelve 201 CREATED con la serie creada
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedSeries);
+        // Devuelve 201 CREATED con la serie creada (releída con su publisher)
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(seriesRepository.findViewById(savedSeries.getId()).orElseThrow());
     }
 
     // ------------------------
     // PUT: Actualizar una serie existente
     // ------------------------
     @PutMapping("/{id}")
-    public ResponseEntity<Series> update(@PathVariable Long id,
+    public ResponseEntity<SeriesView> update(@PathVariable Long id,
                                          @Valid @RequestBody Series details) {
 
         Optional<Series> optional = seriesRepository.findById(id);
@@ -88,22 +158,38 @@ public class SeriesController {
         series.setPublisher(details.getPublisher());   // ManyToOne con Publisher
 
         Series updatedSeries = seriesRepository.save(series);
-        return ResponseEntity.ok(updatedSeries);        // 200 OK con la serie actualizada
+        // 200 OK con la serie actualizada
+        return ResponseEntity.ok(seriesRepository.findViewById(updatedSeries.getId()).orElseThrow());
+    }
+
+    // ------------------------
+    // PATCH: Modificar solo los campos enviados (JSON Merge Patch)
+    // ------------------------
+    @PatchMapping(value = "/{id}", consumes = EntityUpdateService.MERGE_PATCH_JSON)
+    public ResponseEntity<SeriesView> patch(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        // Body: { "numbers": 120 } o { "publisher": { "id": 2 } }; solo se escriben las columnas cambiadas
+        return entityUpdateService.patchSeries(id, patch)
+                .map(series -> ResponseEntity.ok(seriesRepository.findViewById(series.getId()).orElseThrow()))
+                .orElse(ResponseEntity.notFound().build()); // 404 si no existe
     }
 
     // ------------------------
     // DELETE: Eliminar una serie por ID
     // ------------------------
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        if (!seriesRepository.existsById(id)) {
+    public ResponseEntity<CascadeDeleteJob> delete(@PathVariable Long id) {
+        // Borrado set-based: los cómics por bloques y después la serie
+        // Cascadas pequeñas: 204 al terminar; grandes: 202 con un job en segundo plano
+        Optional<CascadeDeleteJob> job = cascadeDeleteService.deleteSeries(id);
+        if (job.isEmpty()) {
             // 404 Not Found si no existe
             return ResponseEntity.notFound().build();
         }
-
-        // NOTA: Los comics asociados a esta serie serán eliminados automáticamente
-        // si se usa orphanRemoval=true en Series.java
-        seriesRepository.deleteById(id);
-        return ResponseEntity.noContent().build(); // 204 No Content
+        if (job.get().getState() == CascadeDeleteJob.State.COMPLETED) {
+            return ResponseEntity.noContent().build(); // 204 No Content
+        }
+        return ResponseEntity.accepted() // 202 Accepted: progreso en la URL de Location
+                .location(URI.create("/api/cascade-deletes/" + job.get().getId()))
+                .body(job.get());
     }
 }
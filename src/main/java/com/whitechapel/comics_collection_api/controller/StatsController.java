@@ -0,0 +1,81 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.dto.EntityRef;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import com.whitechapel.comics_collection_api.stats.CollectionStatsCounters;
+import com.whitechapel.comics_collection_api.stats.CollectionSummary;
+import com.whitechapel.comics_collection_api.stats.PublisherStats;
+import com.whitechapel.comics_collection_api.stats.SeriesCompletion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Controller REST con las estadísticas de la colección.
+ *
+ * Función:
+ *  - Resumen global (total, en propiedad, deseados, gasto total) y valor por publisher,
+ *    servidos desde contadores en memoria: O(1), sin recorrer la tabla comic
+ *  - Compleción por serie calculada con una consulta agregada paginada
+ *
+ * Buenas prácticas aplicadas:
+ *  - Endpoints de solo lectura bajo /api/stats
+ *  - Inyección de dependencias vía constructor
+ *  - Nunca se cargan entidades Comic para calcular cifras
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final CollectionStatsCounters counters;
+
+    private final PublisherRepository publisherRepository;
+
+    private final SeriesRepository seriesRepository;
+
+    @Autowired
+    public StatsController(CollectionStatsCounters counters,
+                           PublisherRepository publisherRepository,
+                           SeriesRepository seriesRepository) {
+        this.counters = counters;
+        this.publisherRepository = publisherRepository;
+        this.seriesRepository = seriesRepository;
+    }
+
+    // ------------------------
+    // GET: Resumen de la colección (total, owned, wanted, gasto total)
+    // ------------------------
+    @GetMapping
+    public CollectionSummary getSummary() {
+        return counters.summary();
+    }
+
+    // ------------------------
+    // GET: Número de cómics y valor por publisher (de mayor a menor valor)
+    // ------------------------
+    @GetMapping("/publishers")
+    public List<PublisherStats> getByPublisher() {
+        Map<Long, String> names = publisherRepository.findAllRefs().stream()
+                .collect(Collectors.toMap(EntityRef::id, EntityRef::name));
+        return counters.byPublisher(names);
+    }
+
+    // ------------------------
+    // GET: Compleción por serie (números distintos en propiedad / Series.numbers)
+    // ------------------------
+    @GetMapping("/series")
+    public Page<SeriesCompletion> getSeriesCompletion(
+            @PageableDefault(size = 20, sort = "title", direction = Sort.Direction.ASC) Pageable pageable) {
+        return seriesRepository.findCompletion(pageable);
+    }
+}
@@ -0,0 +1,166 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Envía ficheros de portada sin copiarlos a memoria de la aplicación.
+ *
+ * Función:
+ *  - Si el conector de Tomcat admite sendfile, se le pasa la ruta y el rango
+ *    mediante atributos de la request y es el kernel quien copia el fichero al socket
+ *  - Si no, FileChannel.transferTo hacia el canal de la respuesta
+ *  - Soporta HTTP Range (un único rango, "bytes=a-b", "bytes=a-", "bytes=-n");
+ *    varios rangos se responden con el fichero completo, como permite la RFC 9110
+ *  - Los ficheros son inmutables (direccionados por contenido): ETag = hash
+ *    y Cache-Control de un año con "immutable"
+ */
+@Component
+public class CoverSender {
+
+    // Atributos de Tomcat para sendfile (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    /**
+     * Envía un fichero inmutable identificado por su ETag.
+     */
+    public void send(Path file, String mediaType, String etag,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        send(file, mediaType, etag, IMMUTABLE, request, response);
+    }
+
+    /**
+     * Envía un fichero con la política de caché indicada.
+     */
+    public void send(Path file, String mediaType, String etag, String cacheControl,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String quotedEtag = "\"" + etag + "\"";
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(quotedEtag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        boolean rangeApplies = range != null && (ifRange == null || ifRange.equals(quotedEtag));
+        if (rangeApplies) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                // Rango no satisfacible
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(mediaType);
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat envía el fichero con sendfile al terminar la request ("end" es exclusivo)
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Interpreta la cabecera Range.
+     *
+     * @return {inicio, fin} inclusivos; array vacío si hay que enviar el fichero completo
+     *         (varios rangos, cabecera no reconocida o rango inválido como bytes=5-3);
+     *         null si el rango es válido pero no satisfacible (empieza después del final)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // Sufijo: los últimos N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                if (last.isEmpty()) {
+                    end = length - 1;
+                } else {
+                    end = Long.parseLong(last);
+                    if (end < start) {
+                        // "bytes=5-3" no es un rango válido (RFC 9110): se ignora la cabecera
+                        return new long[0];
+                    }
+                    end = Math.min(end, length - 1);
+                }
+            }
+            if (start >= length) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
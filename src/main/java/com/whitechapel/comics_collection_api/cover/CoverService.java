@@ -0,0 +1,62 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Asocia portadas del almacén local a los cómics.
+ */
+@Service
+public class CoverService {
+
+    private final CoverStore coverStore;
+
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    private final ComicRepository comicRepository;
+
+    private final TransactionTemplate transaction;
+
+    public CoverService(CoverStore coverStore, ThumbnailGenerator thumbnailGenerator,
+                        ComicRepository comicRepository, PlatformTransactionManager transactionManager) {
+        this.coverStore = coverStore;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.comicRepository = comicRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Guarda la imagen, apunta Comic.coverImageUrl al original local y encola la miniatura.
+     *
+     * Sin transacción mientras se escribe el fichero: una subida lenta no retiene una
+     * conexión del pool. Solo la actualización de coverImageUrl va en una transacción
+     * corta (con la entidad, para que version y los listeners de Hibernate se apliquen).
+     * Si el cómic no existe el fichero queda en el almacén sin referencias; al ser
+     * direccionado por contenido, otra subida igual lo reutiliza.
+     *
+     * @return la portada guardada, o vacío si el cómic no existe
+     */
+    public Optional<StoredCover> upload(Long comicId, InputStream content) throws IOException {
+        if (!comicRepository.existsById(comicId)) {
+            return Optional.empty();
+        }
+        StoredCover cover = coverStore.store(content);
+        boolean updated = Boolean.TRUE.equals(transaction.execute(status -> comicRepository.findById(comicId)
+                .map(comic -> {
+                    comic.setCoverImageUrl(cover.url());
+                    return true;
+                })
+                .orElse(false)));
+        if (!updated) {
+            return Optional.empty(); // Borrado mientras se guardaba la imagen
+        }
+        thumbnailGenerator.request(cover.hash());
+        return Optional.of(cover);
+    }
+}
@@ -0,0 +1,149 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Almacén local de portadas direccionado por contenido.
+ *
+ * Función:
+ *  - Cada imagen se guarda una sola vez con su SHA-256 como nombre:
+ *    {directorio}/ab/cd/abcd...e3.jpg (dos niveles para no llenar un único directorio)
+ *  - Subir dos veces la misma imagen (de uno o varios cómics) no ocupa más disco
+ *  - Las miniaturas viven junto al original: {hash}-thumb.jpg
+ *
+ * Buenas prácticas:
+ *  - La subida se escribe en un fichero temporal del mismo directorio y se mueve
+ *    de forma atómica: nunca se sirve un fichero a medio escribir
+ *  - El formato se detecta por el contenido; el hash se valida antes de construir rutas
+ */
+@Component
+public class CoverStore {
+
+    public static final String PUBLIC_PATH = "/covers/";
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public CoverStore(@Value("${covers.directory:./data/covers}") Path root) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Guarda una imagen subida y devuelve su descripción.
+     */
+    public StoredCover store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                size = content.transferTo(out);
+            }
+
+            CoverFormat format = detectFormat(temp);
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = original(hash, format);
+
+            boolean deduplicated = Files.exists(target);
+            if (!deduplicated) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    deduplicated = true; // Otra subida simultánea del mismo contenido
+                }
+            }
+            return new StoredCover(hash, format, size, url(hash, format), thumbnailUrl(hash), deduplicated);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Fichero original, si existe.
+     */
+    public Optional<Path> findOriginal(String hash, CoverFormat format) {
+        if (!HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = original(hash, format);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Busca el original de un hash probando los formatos admitidos.
+     */
+    public Optional<Path> findOriginal(String hash) {
+        for (CoverFormat format : CoverFormat.values()) {
+            Optional<Path> path = findOriginal(hash, format);
+            if (path.isPresent()) {
+                return path;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Ruta de la miniatura (exista o no todavía).
+     */
+    public Path thumbnail(String hash) {
+        return directory(hash).resolve(hash + "-thumb.jpg");
+    }
+
+    public boolean isValidHash(String hash) {
+        return HASH.matcher(hash).matches();
+    }
+
+    public static String url(String hash, CoverFormat format) {
+        return PUBLIC_PATH + hash + "." + format.extension();
+    }
+
+    public static String thumbnailUrl(String hash) {
+        return PUBLIC_PATH + hash + "/thumbnail";
+    }
+
+    private Path original(String hash, CoverFormat format) {
+        return directory(hash).resolve(hash + "." + format.extension());
+    }
+
+    private Path directory(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+    }
+
+    private static CoverFormat detectFormat(Path file) throws IOException {
+        byte[] header = new byte[12];
+        int length;
+        try (InputStream in = Files.newInputStream(file)) {
+            length = in.readNBytes(header, 0, header.length);
+        }
+        return CoverFormat.detect(header, length)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                        "Cover must be a JPEG, PNG, GIF or WebP image"));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.whitechapel.comics_collection_api.cover;
+
+/**
+ * Portada guardada en el almacén local.
+ *
+ * @param hash         SHA-256 del contenido (nombre del fichero)
+ * @param url          URL pública del original (se guarda en Comic.coverImageUrl)
+ * @param thumbnailUrl URL pública de la miniatura (se genera en segundo plano)
+ * @param deduplicated true si el mismo contenido ya estaba guardado
+ */
+public record StoredCover(String hash, CoverFormat format, long size, String url, String thumbnailUrl,
+                          boolean deduplicated) {
+}
@@ -0,0 +1,183 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera las miniaturas de las portadas en segundo plano.
+ *
+ * Función:
+ *  - Pool de hilos acotado (covers.thumbnail-threads) con cola acotada
+ *    (covers.thumbnail-queue): las subidas nunca esperan al escalado
+ *  - Si la cola está llena la miniatura no se encola; se vuelve a intentar
+ *    cuando alguien la pide (mientras tanto se sirve el original)
+ *  - Una misma portada no se encola dos veces a la vez
+ *  - Las dimensiones se leen de la cabecera antes de decodificar: los originales de
+ *    más de covers.thumbnail-max-pixels no se decodifican (un PNG de pocos KB puede
+ *    declarar 50000x50000 píxeles) y se sirven sin miniatura
+ *
+ * Las miniaturas se guardan siempre como JPEG de ancho fijo (covers.thumbnail-width).
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailGenerator.class);
+
+    private final CoverStore coverStore;
+
+    private final int width;
+
+    private final long maxPixels;
+
+    private final ThreadPoolExecutor executor;
+
+    // Hashes encolados o en proceso
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ThumbnailGenerator(CoverStore coverStore,
+                              @Value("${covers.thumbnail-width:300}") int width,
+                              @Value("${covers.thumbnail-max-pixels:25000000}") long maxPixels,
+                              @Value("${covers.thumbnail-threads:2}") int threads,
+                              @Value("${covers.thumbnail-queue:200}") int queueCapacity) {
+        this.coverStore = coverStore;
+        this.width = width;
+        this.maxPixels = maxPixels;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "cover-thumbnail-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Encola la miniatura de una portada si no existe ya.
+     *
+     * @return true si la miniatura existe o quedó encolada
+     */
+    public boolean request(String hash) {
+        if (Files.exists(coverStore.thumbnail(hash))) {
+            return true;
+        }
+        if (!pending.add(hash)) {
+            return true; // Ya encolada
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash);
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+            logger.warn("Cola de miniaturas llena; la miniatura de {} se generará más tarde", hash);
+            return false;
+        }
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(String hash) {
+        Path target = coverStore.thumbnail(hash);
+        try {
+            Path source = coverStore.findOriginal(hash).orElse(null);
+            if (source == null || Files.exists(target)) {
+                return;
+            }
+            BufferedImage image = read(source);
+            if (image == null) {
+                return;
+            }
+            Path temp = Files.createTempFile(target.getParent(), "thumb-", ".tmp");
+            try {
+                ImageIO.write(scale(image), "jpg", temp.toFile());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("No se pudo generar la miniatura de {}: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * Decodifica el original si sus dimensiones no superan el límite.
+     *
+     * @return la imagen, o null si no hay lector para el formato o es demasiado grande
+     */
+    BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                logger.info("Sin lector de imágenes para {}; se servirá el original", source.getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int imageWidth = reader.getWidth(0);
+                int imageHeight = reader.getHeight(0);
+                if (imageWidth <= 0 || imageHeight <= 0 || (long) imageWidth * imageHeight > maxPixels) {
+                    logger.warn("Portada {} de {}x{} píxeles rechazada (máximo {}); se servirá el original",
+                            source.getFileName(), imageWidth, imageHeight, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, image.getHeight() * targetWidth / image.getWidth());
+        // TYPE_INT_RGB: JPEG no admite transparencia
+        BufferedImage thumbnail = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+}
@@ -0,0 +1,193 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Réplicas de lectura de PostgreSQL.
+ *
+ * Función:
+ *  - Con db.replicas.urls envuelve el DataSource de Spring Boot (el primario) en
+ *    LazyConnectionDataSourceProxy + {@link ReplicaRoutingDataSource}
+ *  - Crea un pool Hikari por réplica y comprueba su retraso en segundo plano
+ *  - Los pools de las réplicas no son beans: se registran a mano en las métricas
+ *    hikaricp.* (tag pool=replica-N) y en /actuator/health (readReplicas)
+ *
+ * Propiedades:
+ *  - db.replicas.urls: URLs JDBC de las réplicas, separadas por comas
+ *  - db.replicas.username / db.replicas.password: por defecto, las del primario
+ *  - db.replicas.pool-size: conexiones por réplica (por defecto, el máximo del pool Hikari)
+ *  - db.replicas.connection-timeout-ms: espera máxima por una conexión de réplica
+ *  - db.replicas.max-lag-ms: retraso a partir del cual se deja de leer de una réplica
+ *  - db.replicas.check-interval-ms: frecuencia de comprobación del retraso
+ *  - db.replicas.sticky-ms: tras una escritura, lecturas del mismo usuario al primario
+ *
+ * Sin db.replicas.urls no se registra nada: todo va al primario, como siempre.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.replicas.urls")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        return new ReplicaRoutingPostProcessor(environment);
+    }
+
+    /**
+     * Métricas hikaricp.* de cada pool de réplica, como las del primario.
+     */
+    @Bean
+    public MeterBinder replicaPoolMetrics(DataSource dataSource) {
+        ReplicaRoutingDataSource routing = routing(dataSource);
+        return registry -> routing.replicas().forEach(replica -> {
+            HikariDataSource pool = replica.pool();
+            if (pool.getMetricsTrackerFactory() == null && pool.getMetricRegistry() == null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        });
+    }
+
+    /**
+     * Estado de cada réplica: retraso y conexiones de su pool.
+     * Una réplica retirada da UNKNOWN y no DOWN: las lecturas pasan al primario y
+     * la instancia sigue sirviendo, así que no debe salir del balanceador.
+     */
+    @Bean
+    public HealthIndicator readReplicasHealthIndicator(DataSource dataSource) {
+        ReplicaRoutingDataSource routing = routing(dataSource);
+        return () -> {
+            boolean allAvailable = true;
+            Map<String, Object> details = new LinkedHashMap<>();
+            for (ReplicaDataSource replica : routing.replicas()) {
+                allAvailable &= replica.isAvailable();
+                HikariPoolMXBean pool = replica.pool().getHikariPoolMXBean();
+                Map<String, Object> replicaDetails = new LinkedHashMap<>();
+                replicaDetails.put("available", replica.isAvailable());
+                replicaDetails.put("lagMs", replica.lagMillis());
+                if (pool != null) {
+                    replicaDetails.put("activeConnections", pool.getActiveConnections());
+                    replicaDetails.put("idleConnections", pool.getIdleConnections());
+                    replicaDetails.put("pendingThreads", pool.getThreadsAwaitingConnection());
+                }
+                details.put(replica.name(), replicaDetails);
+            }
+            return (allAvailable ? Health.up() : Health.unknown()).withDetails(details).build();
+        };
+    }
+
+    private static ReplicaRoutingDataSource routing(DataSource dataSource) {
+        try {
+            // El bean "dataSource" es el LazyConnectionDataSourceProxy del post-processor
+            return dataSource.unwrap(ReplicaRoutingDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("El DataSource no pasa por ReplicaRoutingDataSource", e);
+        }
+    }
+
+    /**
+     * Envuelve el bean "dataSource". Se aplica después del limitador de hilos virtuales,
+     * así el primario queda limitado y cada réplica recibe su propio limitador.
+     */
+    private static final class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+        private final Environment environment;
+
+        private ReplicaRoutingDataSource routing;
+
+        private ReplicaRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary) || routing != null) {
+                return bean;
+            }
+
+            String[] urls = environment.getRequiredProperty("db.replicas.urls", String[].class);
+            List<ReplicaDataSource> replicas = new ArrayList<>();
+            for (int i = 0; i < urls.length; i++) {
+                replicas.add(replica("replica-" + i, urls[i].trim()));
+            }
+
+            long maxLagMillis = environment.getProperty("db.replicas.max-lag-ms", Long.class, 1_000L);
+            long stickyMillis = environment.getProperty("db.replicas.sticky-ms", Long.class, 5_000L);
+            long checkMillis = environment.getProperty("db.replicas.check-interval-ms", Long.class, 1_000L);
+            routing = new ReplicaRoutingDataSource(primary, replicas, maxLagMillis, stickyMillis);
+            routing.startChecks(checkMillis);
+
+            // Conexión física diferida hasta la primera sentencia (ya con readOnly fijado)
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+            proxy.setDefaultAutoCommit(true);
+            proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+            logger.info("Réplicas de lectura activas: {} (retraso máximo {} ms, stickiness {} ms)",
+                    urls.length, maxLagMillis, stickyMillis);
+            return proxy;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void destroy() {
+            if (routing != null) {
+                routing.close();
+            }
+        }
+
+        private ReplicaDataSource replica(String name, String url) {
+            int poolSize = environment.getProperty("db.replicas.pool-size", Integer.class,
+                    environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(url);
+            config.setUsername(environment.getProperty("db.replicas.username",
+                    environment.getProperty("spring.datasource.username")));
+            config.setPassword(environment.getProperty("db.replicas.password",
+                    environment.getProperty("spring.datasource.password")));
+            config.setMaximumPoolSize(poolSize);
+            long connectionTimeoutMillis = environment.getProperty("db.replicas.connection-timeout-ms", Long.class, 2_000L);
+            config.setConnectionTimeout(connectionTimeoutMillis);
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1); // Una réplica caída no impide arrancar
+            config.addDataSourceProperty("ApplicationName", name);
+            HikariDataSource pool = new HikariDataSource(config);
+
+            if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                // Misma espera máxima que el pool: al agotarse, la lectura pasa al primario
+                return new ReplicaDataSource(name, pool,
+                        new ConnectionLimitingDataSource(pool, poolSize, connectionTimeoutMillis));
+            }
+            return new ReplicaDataSource(name, pool);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Réplica de lectura de PostgreSQL con su propio pool y su estado de salud.
+ *
+ * Función:
+ *  - check() mide el retraso de replicación: la réplica solo recibe lecturas si
+ *    responde y su retraso no supera el máximo configurado
+ *  - markDown() la retira en cuanto falla una conexión, sin esperar al siguiente check
+ *
+ * Buenas prácticas:
+ *  - Pool Hikari propio, de solo lectura y con connection-timeout corto: si la réplica
+ *    cae, la lectura pasa al primario enseguida
+ *  - Empieza como no disponible hasta que el primer check confirma su retraso
+ */
+public class ReplicaDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    // Retraso en ms; 0 si ya aplicó todo el WAL recibido (sin escrituras recientes
+    // pg_last_xact_replay_timestamp() se queda atrás aunque la réplica esté al día).
+    // -1 si no está recibiendo WAL: con el receptor desconectado lo recibido coincide
+    // con lo aplicado y parecería al día. El status de pg_stat_wal_receiver solo es
+    // visible con pg_read_all_stats (o pg_monitor); sin él la réplica no se usa
+    private static final String LAG_QUERY = "select case"
+            + " when not pg_is_in_recovery() then 0"
+            + " when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then -1"
+            + " when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+            + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)"
+            + " end";
+
+    private final String name;
+
+    private final HikariDataSource pool;
+
+    // El pool o, con hilos virtuales, el pool detrás de un ConnectionLimitingDataSource
+    private final DataSource connections;
+
+    private volatile boolean available;
+
+    private volatile long lagMillis = -1;
+
+    public ReplicaDataSource(String name, HikariDataSource pool) {
+        this(name, pool, pool);
+    }
+
+    public ReplicaDataSource(String name, HikariDataSource pool, DataSource connections) {
+        this.name = name;
+        this.pool = pool;
+        this.connections = connections;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Último retraso medido en ms, o -1 si la réplica no respondió o no recibe WAL.
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    DataSource dataSource() {
+        return connections;
+    }
+
+    Connection getConnection() throws SQLException {
+        return connections.getConnection();
+    }
+
+    /**
+     * Pool Hikari de la réplica, para sus métricas y su health check.
+     */
+    HikariDataSource pool() {
+        return pool;
+    }
+
+    /**
+     * Mide el retraso y actualiza la disponibilidad.
+     */
+    void check(long maxLagMillis) {
+        boolean wasAvailable = available;
+        String reason;
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            lagMillis = rs.getLong(1);
+            available = lagMillis >= 0 && lagMillis <= maxLagMillis;
+            reason = lagMillis < 0
+                    ? "no recibe WAL del primario"
+                    : "retraso de " + lagMillis + " ms (máximo " + maxLagMillis + " ms)";
+        } catch (SQLException e) {
+            lagMillis = -1;
+            available = false;
+            reason = "no responde";
+        }
+
+        if (wasAvailable && !available) {
+            logger.warn("Réplica '{}' retirada: {}", name, reason);
+        } else if (!wasAvailable && available) {
+            logger.info("Réplica '{}' disponible (retraso {} ms)", name, lagMillis);
+        }
+    }
+
+    /**
+     * Retira la réplica tras un fallo al pedir conexión; el siguiente check la recupera.
+     */
+    void markDown(SQLException cause) {
+        if (available) {
+            available = false;
+            logger.warn("Réplica '{}' retirada: {}", name, cause.getMessage());
+        }
+    }
+
+    void close() {
+        pool.close();
+    }
+}
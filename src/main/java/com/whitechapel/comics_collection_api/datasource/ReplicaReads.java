@@ -0,0 +1,24 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un controller (o un método) cuyas lecturas pueden servirse desde una réplica.
+ *
+ * Función:
+ *  - Con réplicas configuradas (db.replicas.urls), las requests GET/HEAD atendidas por
+ *    un handler marcado leen de una réplica; el resto de requests usan el primario
+ *
+ * Buenas prácticas:
+ *  - Solo en controllers cuyos GET no escriben en la base de datos
+ *  - Las transacciones de escritura van al primario aunque la request sea GET
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReplicaReads {
+}
@@ -0,0 +1,229 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que reparte las lecturas entre réplicas y deja las escrituras en el primario.
+ *
+ * Función:
+ *  - Réplica: requests GET/HEAD cuyo handler lleva {@link ReplicaReads}, fuera de
+ *    transacción o en transacción readOnly. Todo lo demás (escrituras, arranque,
+ *    Flyway, jobs, listeners) usa el primario
+ *  - Read-your-writes: tras una request que modifica datos, las lecturas del mismo
+ *    usuario van al primario durante db.replicas.sticky-ms
+ *  - Fallback: réplicas caídas o con retraso por encima de db.replicas.max-lag-ms
+ *    se saltan; sin réplicas disponibles se lee del primario
+ *
+ * Buenas prácticas:
+ *  - Debe ir detrás de un LazyConnectionDataSourceProxy: la conexión física se pide
+ *    en la primera sentencia, cuando la transacción ya está marcada como readOnly
+ *  - Reparto round-robin entre las réplicas disponibles
+ *  - Con open-in-view la conexión elegida se mantiene el resto de la request
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    private final List<ReplicaDataSource> replicas;
+
+    private final long maxLagMillis;
+
+    private final long stickyMillis;
+
+    // usuario -> instante hasta el que sus lecturas van al primario
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ScheduledExecutorService checker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas,
+                                    long maxLagMillis, long stickyMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.stickyMillis = stickyMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaDataSource replica : this.replicas) {
+            targets.put(replica.name(), replica.dataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaDataSource replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e); // Esta lectura (y las siguientes) al primario
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Credenciales explícitas: solo tienen sentido contra el primario
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReplicaDataSource replica = selectReplica();
+        return replica != null ? replica.name() : PRIMARY;
+    }
+
+    public List<ReplicaDataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Comprueba el retraso de cada réplica y purga las marcas de stickiness caducadas.
+     */
+    public void checkReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            replica.check(maxLagMillis);
+        }
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    /**
+     * Lanza checkReplicas() en segundo plano cada intervalMillis (el primero, inmediato).
+     */
+    public void startChecks(long intervalMillis) {
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        replicas.forEach(ReplicaDataSource::close);
+    }
+
+    // ------------------------
+    // Decisión de enrutado
+    // ------------------------
+
+    private ReplicaDataSource selectReplica() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null; // Fuera de una request: arranque, jobs, listeners
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        String user = currentUser();
+
+        if (!isReadMethod(request.getMethod())) {
+            stick(user);
+            return null;
+        }
+        if (!isReplicaHandler(request) || isWriteTransaction() || isSticky(user)) {
+            return null;
+        }
+        return nextAvailable();
+    }
+
+    private ReplicaDataSource nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isReadMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    private static boolean isReplicaHandler(HttpServletRequest request) {
+        // Lo fija el HandlerMapping antes de ejecutar interceptores y controller
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                && (handler.hasMethodAnnotation(ReplicaReads.class)
+                || AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), ReplicaReads.class));
+    }
+
+    private static boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // ------------------------
+    // Read-your-writes
+    // ------------------------
+
+    private boolean isSticky(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private void stick(String user) {
+        if (user == null) {
+            return;
+        }
+        stickyUntil.put(user, System.currentTimeMillis() + stickyMillis);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // La ventana cuenta desde el commit, no desde la primera sentencia
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    stickyUntil.put(user, System.currentTimeMillis() + stickyMillis);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Modo de ejecución con hilos virtuales.
+ *
+ * Función:
+ *  - Con spring.threads.virtual.enabled=true Spring Boot atiende cada request de Tomcat
+ *    en un hilo virtual (y usa hilos virtuales para @Async y tareas programadas)
+ *  - Esta configuración añade, solo en ese modo, el limitador de conexiones
+ *    {@link ConnectionLimitingDataSource} alrededor del DataSource
+ *
+ * Propiedades:
+ *  - db.limiter.permits: conexiones simultáneas (por defecto, el máximo del pool Hikari)
+ *  - db.limiter.acquire-timeout-ms: espera máxima por un permiso (2 s por defecto);
+ *    al agotarse, GlobalExceptionHandler responde 503 con Retry-After
+ *
+ * Con el modo de hilos de plataforma (por defecto) no se registra nada: el pool de
+ * hilos de Tomcat ya limita la concurrencia.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public static BeanPostProcessor connectionLimiterPostProcessor(Environment environment) {
+        int permits = environment.getProperty("db.limiter.permits", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long timeoutMillis = environment.getProperty("db.limiter.acquire-timeout-ms", Long.class, 2_000L);
+
+        return new ConnectionLimiterPostProcessor(permits, timeoutMillis);
+    }
+
+    /**
+     * PriorityOrdered: limita el DataSource de Hikari antes de que otros post-processors
+     * lo envuelvan (p. ej. el enrutado a réplicas de {@link ReadReplicaConfig}).
+     */
+    private static final class ConnectionLimiterPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final int permits;
+
+        private final long timeoutMillis;
+
+        private ConnectionLimiterPostProcessor(int permits, long timeoutMillis) {
+            this.permits = permits;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                logger.info("Hilos virtuales activos: DataSource '{}' limitado a {} conexiones simultáneas",
+                        beanName, permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, timeoutMillis);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
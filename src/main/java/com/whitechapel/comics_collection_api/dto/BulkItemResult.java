@@ -0,0 +1,26 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado de una operación por lotes para un id concreto.
+ *
+ * @param status  código HTTP equivalente para ese elemento (200, 404...)
+ * @param value   recurso devuelto (solo en lecturas)
+ * @param message motivo cuando el elemento no se pudo procesar
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult<T>(Long id, int status, T value, String message) {
+
+    public static <T> BulkItemResult<T> ok(Long id, T value) {
+        return new BulkItemResult<>(id, 200, value, null);
+    }
+
+    public static <T> BulkItemResult<T> ok(Long id) {
+        return new BulkItemResult<>(id, 200, null, null);
+    }
+
+    public static <T> BulkItemResult<T> notFound(Long id) {
+        return new BulkItemResult<>(id, 404, null, "Comic not found");
+    }
+}
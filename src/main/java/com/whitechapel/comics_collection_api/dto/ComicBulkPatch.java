@@ -0,0 +1,28 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cambios aplicados a la vez a varios cómics (PATCH /api/comics).
+ *
+ * Los campos a null no se modifican. Solo se admiten los campos de
+ * "estado en la colección", que son los que se editan en lote.
+ */
+public record ComicBulkPatch(
+        @NotEmpty(message = "ids is required") List<Long> ids,
+        Boolean owned,
+        String condition,
+        @Positive(message = "Purchase price must be positive") Double purchasePrice,
+        @PastOrPresent(message = "Purchase date must be in the past or present") LocalDate purchaseDate,
+        String notes) {
+
+    public boolean hasChanges() {
+        return owned != null || condition != null || purchasePrice != null
+                || purchaseDate != null || notes != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.whitechapel.comics_collection_api.dto;
+
+/**
+ * Fila de la tabla comic_creators con el nombre del creador.
+ * Permite cargar los creadores de toda una página de cómics en una sola consulta.
+ */
+public record ComicCreatorRef(Long comicId, Long creatorId, String creatorName) {
+
+    public EntityRef toRef() {
+        return new EntityRef(creatorId, creatorName);
+    }
+}
@@ -0,0 +1,71 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Vista de solo lectura de un cómic para las respuestas de la API.
+ *
+ * Función:
+ *  - Incluye series, publisher y creadores como referencias (id + nombre)
+ *  - No expone las colecciones inversas (Series.comics, Creator.comics, ...)
+ *
+ * Buenas prácticas:
+ *  - Se construye desde consultas con proyección (constructor JPQL) y no desde
+ *    entidades gestionadas: el número de sentencias SQL por página es constante
+ *  - JSON escrito por {@link ComicViewSerializer} (campos precalculados, sin reflexión)
+ */
+@JsonSerialize(using = ComicViewSerializer.class)
+public record ComicView(Long id,
+                        String title,
+                        Integer issueNumber,
+                        Integer year,
+                        String variant,
+                        EntityRef series,
+                        EntityRef publisher,
+                        List<EntityRef> creators,
+                        boolean owned,
+                        String condition,
+                        Double purchasePrice,
+                        LocalDate purchaseDate,
+                        String notes,
+                        String coverImageUrl) {
+
+    /**
+     * Constructor plano usado por las consultas "select new ComicView(...)".
+     * Los creadores se añaden después con {@link #withCreators(List)}.
+     */
+    public ComicView(Long id, String title, Integer issueNumber, Integer year, String variant,
+                     Long seriesId, String seriesTitle, Long publisherId, String publisherName,
+                     boolean owned, String condition, Double purchasePrice, LocalDate purchaseDate,
+                     String notes, String coverImageUrl) {
+        this(id, title, issueNumber, year, variant,
+                EntityRef.of(seriesId, seriesTitle), EntityRef.of(publisherId, publisherName), List.of(),
+                owned, condition, purchasePrice, purchaseDate, notes, coverImageUrl);
+    }
+
+    /**
+     * Construye la vista desde una entidad cuyas relaciones ToOne ya están cargadas.
+     */
+    public static ComicView of(Comic comic, List<EntityRef> creators) {
+        Publisher publisher = comic.getPublisher();
+        return new ComicView(comic.getId(), comic.getTitle(), comic.getIssueNumber(), comic.getYear(),
+                comic.getVariant(),
+                EntityRef.of(comic.getSeries().getId(), comic.getSeries().getTitle()),
+                publisher != null ? EntityRef.of(publisher.getId(), publisher.getName()) : null,
+                creators, comic.isOwned(), comic.getCondition(), comic.getPurchasePrice(),
+                comic.getPurchaseDate(), comic.getNotes(), comic.getCoverImageUrl());
+    }
+
+    /**
+     * Copia de la vista con la lista de creadores indicada.
+     */
+    public ComicView withCreators(List<EntityRef> creators) {
+        return new ComicView(id, title, issueNumber, year, variant, series, publisher, List.copyOf(creators),
+                owned, condition, purchasePrice, purchaseDate, notes, coverImageUrl);
+    }
+}
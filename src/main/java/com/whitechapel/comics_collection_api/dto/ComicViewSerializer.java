@@ -0,0 +1,70 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.ID;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.date;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.name;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.number;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.ref;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.refs;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.string;
+
+/**
+ * Serializador de {@link ComicView}, la fila de GET /api/comics, /scroll y ?ids=.
+ *
+ * Función:
+ *  - Escribe los campos en orden fijo con nombres precalculados: sin introspección
+ *    de propiedades ni llamadas por reflexión a los accesores del record
+ *  - Series, publisher y creadores se escriben en línea, sin buscar un serializador
+ *    para EntityRef ni para la lista
+ *
+ * Buenas prácticas:
+ *  - Misma salida que la serialización por defecto del record (nombres, orden, null
+ *    incluidos); ViewSerializerTests lo comprueba
+ *  - Al añadir un componente a ComicView hay que escribirlo también aquí
+ */
+public class ComicViewSerializer extends StdSerializer<ComicView> {
+
+    private static final SerializableString TITLE = name("title");
+    private static final SerializableString ISSUE_NUMBER = name("issueNumber");
+    private static final SerializableString YEAR = name("year");
+    private static final SerializableString VARIANT = name("variant");
+    private static final SerializableString SERIES = name("series");
+    private static final SerializableString PUBLISHER = name("publisher");
+    private static final SerializableString CREATORS = name("creators");
+    private static final SerializableString OWNED = name("owned");
+    private static final SerializableString CONDITION = name("condition");
+    private static final SerializableString PURCHASE_PRICE = name("purchasePrice");
+    private static final SerializableString PURCHASE_DATE = name("purchaseDate");
+    private static final SerializableString NOTES = name("notes");
+    private static final SerializableString COVER_IMAGE_URL = name("coverImageUrl");
+
+    public ComicViewSerializer() {
+        super(ComicView.class);
+    }
+
+    @Override
+    public void serialize(ComicView comic, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(comic);
+        number(gen, ID, comic.id());
+        string(gen, TITLE, comic.title());
+        number(gen, ISSUE_NUMBER, comic.issueNumber());
+        number(gen, YEAR, comic.year());
+        string(gen, VARIANT, comic.variant());
+        ref(gen, SERIES, comic.series());
+        ref(gen, PUBLISHER, comic.publisher());
+        refs(gen, CREATORS, comic.creators());
+        gen.writeName(OWNED);
+        gen.writeBoolean(comic.owned());
+        string(gen, CONDITION, comic.condition());
+        number(gen, PURCHASE_PRICE, comic.purchasePrice());
+        date(gen, PURCHASE_DATE, comic.purchaseDate());
+        string(gen, NOTES, comic.notes());
+        string(gen, COVER_IMAGE_URL, comic.coverImageUrl());
+        gen.writeEndObject();
+    }
+}
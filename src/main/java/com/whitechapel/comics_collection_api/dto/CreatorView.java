@@ -0,0 +1,7 @@
+package com.whitechapel.comics_collection_api.dto;
+
+/**
+ * Vista de solo lectura de un creador para los listados de la API.
+ */
+public record CreatorView(Long id, String name) {
+}
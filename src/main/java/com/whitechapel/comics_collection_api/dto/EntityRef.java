@@ -0,0 +1,15 @@
+package com.whitechapel.comics_collection_api.dto;
+
+/**
+ * Referencia ligera a otra entidad (id + nombre o título).
+ * Se usa dentro de las vistas para no serializar el grafo de entidades completo.
+ */
+public record EntityRef(Long id, String name) {
+
+    /**
+     * Crea la referencia, o null si no hay entidad relacionada (p. ej. LEFT JOIN sin fila).
+     */
+    public static EntityRef of(Long id, String name) {
+        return id != null ? new EntityRef(id, name) : null;
+    }
+}
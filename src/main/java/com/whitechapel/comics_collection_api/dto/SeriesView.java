@@ -0,0 +1,28 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import com.whitechapel.comics_collection_api.entity.Series;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Vista de solo lectura de una serie para las respuestas de la API.
+ * El publisher se expone como referencia (id + nombre) y no se incluyen sus cómics.
+ * El JSON lo escribe {@link SeriesViewSerializer}.
+ */
+@JsonSerialize(using = SeriesViewSerializer.class)
+public record SeriesView(Long id, String title, int numbers, EntityRef publisher) {
+
+    /**
+     * Constructor plano usado por las consultas "select new SeriesView(...)".
+     */
+    public SeriesView(Long id, String title, int numbers, Long publisherId, String publisherName) {
+        this(id, title, numbers, EntityRef.of(publisherId, publisherName));
+    }
+
+    /**
+     * Construye la vista desde una entidad cuyo publisher ya está cargado.
+     */
+    public static SeriesView of(Series series) {
+        return new SeriesView(series.getId(), series.getTitle(), series.getNumbers(),
+                series.getPublisher().getId(), series.getPublisher().getName());
+    }
+}
@@ -0,0 +1,39 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.ID;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.name;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.number;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.ref;
+import static com.whitechapel.comics_collection_api.dto.ViewJsonFields.string;
+
+/**
+ * Serializador de {@link SeriesView} (GET /api/series y /api/series/stream).
+ * Mismo planteamiento que {@link ComicViewSerializer}: nombres precalculados y
+ * el publisher escrito en línea.
+ */
+public class SeriesViewSerializer extends StdSerializer<SeriesView> {
+
+    private static final SerializableString TITLE = name("title");
+    private static final SerializableString NUMBERS = name("numbers");
+    private static final SerializableString PUBLISHER = name("publisher");
+
+    public SeriesViewSerializer() {
+        super(SeriesView.class);
+    }
+
+    @Override
+    public void serialize(SeriesView series, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(series);
+        number(gen, ID, series.id());
+        string(gen, TITLE, series.title());
+        gen.writeName(NUMBERS);
+        gen.writeNumber(series.numbers());
+        ref(gen, PUBLISHER, series.publisher());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,84 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+/**
+ * Huella de versión de un recurso para peticiones condicionales (ETag / Last-Modified).
+ *
+ * Función:
+ *  - Se obtiene con una consulta de columnas sueltas (version, lastModified),
+ *    sin cargar la entidad ni su grafo
+ *  - El ETag es fuerte: cambia con cualquier cambio de la representación,
+ *    incluidas las entidades relacionadas que aparecen en la vista
+ *
+ * Las colecciones no tienen lastModified: un DELETE no mueve max(lastModified),
+ * así que solo se validan por ETag (count, suma de ids y suma de versiones).
+ *
+ * @param etag         ETag entre comillas, listo para la cabecera
+ * @param lastModified última modificación, o null si no aplica
+ */
+public record VersionStamp(String etag, Instant lastModified) {
+
+    /**
+     * Entidad sin relaciones en su representación (Publisher, Creator).
+     */
+    public VersionStamp(Long version, Instant lastModified) {
+        this(tag(version), lastModified);
+    }
+
+    /**
+     * Entidad cuya vista incluye otras entidades (Comic, Series).
+     *
+     * @param dependencyVersions suma de las versiones de las entidades relacionadas;
+     *                           solo crece mientras la propia entidad no cambie de relaciones
+     */
+    public VersionStamp(Long version, Long dependencyVersions, Instant lastModified, Instant dependenciesLastModified) {
+        this(tag(version, dependencyVersions), latest(lastModified, dependenciesLastModified));
+    }
+
+    /**
+     * Colección completa de una entidad, a partir de agregados.
+     */
+    public VersionStamp(Long count, Long idSum, Long versionSum) {
+        this(tag(count, idSum, versionSum), null);
+    }
+
+    /**
+     * Combina dos huellas (p. ej. una página de cómics y las series que muestra).
+     */
+    public VersionStamp combine(VersionStamp other) {
+        return new VersionStamp(tag(mix(etag), mix(other.etag)), latest(lastModified, other.lastModified));
+    }
+
+    /**
+     * Comprueba If-None-Match / If-Modified-Since. Si el cliente ya tiene esta versión
+     * prepara la respuesta 304 y devuelve true; en ambos casos añade ETag (y Last-Modified).
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return lastModified != null
+                ? request.checkNotModified(etag, lastModified.toEpochMilli())
+                : request.checkNotModified(etag);
+    }
+
+    private static String tag(Long... components) {
+        long hash = 0xcbf29ce484222325L;
+        for (Long component : components) {
+            hash = (hash ^ (component != null ? component : -1L)) * 0x100000001b3L;
+            hash ^= hash >>> 29;
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long mix(String etag) {
+        return Long.parseUnsignedLong(etag.substring(1, etag.length() - 1), 16);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,101 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Escritura de campos comunes a los serializadores de vistas ({@link ComicViewSerializer},
+ * {@link SeriesViewSerializer}).
+ *
+ * Los nombres de campo son SerializedString: se codifican una sola vez y el generador
+ * copia sus bytes directamente. Los null se escriben como null, igual que la
+ * serialización por defecto.
+ */
+final class ViewJsonFields {
+
+    static final SerializableString ID = new SerializedString("id");
+    static final SerializableString NAME = new SerializedString("name");
+
+    private ViewJsonFields() {
+    }
+
+    static SerializableString name(String name) {
+        return new SerializedString(name);
+    }
+
+    static void number(JsonGenerator gen, SerializableString name, Long value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void number(JsonGenerator gen, SerializableString name, Integer value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    static void number(JsonGenerator gen, SerializableString name, Double value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+
+    static void string(JsonGenerator gen, SerializableString name, String value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Fecha ISO-8601 (yyyy-MM-dd), el formato por defecto de Jackson para LocalDate.
+     */
+    static void date(JsonGenerator gen, SerializableString name, LocalDate value) {
+        string(gen, name, value != null ? value.toString() : null);
+    }
+
+    static void ref(JsonGenerator gen, SerializableString name, EntityRef ref) {
+        gen.writeName(name);
+        writeRef(gen, ref);
+    }
+
+    static void refs(JsonGenerator gen, SerializableString name, List<EntityRef> refs) {
+        gen.writeName(name);
+        if (refs == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(refs, refs.size());
+        for (EntityRef ref : refs) {
+            writeRef(gen, ref);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeRef(JsonGenerator gen, EntityRef ref) {
+        if (ref == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(ref);
+        number(gen, ID, ref.id());
+        string(gen, NAME, ref.name());
+        gen.writeEndObject();
+    }
+}
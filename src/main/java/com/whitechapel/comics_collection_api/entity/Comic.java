@@ -8,12 +8,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@DynamicUpdate // UPDATE solo con las columnas modificadas
 @Table(name = "comic")
 @Data
 @NoArgsConstructor
@@ -21,10 +26,23 @@ import java.util.Set;
 @Builder
 public class Comic {
 
+    // Secuencia con asignación por bloques (pooled): permite a Hibernate agrupar
+    // los INSERT en lotes JDBC, cosa imposible con IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comic_seq")
+    @SequenceGenerator(name = "comic_seq", sequenceName = "comic_seq", allocationSize = 50)
     private Long id;
 
+    // Versión para control optimista y ETags (solo lectura en JSON)
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    // Última modificación, para la cabecera Last-Modified (solo lectura en JSON)
+    @UpdateTimestamp
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;           // e.g., "Amazing Fantasy #15"
@@ -39,7 +57,8 @@ public class Comic {
 
     private String variant;         // "Standard", "Variant A"
 
-    @ManyToOne
+    // LAZY: las vistas de lectura cargan el publisher con JOIN explícito
+    @ManyToOne(fetch = FetchType.LAZY)
     private Publisher publisher;
 
     // ------------------------
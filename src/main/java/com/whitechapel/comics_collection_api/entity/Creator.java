@@ -1,20 +1,34 @@
 package com.whitechapel.comics_collection_api.entity;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Entity que representa un creador de cómics (autor, ilustrador, etc.)
  * Se relaciona con los cómics que ha creado mediante una relación ManyToMany.
+ * Se guarda en la caché de segundo nivel (dato de referencia que cambia poco).
  */
 @Entity
+@DynamicUpdate // UPDATE solo con las columnas modificadas
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CREATOR_REGION)
 @Table(name = "creator") // Nombre explícito de la tabla en la base de datos
 @Data // Lombok: genera getters, setters, toString, equals, hashCode
 @NoArgsConstructor // Lombok: constructor vacío necesario para JPA
@@ -30,6 +44,21 @@ public class Creator {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Versión para control optimista y ETags; Hibernate la incrementa en cada UPDATE.
+     * Solo lectura en JSON: el cliente no puede fijarla.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Fecha de la última modificación (cabecera Last-Modified).
+     */
+    @UpdateTimestamp
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     /**
      * Nombre del creador.
      * Obligatorio (no puede ser nulo ni vacío).
@@ -42,7 +71,11 @@ public class Creator {
      * Relación ManyToMany inversa con los cómics que ha creado.
      * La tabla intermedia es 'comic_creators' definida en Comic.java.
      * Se usa Set para evitar duplicados.
+     * Excluida de JSON, toString, equals y hashCode para no recorrer el grafo completo.
      */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(mappedBy = "creators")
     private Set<Comic> comics = new HashSet<>();
 }
@@ -1,12 +1,22 @@
 package com.whitechapel.comics_collection_api.entity;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -19,9 +29,13 @@ import java.util.Set;
  *  - Lombok: @Data, @NoArgsConstructor, @AllArgsConstructor, @Builder
  *  - Validaciones en campos obligatorios
  *  - Relación OneToMany con Comic
+ *  - Caché de segundo nivel: se lee en casi todas las operaciones y cambia poco
  *  - Comentarios explicativos para aprendizaje
  */
 @Entity
+@DynamicUpdate // UPDATE solo con las columnas modificadas
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PUBLISHER_REGION)
 @Table(name = "publisher") // Nombre explícito de la tabla en DB
 @Data
 @NoArgsConstructor
@@ -37,6 +51,21 @@ public class Publisher {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Versión para control optimista y ETags; Hibernate la incrementa en cada UPDATE.
+     * Solo lectura en JSON: el cliente no puede fijarla.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Fecha de la última modificación (cabecera Last-Modified).
+     */
+    @UpdateTimestamp
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     /**
      * Nombre de la editorial.
      * Obligatorio y único para evitar duplicados.
@@ -51,7 +80,11 @@ public class Publisher {
      * mappedBy indica que la columna 'publisher' está en la entidad Comic.
      * cascade = ALL permite que operaciones en Publisher se propaguen a sus cómics.
      * orphanRemoval = true elimina automáticamente los cómics que se quiten de la colección.
+     * Excluida de JSON, toString, equals y hashCode para no recorrer el grafo completo.
      */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "publisher", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Comic> comics = new HashSet<>();
 }
@@ -0,0 +1,37 @@
+package com.whitechapel.comics_collection_api.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Token JWT revocado antes de su expiración (logout).
+ *
+ * Se consulta al arrancar para reconstruir el registro en memoria y después
+ * periódicamente (revoked_at) para incorporar las revocaciones de otras instancias;
+ * las filas se borran cuando el token habría expirado de todas formas.
+ */
+@Entity
+@Table(name = "revoked_token") // Índice sobre expires_at en db/migration
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    // Claim "jti" del token
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -1,13 +1,21 @@
 package com.whitechapel.comics_collection_api.entity;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ROLE_REGION)
 @Table(name = "role")
 @Data
 @NoArgsConstructor
@@ -21,7 +29,10 @@ public class Role {
     @Column(unique = true, nullable = false)
     private String name; // Ejemplo: ROLE_USER, ROLE_ADMIN
 
-    // Relación inversa opcional con User
+    // Relación inversa opcional con User (excluida de JSON, toString, equals y hashCode)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(mappedBy = "roles")
     private Set<User> users;
 }
@@ -7,7 +7,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -23,6 +30,7 @@ import java.util.Set;
  *  - Comentarios educativos
  */
 @Entity
+@DynamicUpdate // UPDATE solo con las columnas modificadas
 @Table(name = "series") // Nombre explícito de la tabla
 @Data
 @NoArgsConstructor
@@ -38,6 +46,21 @@ public class Series {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Versión para control optimista y ETags; Hibernate la incrementa en cada UPDATE.
+     * Solo lectura en JSON: el cliente no puede fijarla.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Fecha de la última modificación (cabecera Last-Modified).
+     */
+    @UpdateTimestamp
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     /**
      * Título de la serie, obligatorio.
      */
@@ -68,7 +91,11 @@ public class Series {
      * Una serie puede contener muchos comics.
      * mappedBy indica que la columna 'series' está en la entidad Comic.
      * cascade y orphanRemoval se podrían añadir según necesidad.
+     * Excluida de JSON, toString, equals y hashCode para no recorrer el grafo completo.
      */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "series", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Comic> comics = new HashSet<>();
 }
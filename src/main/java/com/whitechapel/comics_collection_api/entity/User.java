@@ -1,6 +1,9 @@
 package com.whitechapel.comics_collection_api.entity;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -32,6 +35,8 @@ public class User implements UserDetails {
     private String password;  // Asegúrate de hashear con BCrypt al guardar
 
     // Roles de usuario (opcional, útil para permisos)
+    // Colección en caché de segundo nivel: los Role salen de su propia región
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_ROLES_REGION)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "user_roles",
@@ -40,6 +45,13 @@ public class User implements UserDetails {
     )
     private Set<Role> roles;
 
+    // Versión de los tokens emitidos: al incrementarla se invalidan todos
+    // los JWT anteriores del usuario (logout global, cambio de roles o password).
+    // Un cambio de roles la incrementa en el mismo flush (RoleChangeInterceptor)
+    @JsonIgnore
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+
     // ------------------------
     // Implementación de UserDetails
     // ------------------------
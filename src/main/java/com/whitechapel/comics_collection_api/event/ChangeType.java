@@ -0,0 +1,10 @@
+package com.whitechapel.comics_collection_api.event;
+
+/**
+ * Tipo de cambio confirmado sobre una entidad.
+ */
+public enum ChangeType {
+    INSERT,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,13 @@
+package com.whitechapel.comics_collection_api.event;
+
+/**
+ * Columnas de un cómic de las que dependen las estructuras derivadas
+ * (contadores por publisher e índice de números en propiedad).
+ *
+ * Quien ejecuta una operación masiva las lee antes de modificar las filas y las
+ * envía en {@link EntitiesBulkChangedEvent}: los consumidores restan su aportación
+ * en lugar de recalcularlo todo.
+ */
+public record ComicState(Long id, Long seriesId, Long publisherId, Integer issueNumber,
+                         boolean owned, Double purchasePrice) {
+}
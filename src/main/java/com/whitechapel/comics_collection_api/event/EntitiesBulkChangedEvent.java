@@ -0,0 +1,34 @@
+package com.whitechapel.comics_collection_api.event;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evento de aplicación para operaciones masivas (JPQL/SQL "update/delete ... where").
+ *
+ * Esas sentencias no pasan por los listeners de Hibernate, así que no generan
+ * EntityChangedEvent: quien las ejecuta publica este evento dentro de la transacción
+ * y los consumidores lo reciben con @TransactionalEventListener (después del commit).
+ *
+ * @param ids ids afectados (en UPDATE, el estado nuevo debe releerse de la base de datos)
+ * @param previousComics estado anterior de los cómics afectados (solo para Comic); vacío
+ *                       si no se conoce, y entonces los consumidores recalculan todo
+ */
+public record EntitiesBulkChangedEvent(Class<?> entityType, ChangeType type, Set<Long> ids,
+                                       List<ComicState> previousComics) {
+
+    public EntitiesBulkChangedEvent(Class<?> entityType, ChangeType type, Set<Long> ids) {
+        this(entityType, type, ids, List.of());
+    }
+
+    public boolean is(Class<?> type) {
+        return entityType.equals(type);
+    }
+
+    /**
+     * Se conoce el estado anterior de todos los ids afectados.
+     */
+    public boolean hasPreviousState() {
+        return !previousComics.isEmpty() && previousComics.size() == ids.size();
+    }
+}
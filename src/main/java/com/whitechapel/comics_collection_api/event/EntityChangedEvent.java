@@ -0,0 +1,51 @@
+package com.whitechapel.comics_collection_api.event;
+
+import java.util.Map;
+
+/**
+ * Evento de aplicación publicado después del commit de un cambio en una entidad.
+ *
+ * Función:
+ *  - Permite mantener al día estructuras derivadas (índice de búsqueda,
+ *    contadores, etc.) sin acoplarlas a los controllers
+ *  - previousState contiene los valores anteriores al cambio en UPDATE y DELETE
+ *    (vacío si Hibernate no los conoce, p. ej. en INSERT)
+ *
+ * Nota: las relaciones ToOne aparecen en previousState como entidades o proxies;
+ * usar {@link #previousId(String)} para leer solo su id.
+ */
+public record EntityChangedEvent(ChangeType type, Object entity, Object id, Map<String, Object> previousState) {
+
+    public boolean is(Class<?> entityType) {
+        return entityType.isInstance(entity);
+    }
+
+    /**
+     * Indica si se conoce el estado anterior de la entidad.
+     */
+    public boolean hasPreviousState() {
+        return !previousState.isEmpty();
+    }
+
+    public Object previous(String property) {
+        return previousState.get(property);
+    }
+
+    /**
+     * Id de una relación ToOne en el estado anterior, sin inicializar el proxy.
+     */
+    public Long previousId(String property) {
+        Object value = previousState.get(property);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof org.hibernate.proxy.HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        try {
+            return (Long) value.getClass().getMethod("getId").invoke(value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("La propiedad " + property + " no es una entidad con id", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.whitechapel.comics_collection_api.event;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Puente entre los eventos de Hibernate y los eventos de Spring.
+ *
+ * Función:
+ *  - Se registra como listener post-commit de inserts, updates y deletes
+ *  - Publica un EntityChangedEvent por cada entidad cambiada, solo si la
+ *    transacción se confirmó (un rollback no deja rastro en las estructuras derivadas)
+ *  - En updates y deletes incluye el estado anterior, necesario para
+ *    mantener agregados incrementales
+ *
+ * Nota: las operaciones masivas (JPQL/SQL "update ... where", "delete ... where")
+ * no pasan por aquí; quien las ejecute debe notificar el cambio por su cuenta.
+ */
+@Component
+public class HibernateChangeEventBridge implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public HibernateChangeEventBridge(EntityManagerFactory entityManagerFactory,
+                                      ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publisher.publishEvent(new EntityChangedEvent(ChangeType.INSERT, event.getEntity(), event.getId(), Map.of()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publisher.publishEvent(new EntityChangedEvent(ChangeType.UPDATE, event.getEntity(), event.getId(),
+                toMap(event.getPersister(), event.getOldState())));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publisher.publishEvent(new EntityChangedEvent(ChangeType.DELETE, event.getEntity(), event.getId(),
+                toMap(event.getPersister(), event.getDeletedState())));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rollback: no hay nada que propagar
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rollback: no hay nada que propagar
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rollback: no hay nada que propagar
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private static Map<String, Object> toMap(EntityPersister persister, Object[] state) {
+        if (state == null) {
+            return Map.of();
+        }
+        String[] names = persister.getPropertyNames();
+        Map<String, Object> values = new HashMap<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            values.put(names[i], state[i]);
+        }
+        return values;
+    }
+}
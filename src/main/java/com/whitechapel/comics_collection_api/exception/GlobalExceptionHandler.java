@@ -1,12 +1,19 @@
 package com.whitechapel.comics_collection_api.exception;
 
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,6 +53,61 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    /**
+     * Maneja errores de validación de entidades fuera del binding de la request
+     * (por ejemplo, el resultado de aplicar un PATCH). Mismo formato que @Valid.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    /**
+     * Maneja errores lanzados con un status HTTP explícito
+     * (por ejemplo, 400 por un cursor de paginación inválido).
+     *
+     * Sin este handler, el handler genérico los convertiría en 500.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<String> handleResponseStatusException(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                             .headers(ex.getHeaders()) // p. ej. Retry-After en un 429
+                             .body(ex.getReason());
+    }
+
+    /**
+     * Maneja credenciales incorrectas en /auth/login.
+     *
+     * Sin este handler, el handler genérico devolvería 500 en lugar de 401.
+     * El mensaje es el mismo para usuario inexistente y password incorrecto.
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<String> handleAuthenticationException(AuthenticationException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Credenciales incorrectas");
+    }
+
+    /**
+     * Maneja la falta de conexiones a la base de datos: limitador de hilos virtuales
+     * (db.limiter.acquire-timeout-ms) o connection-timeout de Hikari agotados.
+     *
+     * Es una sobrecarga transitoria, no un fallo del servidor: 503 con Retry-After
+     * para que el cliente reintente más tarde en lugar de acumular más peticiones.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<String> handleConnectionUnavailable(Exception ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                     .header(HttpHeaders.RETRY_AFTER, "1")
+                                     .body("Base de datos saturada, reintenta más tarde");
+            }
+        }
+        return handleAllExceptions(ex);
+    }
+
     /**
      * Maneja excepciones generales no controladas.
      *
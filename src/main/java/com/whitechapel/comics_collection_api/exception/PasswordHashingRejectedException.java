@@ -0,0 +1,25 @@
+package com.whitechapel.comics_collection_api.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * El pool de hashing de passwords está saturado: 429 Too Many Requests con Retry-After.
+ */
+public class PasswordHashingRejectedException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Demasiados intentos de login simultáneos, reintenta más tarde");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,18 @@
+package com.whitechapel.comics_collection_api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta cada sentencia SQL que Hibernate prepara durante la request en curso.
+ * No modifica el SQL.
+ *
+ * Registrado con hibernate.session_factory.statement_inspector en application.properties.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,61 @@
+package com.whitechapel.comics_collection_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publica por endpoint el trabajo de Hibernate de cada request.
+ *
+ * Métricas (DistributionSummary con tags method y uri, igual que http.server.requests):
+ *  - hibernate.request.statements: sentencias SQL preparadas
+ *  - hibernate.request.entity.loads: entidades cargadas
+ *  - hibernate.request.collection.fetches: colecciones perezosas inicializadas
+ *
+ * Los histogramas se activan en application.properties
+ * (management.metrics.distribution.percentiles-histogram.hibernate.request).
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public RequestMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats.Counts counts = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats.Counts counts) {
+        // Patrón del endpoint (/api/comics/{id}), no la URI real: cardinalidad acotada
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+
+        summary("hibernate.request.statements", "statements", tags).record(counts.statements);
+        summary("hibernate.request.entity.loads", "entities", tags).record(counts.entityLoads);
+        summary("hibernate.request.collection.fetches", "collections", tags).record(counts.collectionFetches);
+    }
+
+    private DistributionSummary summary(String name, String unit, Tags tags) {
+        return DistributionSummary.builder(name).baseUnit(unit).tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,60 @@
+package com.whitechapel.comics_collection_api.metrics;
+
+/**
+ * Contadores de trabajo de Hibernate de la request en curso (un juego por hilo).
+ *
+ * Función:
+ *  - {@link RequestMetricsFilter} abre los contadores al empezar la request y los
+ *    publica como métricas al terminar
+ *  - Hibernate los incrementa desde {@link CountingStatementInspector} (sentencias)
+ *    y {@link HibernateLoadCounter} (cargas de entidades y de colecciones)
+ *
+ * Fuera de una request (tareas programadas, arranque) no se cuenta nada.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestQueryStats() {
+    }
+
+    static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionFetches++;
+        }
+    }
+
+    /**
+     * Contadores de una request; solo los usa su propio hilo.
+     */
+    static final class Counts {
+        int statements;
+        int entityLoads;
+        int collectionFetches;
+    }
+}
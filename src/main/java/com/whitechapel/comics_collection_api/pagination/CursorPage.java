@@ -0,0 +1,41 @@
+package com.whitechapel.comics_collection_api.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Respuesta de paginación por cursor (estilo Slice).
+ *
+ * Función:
+ *  - content: filas de la página actual
+ *  - hasNext / nextCursor: cursor opaco para pedir la siguiente página
+ *
+ * A diferencia de Page, no incluye totalElements ni totalPages:
+ * no se ejecuta ningún count(*).
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * Construye la respuesta a partir de una ventana de Spring Data
+     * y del cursor (orden) que la generó.
+     */
+    public static <T> CursorPage<T> of(Window<T> window, KeysetCursor cursor) {
+        return of(window, cursor, Function.identity());
+    }
+
+    /**
+     * Igual que {@link #of(Window, KeysetCursor)} pero transformando cada fila.
+     */
+    public static <T, R> CursorPage<R> of(Window<T> window, KeysetCursor cursor, Function<T, R> mapper) {
+        List<R> content = window.getContent().stream().map(mapper).toList();
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()
+                && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position) {
+            next = cursor.next(position.getKeys()).encode();
+        }
+        return new CursorPage<>(content, content.size(), next != null, next);
+    }
+}
@@ -0,0 +1,110 @@
+package com.whitechapel.comics_collection_api.pagination;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cursor de paginación por clave (keyset).
+ *
+ * Función:
+ *  - Guarda la propiedad de orden, la dirección y los valores de la última fila
+ *    (propiedad de orden + id como desempate)
+ *  - Se serializa como texto Base64 URL-safe opaco para el cliente
+ *
+ * Buenas prácticas:
+ *  - Solo se aceptan propiedades de una lista blanca (evita ordenar por cualquier campo)
+ *  - La consulta usa "WHERE (orden, id) > (último)" en lugar de OFFSET:
+ *    el coste no crece con la profundidad de la página
+ */
+public record KeysetCursor(String property, Sort.Direction direction, Map<String, Object> keys) {
+
+    public static final String ID = "id";
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Cursor inicial (primera página) para una propiedad y dirección.
+     */
+    public static KeysetCursor first(String property, String direction, Map<String, Function<String, Object>> allowed) {
+        if (!allowed.containsKey(property)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Orden no soportado: " + property + " (permitidos: " + allowed.keySet() + ")");
+        }
+        Sort.Direction dir = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Dirección no soportada: " + direction));
+        return new KeysetCursor(property, dir, Map.of());
+    }
+
+    /**
+     * Reconstruye un cursor recibido del cliente.
+     * El orden viaja dentro del cursor, así que las páginas siguientes no pueden cambiarlo.
+     */
+    public static KeysetCursor decode(String cursor, Map<String, Function<String, Object>> allowed) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\" + SEPARATOR, -1);
+            String property = parts[0];
+            Function<String, Object> parser = allowed.get(property);
+            if (parser == null) {
+                throw new IllegalArgumentException("Orden no soportado: " + property);
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(property, parser.apply(URLDecoder.decode(parts[2], StandardCharsets.UTF_8)));
+            if (!ID.equals(property)) {
+                keys.put(ID, Long.valueOf(URLDecoder.decode(parts[3], StandardCharsets.UTF_8)));
+            }
+            return new KeysetCursor(property, Sort.Direction.valueOf(parts[1]), keys);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Serializa el cursor: propiedad|dirección|valor|id en Base64 URL-safe.
+     */
+    public String encode() {
+        StringBuilder payload = new StringBuilder()
+                .append(property).append(SEPARATOR)
+                .append(direction.name()).append(SEPARATOR)
+                .append(URLEncoder.encode(String.valueOf(keys.get(property)), StandardCharsets.UTF_8));
+        if (!ID.equals(property)) {
+            payload.append(SEPARATOR).append(URLEncoder.encode(String.valueOf(keys.get(ID)), StandardCharsets.UTF_8));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Cursor que apunta justo después de la fila con las claves indicadas.
+     */
+    public KeysetCursor next(Map<String, ?> lastKeys) {
+        return new KeysetCursor(property, direction, new LinkedHashMap<>(lastKeys));
+    }
+
+    /**
+     * Orden estable: propiedad pedida + id como desempate.
+     */
+    public Sort sort() {
+        Sort sort = Sort.by(direction, property);
+        return ID.equals(property) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Posición de scroll para Spring Data (inicio o continuación).
+     */
+    public ScrollPosition position() {
+        return keys.isEmpty() ? ScrollPosition.keyset() : ScrollPosition.forward(keys);
+    }
+}
@@ -1,10 +1,33 @@
 package com.whitechapel.comics_collection_api.repository;
 
+import com.whitechapel.comics_collection_api.dto.ComicCreatorRef;
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.event.ComicState;
+import com.whitechapel.comics_collection_api.transfer.ComicExportRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository de la entidad Comic.
@@ -18,6 +41,94 @@ import java.util.List;
 @Repository
 public interface ComicRepository extends JpaRepository<Comic, Long> {
 
+    /**
+     * Proyección común de las vistas: cómic + serie + publisher en una sola fila.
+     */
+    String VIEW_SELECT = "select new com.whitechapel.comics_collection_api.dto.ComicView("
+            + "c.id, c.title, c.issueNumber, c.year, c.variant, s.id, s.title, p.id, p.name, "
+            + "c.owned, c.condition, c.purchasePrice, c.purchaseDate, c.notes, c.coverImageUrl) "
+            + "from Comic c join c.series s left join c.publisher p";
+
+    /**
+     * Estado de los cómics que necesitan las estructuras derivadas tras una operación masiva.
+     */
+    String STATE_SELECT = "select new com.whitechapel.comics_collection_api.event.ComicState("
+            + "c.id, c.series.id, p.id, c.issueNumber, c.owned, c.purchasePrice) "
+            + "from Comic c left join c.publisher p";
+
+    /**
+     * Página de vistas de cómics: una consulta para las filas y otra para el count,
+     * sin cargar entidades ni relaciones perezosas.
+     */
+    @Query(value = VIEW_SELECT, countQuery = "select count(c) from Comic c")
+    Page<ComicView> findViews(Pageable pageable);
+
+    /**
+     * Vistas de los cómics con los ids indicados (una sola consulta IN).
+     */
+    @Query(VIEW_SELECT + " where c.id in :ids")
+    List<ComicView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Creadores de un conjunto de cómics (una sola consulta IN sobre comic_creators).
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.ComicCreatorRef(c.id, cr.id, cr.name) "
+            + "from Comic c join c.creators cr where c.id in :ids order by cr.name")
+    List<ComicCreatorRef> findCreatorRefsByComicIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Estado de los cómics indicados que existen, para las operaciones masivas (una sola consulta IN).
+     *
+     * Bloquea las filas (select ... for update) hasta el final de la transacción: un cambio
+     * concurrente no puede colarse entre esta lectura y el UPDATE/DELETE masivo, y el estado
+     * anterior que se publica es el que de verdad se sustituye. Sin join con publisher
+     * (c.publisher.id es la clave ajena): PostgreSQL no admite FOR UPDATE en el lado
+     * opcional de un outer join. Orden por id para bloquear siempre en el mismo orden.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.whitechapel.comics_collection_api.event.ComicState("
+            + "c.id, c.series.id, c.publisher.id, c.issueNumber, c.owned, c.purchasePrice) "
+            + "from Comic c where c.id in :ids order by c.id")
+    List<ComicState> findStatesForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Borra las filas de comic_creators de varios cómics (paso previo al borrado masivo).
+     *
+     * La tabla de enlace no es una entidad, así que no admite JPQL. Sin declarar qué tabla
+     * toca, Hibernate invalidaría todas las regiones de la caché de segundo nivel
+     * (publisher, creator, role...) con cada borrado: la query space limita la
+     * invalidación a lo que depende de comic_creators.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comic_creators"))
+    @Query(value = "delete from comic_creators where comic_id in (:ids)", nativeQuery = true)
+    int deleteCreatorLinksByComicIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Borrado masivo con una sola sentencia. No pasa por los listeners de Hibernate.
+     */
+    @Modifying
+    @Query("delete from Comic c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Siguiente bloque de cómics de una serie (borrado en cascada por bloques).
+     */
+    @Query(STATE_SELECT + " where c.series.id = :seriesId order by c.id")
+    List<ComicState> findStatesBySeriesId(@Param("seriesId") Long seriesId, Limit limit);
+
+    long countBySeriesId(Long seriesId);
+
+    /**
+     * Siguiente bloque de cómics que caen en la cascada de un publisher:
+     * los suyos y los de sus series.
+     */
+    @Query(STATE_SELECT + " where p.id = :publisherId or c.series.publisher.id = :publisherId order by c.id")
+    List<ComicState> findStatesByPublisherCascade(@Param("publisherId") Long publisherId, Limit limit);
+
+    @Query("select count(c) from Comic c where c.publisher.id = :publisherId or c.series.publisher.id = :publisherId")
+    long countByPublisherCascade(@Param("publisherId") Long publisherId);
+
     /**
      * Obtiene todos los cómics de una serie específica por su ID.
      * Ejemplo: findBySeriesId(1L) devuelve todos los comics de la serie con id=1.
@@ -39,4 +150,50 @@ public interface ComicRepository extends JpaRepository<Comic, Long> {
      * Ejemplo: findByTitleContainingIgnoreCase("spider") devuelve "Amazing Spider-Man".
      */
     List<Comic> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * Paginación por cursor (keyset) sobre todos los cómics.
+     * No ejecuta count(*) ni OFFSET: filtra por "(orden, id) > (última fila)".
+     * Serie y publisher se cargan en la misma consulta (entity graph).
+     */
+    @EntityGraph(attributePaths = {"series", "publisher"})
+    Window<Comic> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Paginación por cursor ordenando por fecha de compra.
+     * Keyset no admite claves nulas: solo incluye cómics con fecha de compra.
+     */
+    @EntityGraph(attributePaths = {"series", "publisher"})
+    Window<Comic> findAllByPurchaseDateIsNotNull(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Toda la colección para exportar, leída con un cursor de servidor.
+     * Una fila por (cómic, creador), ordenada por id para agrupar los creadores
+     * de cada cómic sin cargar entidades. Debe consumirse dentro de una transacción.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.whitechapel.comics_collection_api.transfer.ComicExportRow("
+            + "c.id, c.title, c.issueNumber, c.year, c.variant, s.title, p.name, c.owned, c.condition, "
+            + "c.purchasePrice, c.purchaseDate, c.notes, c.coverImageUrl, cr.name) "
+            + "from Comic c join c.series s left join c.publisher p left join c.creators cr "
+            + "order by c.id, cr.name")
+    Stream<ComicExportRow> streamExportRows();
+
+    /**
+     * Huella de versión de un cómic y de lo que muestra su vista (serie, publisher, creadores),
+     * para responder 304 sin cargar el cómic.
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(c.version, "
+            + "s.version + coalesce(p.version, 0) + coalesce(sum(cr.version), 0), c.lastModified, "
+            + "greatest(s.lastModified, coalesce(p.lastModified, s.lastModified), coalesce(max(cr.lastModified), s.lastModified))) "
+            + "from Comic c join c.series s left join c.publisher p left join c.creators cr "
+            + "where c.id = :id "
+            + "group by c.id, c.version, c.lastModified, s.version, s.lastModified, p.version, p.lastModified")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    /**
+     * Huella agregada de todos los cómics (para el ETag de los listados).
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(count(c), coalesce(sum(c.id), 0), coalesce(sum(c.version), 0)) from Comic c")
+    VersionStamp collectionVersionStamp();
 }
@@ -1,11 +1,22 @@
 package com.whitechapel.comics_collection_api.repository;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
+import com.whitechapel.comics_collection_api.dto.CreatorView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Creator;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository de la entidad Creator (Autor/Artista).
@@ -16,7 +27,11 @@ public interface CreatorRepository extends JpaRepository<Creator, Long> {
 
     /**
      * Buscar un creator por su nombre exacto.
+     * Consulta cacheada (caché de segundo nivel), se invalida al escribir creators.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.QUERY_REGION)})
     Optional<Creator> findByName(String name);
 
     /**
@@ -24,4 +39,31 @@ public interface CreatorRepository extends JpaRepository<Creator, Long> {
      * ignorando mayúsculas y minúsculas.
      */
     List<Creator> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Página de vistas de creadores (filas + count), igual que /api/comics.
+     */
+    @Query(value = "select new com.whitechapel.comics_collection_api.dto.CreatorView(c.id, c.name) from Creator c",
+            countQuery = "select count(c) from Creator c")
+    Page<CreatorView> findViews(Pageable pageable);
+
+    /**
+     * Todos los creadores leídos con un cursor de servidor.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.whitechapel.comics_collection_api.dto.CreatorView(c.id, c.name) from Creator c order by c.id")
+    Stream<CreatorView> streamAllViews();
+
+    /**
+     * Huella de versión de un creador, sin cargar la entidad.
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(c.version, c.lastModified) from Creator c where c.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    /**
+     * Huella agregada de todos los creadores (para el ETag de los listados).
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(count(c), coalesce(sum(c.id), 0), coalesce(sum(c.version), 0)) from Creator c")
+    VersionStamp collectionVersionStamp();
 }
@@ -1,7 +1,20 @@
 package com.whitechapel.comics_collection_api.repository;
 
+import com.whitechapel.comics_collection_api.cache.SecondLevelCacheConfig;
+import com.whitechapel.comics_collection_api.dto.EntityRef;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Publisher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,7 +35,11 @@ public interface PublisherRepository extends JpaRepository<Publisher, Long> {
     /**
      * Buscar un publisher por su nombre exacto.
      * Devuelve Optional<Publisher> para manejar casos donde no exista.
+     * Consulta cacheada (caché de segundo nivel), se invalida al escribir publishers.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.QUERY_REGION)})
     Optional<Publisher> findByName(String name);
 
     /**
@@ -30,4 +47,35 @@ public interface PublisherRepository extends JpaRepository<Publisher, Long> {
      * ignorando mayúsculas y minúsculas.
      */
     List<Publisher> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Paginación por cursor (keyset) sobre todos los publishers, sin count(*) ni OFFSET.
+     */
+    Window<Publisher> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Id y nombre de todos los publishers, sin cargar entidades.
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.EntityRef(p.id, p.name) from Publisher p")
+    List<EntityRef> findAllRefs();
+
+    /**
+     * Huella de versión de un publisher, sin cargar la entidad.
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(p.version, p.lastModified) from Publisher p where p.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    /**
+     * Huella agregada de todos los publishers (para el ETag de los listados).
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(count(p), coalesce(sum(p.id), 0), coalesce(sum(p.version), 0)) from Publisher p")
+    VersionStamp collectionVersionStamp();
+
+    /**
+     * Borrado con una sola sentencia, sin cargar sus cómics en el contexto de persistencia.
+     * Los cómics y series del publisher deben haberse borrado antes.
+     */
+    @Modifying
+    @Query("delete from Publisher p where p.id = :id")
+    int deleteWithoutCascadeById(@Param("id") Long id);
 }
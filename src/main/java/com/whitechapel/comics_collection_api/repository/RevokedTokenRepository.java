@@ -0,0 +1,37 @@
+package com.whitechapel.comics_collection_api.repository;
+
+import com.whitechapel.comics_collection_api.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository de tokens revocados.
+ * Se lee al arrancar y periódicamente para ver las revocaciones de otras instancias;
+ * el filtro JWT consulta el registro en memoria.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Revocaciones todavía relevantes (tokens que aún no han expirado).
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Revocaciones vigentes hechas después del instante indicado (lectura periódica).
+     */
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAfter, Instant now);
+
+    /**
+     * Borra en una sola sentencia las revocaciones de tokens ya expirados.
+     */
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,24 @@
 package com.whitechapel.comics_collection_api.repository;
 
+import com.whitechapel.comics_collection_api.dto.SeriesView;
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
 import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.stats.SeriesCompletion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository de la entidad Series.
@@ -29,4 +42,69 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
      * ignorando mayúsculas y minúsculas.
      */
     List<Series> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * Proyección común de las vistas: serie + publisher en una sola fila.
+     */
+    String VIEW_SELECT = "select new com.whitechapel.comics_collection_api.dto.SeriesView("
+            + "s.id, s.title, s.numbers, p.id, p.name) from Series s join s.publisher p";
+
+    /**
+     * Página de vistas de series (filas + count), igual que /api/comics.
+     */
+    @Query(value = VIEW_SELECT, countQuery = "select count(s) from Series s")
+    Page<SeriesView> findViews(Pageable pageable);
+
+    /**
+     * Todas las series como vistas leídas con un cursor de servidor.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_SELECT + " order by s.id")
+    Stream<SeriesView> streamAllViews();
+
+    /**
+     * Vista de una serie por id (serie + publisher en una sola consulta).
+     */
+    @Query(VIEW_SELECT + " where s.id = :id")
+    Optional<SeriesView> findViewById(@Param("id") Long id);
+
+    /**
+     * Compleción de cada serie con una única consulta agregada: números distintos
+     * en propiedad (dentro de 1..numbers) frente a Series.numbers.
+     * No carga la colección Series.comics.
+     */
+    @Query(value = "select new com.whitechapel.comics_collection_api.stats.SeriesCompletion("
+            + "s.id, s.title, s.numbers, count(distinct case when c.owned = true "
+            + "and c.issueNumber between 1 and s.numbers then c.issueNumber end)) "
+            + "from Series s left join Comic c on c.series = s "
+            + "group by s.id, s.title, s.numbers",
+            countQuery = "select count(s) from Series s")
+    Page<SeriesCompletion> findCompletion(Pageable pageable);
+
+    /**
+     * Huella de versión de una serie y de su publisher, sin cargar la entidad.
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(s.version, p.version, s.lastModified, p.lastModified) "
+            + "from Series s join s.publisher p where s.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    /**
+     * Huella agregada de todas las series (para el ETag de los listados).
+     */
+    @Query("select new com.whitechapel.comics_collection_api.dto.VersionStamp(count(s), coalesce(sum(s.id), 0), coalesce(sum(s.version), 0)) from Series s")
+    VersionStamp collectionVersionStamp();
+
+    /**
+     * Ids de las series de un publisher (borrado en cascada).
+     */
+    @Query("select s.id from Series s where s.publisher.id = :publisherId")
+    List<Long> findIdsByPublisherId(@Param("publisherId") Long publisherId);
+
+    /**
+     * Borrado masivo sin cascada JPA: los cómics deben haberse borrado antes.
+     */
+    @Modifying
+    @Query("delete from Series s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,6 +2,9 @@ package com.whitechapel.comics_collection_api.repository;
 
 import com.whitechapel.comics_collection_api.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,4 +26,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Devuelve Optional<User> para evitar NullPointerException si no existe.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Obtiene solo la versión de tokens del usuario, sin cargar la entidad ni sus roles.
+     */
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * Incrementa la versión de tokens, invalidando todos los JWT emitidos hasta ahora.
+     */
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    /**
+     * Sustituye el hash del password (rehash al subir el coste de BCrypt).
+     */
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
@@ -0,0 +1,203 @@
+package com.whitechapel.comics_collection_api.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria (backend por defecto, search.backend=memory).
+ *
+ * Estructuras:
+ *  - postings: término -> documentos que lo contienen, con su peso
+ *    (los términos del título pesan el doble que los del texto secundario)
+ *  - trigramIndex: trigrama -> términos, para encontrar términos parecidos (erratas)
+ *
+ * Búsqueda:
+ *  - Cada término de la consulta se expande a términos exactos, por prefijo
+ *    y parecidos por trigramas (similitud de Jaccard)
+ *  - La puntuación de un documento suma, por cada término de la consulta,
+ *    la mejor coincidencia encontrada
+ *
+ * Concurrencia: lecturas en paralelo, escrituras exclusivas (ReadWriteLock).
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemorySearchBackend implements SearchBackend {
+
+    private static final float TITLE_WEIGHT = 2.0f;
+    private static final float TEXT_WEIGHT = 1.0f;
+
+    private static final double PREFIX_SIMILARITY = 0.9;
+    private static final double MIN_FUZZY_SIMILARITY = 0.35;
+    private static final int MAX_EXPANSIONS = 20;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<DocKey, IndexedDocument> documents = new HashMap<>();
+    private final TreeMap<String, Map<DocKey, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigramIndex = new HashMap<>();
+
+    @Override
+    public boolean requiresIndexing() {
+        return true;
+    }
+
+    @Override
+    public void index(SearchDocument document) {
+        DocKey key = new DocKey(document.type(), document.id());
+        Map<String, Float> terms = new HashMap<>();
+        for (String token : TextNormalizer.tokenize(document.text())) {
+            terms.merge(token, TEXT_WEIGHT, Math::max);
+        }
+        for (String token : TextNormalizer.tokenize(document.title())) {
+            terms.merge(token, TITLE_WEIGHT, Math::max);
+        }
+
+        lock.writeLock().lock();
+        try {
+            unindex(key);
+            documents.put(key, new IndexedDocument(document, terms.keySet()));
+            terms.forEach((term, weight) -> {
+                Map<DocKey, Float> docs = postings.computeIfAbsent(term, t -> {
+                    TextNormalizer.trigrams(t).forEach(gram ->
+                            trigramIndex.computeIfAbsent(gram, g -> new HashSet<>()).add(t));
+                    return new HashMap<>();
+                });
+                docs.put(key, weight);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(SearchType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(new DocKey(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public SearchResults search(String query, Set<SearchType> types, int page, int size) {
+        List<String> queryTerms = TextNormalizer.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new SearchResults(query, 0, page, size, List.of());
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<DocKey, Double> scores = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                // Mejor coincidencia de este término de la consulta en cada documento
+                Map<DocKey, Double> best = new HashMap<>();
+                expand(queryTerm).forEach((term, similarity) ->
+                        postings.get(term).forEach((key, weight) -> {
+                            if (types.contains(key.type())) {
+                                best.merge(key, similarity * weight, Math::max);
+                            }
+                        }));
+                best.forEach((key, score) -> scores.merge(key, score, Double::sum));
+            }
+            scores.forEach((key, score) -> {
+                SearchDocument doc = documents.get(key).document();
+                hits.add(new SearchHit(doc.type(), doc.id(), doc.title(), score));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::title, Comparator.nullsLast(String::compareTo))
+                .thenComparing(SearchHit::id));
+        // En long: page * size desborda int con páginas muy altas (?page=2000000000)
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        return new SearchResults(query, hits.size(), page, size, List.copyOf(hits.subList(from, to)));
+    }
+
+    /**
+     * Términos del índice que casan con un término de la consulta, con su similitud.
+     * Se llama con el read lock tomado.
+     */
+    private Map<String, Double> expand(String queryTerm) {
+        Map<String, Double> candidates = new HashMap<>();
+
+        // 1. Coincidencia exacta y por prefijo ("spid" -> "spider")
+        for (String term : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).keySet()) {
+            candidates.put(term, term.equals(queryTerm) ? 1.0 : PREFIX_SIMILARITY);
+        }
+
+        // 2. Términos parecidos por trigramas ("spidr" -> "spider")
+        Set<String> queryGrams = TextNormalizer.trigrams(queryTerm);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<String> terms = trigramIndex.get(gram);
+            if (terms != null) {
+                terms.forEach(term -> shared.merge(term, 1, Integer::sum));
+            }
+        }
+        shared.forEach((term, common) -> {
+            int union = queryGrams.size() + TextNormalizer.trigrams(term).size() - common;
+            double similarity = (double) common / union;
+            if (similarity >= MIN_FUZZY_SIMILARITY) {
+                candidates.merge(term, similarity, Math::max);
+            }
+        });
+
+        if (candidates.size() <= MAX_EXPANSIONS) {
+            return candidates;
+        }
+        Map<String, Double> top = new HashMap<>();
+        candidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(MAX_EXPANSIONS)
+                .forEach(e -> top.put(e.getKey(), e.getValue()));
+        return top;
+    }
+
+    /**
+     * Quita un documento de todas las estructuras. Se llama con el write lock tomado.
+     */
+    private void unindex(DocKey key) {
+        IndexedDocument previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<DocKey, Float> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(key);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : TextNormalizer.trigrams(term)) {
+                    Set<String> terms = trigramIndex.get(gram);
+                    if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                        trigramIndex.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private record DocKey(SearchType type, Long id) {
+    }
+
+    private record IndexedDocument(SearchDocument document, Set<String> terms) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.whitechapel.comics_collection_api.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Backend de búsqueda sobre PostgreSQL (search.backend=postgres).
+ *
+ * Función:
+ *  - Usa las extensiones pg_trgm (similitud por trigramas) y unaccent (acentos)
+ *  - Índices GIN de trigramas sobre search_normalize(título/nombre) y sobre
+ *    variante + notas, mantenidos por la propia base de datos
+ *  - No necesita recibir documentos: los datos ya están en las tablas
+ *
+ * Nota: las extensiones, la función search_normalize y los índices GIN los crea
+ * la migración V3__search_normalize.sql (db/migration).
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "postgres")
+public class PostgresSearchBackend implements SearchBackend {
+
+    // Cada rama usa word_similarity (operador <%) para que "spider" encuentre
+    // "Amazing Spider-Man" aunque el título sea mucho más largo que la consulta
+    private static final String COMIC_SQL =
+            "select 'COMIC' as type, c.id, c.title, greatest("
+            + "word_similarity(search_normalize(:q), search_normalize(c.title)) * 2, "
+            + "word_similarity(search_normalize(:q), search_normalize(coalesce(c.variant, '') || ' ' || coalesce(c.notes, '')))) as score "
+            + "from comic c where search_normalize(:q) <% search_normalize(c.title) "
+            + "or search_normalize(:q) <% search_normalize(coalesce(c.variant, '') || ' ' || coalesce(c.notes, ''))";
+
+    private static final String SERIES_SQL =
+            "select 'SERIES' as type, s.id, s.title, word_similarity(search_normalize(:q), search_normalize(s.title)) * 2 as score "
+            + "from series s where search_normalize(:q) <% search_normalize(s.title)";
+
+    private static final String CREATOR_SQL =
+            "select 'CREATOR' as type, cr.id, cr.name as title, word_similarity(search_normalize(:q), search_normalize(cr.name)) * 2 as score "
+            + "from creator cr where search_normalize(:q) <% search_normalize(cr.name)";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public PostgresSearchBackend(JdbcTemplate jdbcTemplate) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public boolean requiresIndexing() {
+        return false;
+    }
+
+    @Override
+    public void index(SearchDocument document) {
+        // Los índices GIN se actualizan con cada INSERT/UPDATE de la tabla
+    }
+
+    @Override
+    public void remove(SearchType type, Long id) {
+        // Los índices GIN se actualizan con cada DELETE de la tabla
+    }
+
+    @Override
+    public SearchResults search(String query, Set<SearchType> types, int page, int size) {
+        List<String> branches = new ArrayList<>();
+        if (types.contains(SearchType.COMIC)) branches.add(COMIC_SQL);
+        if (types.contains(SearchType.SERIES)) branches.add(SERIES_SQL);
+        if (types.contains(SearchType.CREATOR)) branches.add(CREATOR_SQL);
+        if (branches.isEmpty() || query.isBlank()) {
+            return new SearchResults(query, 0, page, size, List.of());
+        }
+
+        String sql = "select type, id, title, score, count(*) over () as total from ("
+                + String.join(" union all ", branches)
+                + ") hits order by score desc, title, id limit :limit offset :offset";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", query)
+                .addValue("limit", size)
+                .addValue("offset", (long) page * size);
+
+        long[] total = {0};
+        List<SearchHit> hits = namedJdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return new SearchHit(SearchType.valueOf(rs.getString("type")), rs.getLong("id"),
+                    rs.getString("title"), rs.getDouble("score"));
+        });
+        return new SearchResults(query, total[0], page, size, hits);
+    }
+}
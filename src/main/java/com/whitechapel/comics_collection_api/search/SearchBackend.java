@@ -0,0 +1,35 @@
+package com.whitechapel.comics_collection_api.search;
+
+import java.util.Set;
+
+/**
+ * Motor de búsqueda intercambiable.
+ *
+ * Implementaciones (propiedad search.backend):
+ *  - memory: índice invertido en proceso (InMemorySearchBackend)
+ *  - postgres: trigramas pg_trgm + unaccent en PostgreSQL (PostgresSearchBackend)
+ */
+public interface SearchBackend {
+
+    /**
+     * Indica si el backend mantiene su propio índice y necesita recibir
+     * los documentos (carga inicial y cambios incrementales).
+     */
+    boolean requiresIndexing();
+
+    /**
+     * Añade o reemplaza un documento.
+     */
+    void index(SearchDocument document);
+
+    /**
+     * Elimina un documento del índice.
+     */
+    void remove(SearchType type, Long id);
+
+    /**
+     * Busca con tolerancia a acentos y erratas, devolviendo resultados paginados
+     * por orden de relevancia.
+     */
+    SearchResults search(String query, Set<SearchType> types, int page, int size);
+}
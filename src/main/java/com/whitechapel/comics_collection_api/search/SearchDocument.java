@@ -0,0 +1,10 @@
+package com.whitechapel.comics_collection_api.search;
+
+/**
+ * Documento indexable.
+ *
+ * @param title texto principal (título o nombre), con más peso en el ranking
+ * @param text  texto secundario (variante, notas...), puede ser null
+ */
+public record SearchDocument(SearchType type, Long id, String title, String text) {
+}
@@ -0,0 +1,7 @@
+package com.whitechapel.comics_collection_api.search;
+
+/**
+ * Resultado individual de una búsqueda, con su puntuación de relevancia.
+ */
+public record SearchHit(SearchType type, Long id, String title, double score) {
+}
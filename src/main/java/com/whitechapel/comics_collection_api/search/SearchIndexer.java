@@ -0,0 +1,141 @@
+package com.whitechapel.comics_collection_api.search;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.event.EntityChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Mantiene el índice de búsqueda sincronizado con la base de datos.
+ *
+ * Función:
+ *  - Carga inicial: al arrancar recorre comic, series y creator con un cursor
+ *    de servidor (fetch size) y los indexa
+ *  - Cambios incrementales: escucha EntityChangedEvent (después del commit)
+ *    e indexa o elimina el documento afectado
+ *  - Operaciones masivas: escucha EntitiesBulkChangedEvent y relee los cómics afectados
+ *
+ * Solo actúa si el backend mantiene su propio índice (memory).
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final SearchBackend backend;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SearchIndexer(SearchBackend backend, JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager) {
+        this.backend = backend;
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Carga inicial del índice.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!backend.requiresIndexing()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query("select id, title, variant, notes from comic", (RowCallbackHandler) rs ->
+                    backend.index(new SearchDocument(SearchType.COMIC, rs.getLong("id"), rs.getString("title"),
+                            join(rs.getString("variant"), rs.getString("notes")))));
+            jdbcTemplate.query("select id, title from series", (RowCallbackHandler) rs ->
+                    backend.index(new SearchDocument(SearchType.SERIES, rs.getLong("id"), rs.getString("title"), null)));
+            jdbcTemplate.query("select id, name from creator", (RowCallbackHandler) rs ->
+                    backend.index(new SearchDocument(SearchType.CREATOR, rs.getLong("id"), rs.getString("name"), null)));
+        });
+        logger.info("Índice de búsqueda cargado en {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Actualización incremental tras cada commit.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!backend.requiresIndexing()) {
+            return;
+        }
+        SearchDocument document = toDocument(event.entity());
+        if (document == null) {
+            return;
+        }
+        if (event.type() == ChangeType.DELETE) {
+            backend.remove(document.type(), document.id());
+        } else {
+            backend.index(document);
+        }
+    }
+
+    /**
+     * Operaciones masivas sobre cómics: se eliminan o se releen los documentos afectados.
+     * Borrados masivos de series (cascada desde publisher): se eliminan sus documentos.
+     */
+    @TransactionalEventListener
+    public void onBulkChanged(EntitiesBulkChangedEvent event) {
+        if (!backend.requiresIndexing()) {
+            return;
+        }
+        if (event.is(Series.class) && event.type() == ChangeType.DELETE) {
+            event.ids().forEach(id -> backend.remove(SearchType.SERIES, id));
+            return;
+        }
+        if (!event.is(Comic.class)) {
+            return;
+        }
+        if (event.type() == ChangeType.DELETE) {
+            event.ids().forEach(id -> backend.remove(SearchType.COMIC, id));
+            return;
+        }
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "select id, title, variant, notes from comic where id in (:ids)",
+                Map.of("ids", event.ids()), (RowCallbackHandler) rs ->
+                        backend.index(new SearchDocument(SearchType.COMIC, rs.getLong("id"), rs.getString("title"),
+                                join(rs.getString("variant"), rs.getString("notes")))));
+    }
+
+    private static SearchDocument toDocument(Object entity) {
+        if (entity instanceof Comic comic) {
+            return new SearchDocument(SearchType.COMIC, comic.getId(), comic.getTitle(),
+                    join(comic.getVariant(), comic.getNotes()));
+        }
+        if (entity instanceof Series series) {
+            return new SearchDocument(SearchType.SERIES, series.getId(), series.getTitle(), null);
+        }
+        if (entity instanceof Creator creator) {
+            return new SearchDocument(SearchType.CREATOR, creator.getId(), creator.getName(), null);
+        }
+        return null;
+    }
+
+    private static String join(String first, String second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return first + " " + second;
+    }
+}
@@ -0,0 +1,9 @@
+package com.whitechapel.comics_collection_api.search;
+
+import java.util.List;
+
+/**
+ * Página de resultados de búsqueda ordenados por relevancia.
+ */
+public record SearchResults(String query, long total, int page, int size, List<SearchHit> hits) {
+}
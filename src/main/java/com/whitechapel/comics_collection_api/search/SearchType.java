@@ -0,0 +1,10 @@
+package com.whitechapel.comics_collection_api.search;
+
+/**
+ * Tipos de documento indexados por el buscador.
+ */
+public enum SearchType {
+    COMIC,
+    SERIES,
+    CREATOR
+}
@@ -0,0 +1,58 @@
+package com.whitechapel.comics_collection_api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utilidades de normalización de texto para el buscador en memoria.
+ *
+ * Función:
+ *  - Quita acentos y pasa a minúsculas ("Álvaro" -> "alvaro")
+ *  - Divide en términos de letras y dígitos de cualquier alfabeto
+ *    ("Møller", "手塚治虫", "Ω"), no solo ASCII
+ *  - Calcula trigramas al estilo pg_trgm para la búsqueda con erratas
+ */
+final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    // \p{Alnum} sin UNICODE_CHARACTER_CLASS es solo ASCII: partiría "Møller" en "m" y "ller"
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALPHANUMERIC.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Trigramas de un término con relleno de espacios ("  ab " -> "  a", " ab", "ab ").
+     */
+    static Set<String> trigrams(String term) {
+        String padded = "  " + term + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -11,20 +11,25 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
  * 
  * Función:
  *  - Permite cargar usuarios desde la base de datos
- *  - Necesario para JwtAuthenticationFilter y autenticación JWT
+ *  - Necesario para la autenticación en /auth/login
+ *  - Pasa por UserDetailsCache: solo consulta la base de datos en caso de fallo
  */
 @Configuration
 public class CustomUserDetailsService {
 
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    private final UserDetailsCache userDetailsCache;
+
+    public CustomUserDetailsService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + username));
+        return username -> userDetailsCache.get(username, name -> userRepository.findByUsername(name)
+                .map(UserSnapshot::of)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + name)));
     }
 }
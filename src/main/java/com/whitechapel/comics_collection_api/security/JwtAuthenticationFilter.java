@@ -1,5 +1,6 @@
 package com.whitechapel.comics_collection_api.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,8 +8,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -21,6 +20,9 @@ import java.io.IOException;
  *  - Extiende OncePerRequestFilter para ejecutarse una sola vez por request
  *  - Maneja tokens inválidos sin romper la request
  *  - Inserta Authentication en el SecurityContext
+ *  - Stateless: el principal se construye con los claims del token, sin consultar
+ *    la base de datos; la revocación se comprueba en memoria (versión de tokens
+ *    del usuario y registro de tokens revocados por jti)
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,7 +31,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private TokenVersionRegistry tokenVersions;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocations;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -44,13 +49,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = header.substring(7);
         }
 
-        // Si hay token y es válido, autenticamos al usuario
-        if (token != null && tokenProvider.validateToken(token)) {
-            String username = tokenProvider.getUsernameFromJwt(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // Si hay token y es válido, autenticamos al usuario.
+        // Una sola verificación: los claims se reutilizan para obtener el username
+        Claims claims = token != null ? tokenProvider.parseValidToken(token).orElse(null) : null;
+        if (claims != null) {
+            Long userId = tokenProvider.getUserId(claims);
+
+            // Tokens revocados (versión antigua o logout del propio token) o sin id se ignoran
+            if (tokenVersions.isCurrent(userId, tokenProvider.getTokenVersion(claims))
+                    && !tokenRevocations.isRevoked(claims.getId())) {
+                JwtPrincipal principal = new JwtPrincipal(userId, claims.getSubject());
+                UsernamePasswordAuthenticationToken auth =
+                        new UsernamePasswordAuthenticationToken(principal, null, tokenProvider.getAuthorities(claims));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
 
         // Continua con el siguiente filtro
@@ -0,0 +1,18 @@
+package com.whitechapel.comics_collection_api.security;
+
+import java.security.Principal;
+
+/**
+ * Principal ligero construido a partir de los claims del JWT.
+ *
+ * Función:
+ *  - Identifica al usuario autenticado sin cargar la entidad User de la base de datos
+ *  - getName() devuelve el username, igual que Authentication.getName()
+ */
+public record JwtPrincipal(Long id, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
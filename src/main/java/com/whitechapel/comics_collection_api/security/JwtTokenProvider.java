@@ -5,11 +5,17 @@ import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Clase responsable de generar, validar y extraer información de tokens JWT.
@@ -17,11 +23,14 @@ import java.util.Date;
  * Funciones principales:
  *  - Generar JWT para usuarios autenticados
  *  - Validar tokens recibidos en requests
- *  - Extraer información del token (username)
+ *  - Extraer información del token (username, id, roles y versión)
+ *  - Identificar cada token (claim "jti") para poder revocarlo individualmente
  *
  * Buenas prácticas:
  *  - Secreto seguro y configurable
  *  - Manejo de excepciones con log
+ *  - Clave HMAC y parser construidos una sola vez (son inmutables y thread-safe)
+ *  - Verificación en una sola pasada con caché de tokens ya verificados
  *  - Comentarios educativos
  */
 @Component
@@ -29,50 +38,79 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // Claims propios: permiten autenticar sin consultar la base de datos
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    // Número máximo de tokens verificados que se mantienen en memoria
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
     // TODO: Cambiar por un secreto largo y seguro, preferiblemente en application.properties
     private final String jwtSecret = "cambia_este_secreto_super_largo_y_seguro_para_produccion_2026";
 
     // Duración del token en milisegundos (24 horas)
     private final long jwtExpirationMs = 86400000;
 
+    // Clave y parser reutilizables: antes se reconstruían en cada llamada
+    private final Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // Tokens cuya firma ya se verificó; caducan con el propio token
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(MAX_CACHED_TOKENS);
+
     /**
      * Genera un token JWT a partir de la autenticación del usuario.
+     * Incluye id, roles y versión de tokens para que el filtro no tenga que
+     * cargar el usuario en cada request.
      */
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
 
-        return Jwts.builder()
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti: identifica el token para revocarlo
                 .setSubject(username)      // Identificador del usuario
+                .claim(CLAIM_ROLES, roles) // Roles del usuario
                 .setIssuedAt(now)          // Fecha de creación
                 .setExpiration(expiryDate) // Fecha de expiración
-                .signWith(key, SignatureAlgorithm.HS256) // Firma con HMAC-SHA256
-                .compact();
-    }
+                .signWith(key, SignatureAlgorithm.HS256); // Firma con HMAC-SHA256
 
-    /**
-     * Extrae el username del token JWT.
-     */
-    public String getUsernameFromJwt(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        if (authentication.getPrincipal() instanceof UserSnapshot user) {
+            builder.claim(CLAIM_USER_ID, user.id())
+                   .claim(CLAIM_TOKEN_VERSION, user.tokenVersion());
+        }
+        return builder.compact();
     }
 
     /**
-     * Valida un token JWT.
+     * Verifica el token y devuelve sus claims en una sola pasada.
+     *
+     * Si el token ya se verificó antes y no ha expirado, se devuelven los claims
+     * en caché sin volver a comprobar la firma.
+     *
+     * @return claims del token, o vacío si el token no es válido
      */
-    public boolean validateToken(String token) {
+    public Optional<Claims> parseValidToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(token, claims, now);
+            return Optional.of(claims);
         } catch (MalformedJwtException e) {
             logger.error("Token JWT mal formado: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -81,9 +119,54 @@ public class JwtTokenProvider {
             logger.error("Token JWT no soportado: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("Token JWT vacío o nulo: {}", e.getMessage());
-        } catch (SecurityException e) {
+        } catch (JwtException | SecurityException e) {
             logger.error("Firma JWT inválida: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Extrae el username del token JWT.
+     */
+    public String getUsernameFromJwt(String token) {
+        return parseValidToken(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new MalformedJwtException("Token JWT inválido"));
+    }
+
+    /**
+     * Extrae el id del usuario de los claims, o null si el token no lo incluye.
+     */
+    public Long getUserId(Claims claims) {
+        Number id = claims.get(CLAIM_USER_ID, Number.class);
+        return id != null ? id.longValue() : null;
+    }
+
+    /**
+     * Extrae la versión de tokens de los claims, o -1 si el token no la incluye.
+     */
+    public int getTokenVersion(Claims claims) {
+        Number version = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return version != null ? version.intValue() : -1;
+    }
+
+    /**
+     * Reconstruye los authorities a partir del claim de roles.
+     */
+    public Collection<GrantedAuthority> getAuthorities(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof Collection<?> names)) {
+            return List.of();
+        }
+        return names.stream()
+                .map(name -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(name)))
+                .toList();
+    }
+
+    /**
+     * Valida un token JWT.
+     */
+    public boolean validateToken(String token) {
+        return parseValidToken(token).isPresent();
     }
 }
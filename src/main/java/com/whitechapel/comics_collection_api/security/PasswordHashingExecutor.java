@@ -0,0 +1,122 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado y acotado para el hashing de passwords (BCrypt).
+ *
+ * Función:
+ *  - BCrypt es caro a propósito; ejecutarlo en los hilos de las requests hace que
+ *    una avalancha de logins degrade toda la API
+ *  - Aquí se limita cuántos hashes se calculan a la vez (hilos) y cuántos esperan (cola)
+ *  - Con la cola llena se falla de inmediato con 429 en lugar de acumular latencia
+ *
+ * Métricas:
+ *  - auth.password.queue: tareas en espera
+ *  - auth.password.active: hashes en curso
+ *  - auth.password.hash: tiempo de cálculo de cada hash (Timer, tag operation)
+ *  - auth.password.rejected: peticiones rechazadas por saturación
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final long retryAfterSeconds;
+
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(@Value("${security.password.threads:2}") int threads,
+                                   @Value("${security.password.queue:32}") int queueCapacity,
+                                   @Value("${security.password.retry-after-seconds:1}") long retryAfterSeconds,
+                                   MeterRegistry registry) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        this.matchTimer = Timer.builder("auth.password.hash").tag("operation", "matches").register(registry);
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(registry);
+        this.rejected = Counter.builder("auth.password.rejected").register(registry);
+    }
+
+    /**
+     * Comprueba un password en el pool y espera el resultado.
+     */
+    public boolean matches(Supplier<Boolean> task) {
+        return run(task, matchTimer);
+    }
+
+    /**
+     * Calcula un hash en el pool y espera el resultado.
+     */
+    public String encode(Supplier<String> task) {
+        return run(task, encodeTimer);
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Supplier<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException(retryAfterSeconds);
+        }
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    // El hash ya está en marcha: se espera igualmente y se restaura la interrupción
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
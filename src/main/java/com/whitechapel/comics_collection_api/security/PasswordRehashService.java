@@ -0,0 +1,46 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rehash transparente del password al hacer login.
+ *
+ * Función:
+ *  - RehashingAuthenticationProvider lo invoca tras un login correcto cuando
+ *    PasswordEncoder.upgradeEncoding() indica que el hash usa un coste de BCrypt
+ *    menor que el configurado (security.password.bcrypt-strength)
+ *  - Si el pool de hashing está saturado el provider omite el rehash: nunca
+ *    hace fallar un login correcto
+ *  - Guarda el nuevo hash y desaloja al usuario de UserDetailsCache
+ *
+ * Nota: no se incrementa la versión de tokens; el password no ha cambiado,
+ * solo su representación, y los JWT emitidos siguen siendo legítimos.
+ */
+@Service
+public class PasswordRehashService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+
+    private final UserDetailsCache userDetailsCache;
+
+    public PasswordRehashService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        userDetailsCache.evict(user.getUsername());
+        if (user instanceof UserSnapshot snapshot) {
+            return new UserSnapshot(snapshot.id(), snapshot.username(), newPassword,
+                    snapshot.authorities(), snapshot.tokenVersion());
+        }
+        return user;
+    }
+}
@@ -0,0 +1,39 @@
+package com.whitechapel.comics_collection_api.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que ejecuta encode y matches en el PasswordHashingExecutor.
+ *
+ * Función:
+ *  - Lo usa el AuthenticationManager en /auth/login (incluida la comprobación
+ *    contra un hash ficticio cuando el usuario no existe) y /auth/register
+ *  - upgradeEncoding se delega tal cual: es barato y permite el rehash al hacer login
+ *    cuando sube el coste configurado de BCrypt
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    private final PasswordHashingExecutor executor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,72 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.exception.PasswordHashingRejectedException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Autenticación por usuario y password con rehash del hash tras un login correcto.
+ *
+ * Función:
+ *  - Igual que DaoAuthenticationProvider, pero el rehash lo hace este provider
+ *    (DaoAuthenticationProvider no tiene UserDetailsPasswordService configurado)
+ *  - El rehash es best-effort: si el pool de hashing está saturado el login
+ *    termina igualmente y el hash se actualiza en un login posterior
+ *  - Pool saturado al comprobar el password: 429 tanto si el usuario existe como
+ *    si no (la respuesta no revela qué usuarios existen)
+ *
+ * Con el rehash de Spring Security, un encode rechazado por el pool convertía un
+ * login correcto en un 429.
+ */
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final PasswordRehashService passwordRehashService;
+
+    public RehashingAuthenticationProvider(UserDetailsService userDetailsService,
+                                           PasswordEncoder passwordEncoder,
+                                           PasswordRehashService passwordRehashService) {
+        super(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+        this.passwordEncoder = passwordEncoder;
+        this.passwordRehashService = passwordRehashService;
+    }
+
+    /**
+     * Con un usuario inexistente el password se compara igualmente (contra un hash
+     * ficticio) y DaoAuthenticationProvider envuelve cualquier error en
+     * InternalAuthenticationServiceException: se deshace para que el pool saturado
+     * responda 429 exista o no el usuario.
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        try {
+            return super.authenticate(authentication);
+        } catch (InternalAuthenticationServiceException e) {
+            if (e.getCause() instanceof PasswordHashingRejectedException rejected) {
+                throw rejected;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        UserDetails current = user;
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            try {
+                String newPassword = passwordEncoder.encode(authentication.getCredentials().toString());
+                current = passwordRehashService.updatePassword(user, newPassword);
+            } catch (PasswordHashingRejectedException e) {
+                logger.debug("Pool de hashing saturado: el rehash de " + user.getUsername() + " queda pendiente");
+            }
+        }
+        return super.createSuccessAuthentication(principal, authentication, current);
+    }
+}
@@ -0,0 +1,83 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.entity.User;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalida los tokens de un usuario cuando cambian sus roles.
+ *
+ * Función:
+ *  - Antes de cada flush revisa los User gestionados: si su colección de roles se
+ *    modificó (add/remove/clear) o se sustituyó por otro Set, incrementa tokenVersion
+ *    y el UPDATE sale en el mismo flush que el cambio de roles
+ *  - Tras el commit olvida la versión en memoria y desaloja el UserDetails en esta
+ *    instancia; las demás lo ven tras security.token-version.ttl-seconds
+ *
+ * Buenas prácticas:
+ *  - Cubre cualquier escritor de roles (controllers, servicios, importaciones) sin
+ *    depender de que cada uno llame a TokenVersionRegistry.revokeAll()
+ *  - Los usuarios nuevos no cuentan: al persistirlos Hibernate envuelve sus roles en
+ *    una colección que aún no está sucia
+ *  - Quitar todos los roles con clear() o un Set vacío; un null no se detecta
+ *  - Sin estado: una sola instancia para toda la SessionFactory
+ */
+@Component
+public class RoleChangeInterceptor implements Interceptor, HibernatePropertiesCustomizer {
+
+    private final ObjectProvider<TokenVersionRegistry> tokenVersions;
+
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    public RoleChangeInterceptor(ObjectProvider<TokenVersionRegistry> tokenVersions,
+                                 ObjectProvider<UserDetailsCache> userDetailsCache) {
+        this.tokenVersions = tokenVersions;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public void preFlush(Iterator<Object> entities) {
+        entities.forEachRemaining(entity -> {
+            if (entity instanceof User user && user.getId() != null && rolesChanged(user.getRoles())) {
+                user.setTokenVersion(user.getTokenVersion() + 1);
+                forgetAfterCommit(user.getId());
+            }
+        });
+    }
+
+    static boolean rolesChanged(Set<?> roles) {
+        if (roles instanceof PersistentCollection<?> collection) {
+            return collection.isDirty();
+        }
+        // Set nuevo en un usuario ya gestionado: Hibernate recreará la colección
+        return roles != null;
+    }
+
+    private void forgetAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return; // Sin transacción de Spring: se verá al caducar la versión en memoria
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenVersions.getObject().forget(userId);
+                userDetailsCache.getObject().evictById(userId);
+            }
+        });
+    }
+}
@@ -1,12 +1,18 @@
 package com.whitechapel.comics_collection_api.security;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -17,8 +23,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *
  * Funciones:
  *  - Define qué endpoints son públicos y cuáles requieren autenticación
+ *  - Restringe /api/admin/** al rol ADMIN
+ *  - Actuator: /actuator/health es público; el resto solo por el puerto de gestión
+ *    o con rol ADMIN
  *  - Configura filtro JwtAuthenticationFilter
  *  - Configura autenticación sin sesiones (stateless)
+ *  - Verifica passwords en un pool dedicado para no bloquear la API
  */
 @Configuration
 public class SecurityConfig {
@@ -26,9 +36,26 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * BCrypt con coste configurable, ejecutado en el pool acotado de PasswordHashingExecutor.
+     * Si se sube security.password.bcrypt-strength, los hashes antiguos se
+     * recalculan en el siguiente login correcto (ver PasswordRehashService).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           PasswordHashingExecutor passwordHashingExecutor) {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingExecutor);
+    }
+
+    /**
+     * Único AuthenticationProvider: Spring Security no crea el DaoAuthenticationProvider
+     * por defecto y el rehash tras el login no puede convertirlo en un 429.
+     */
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         PasswordRehashService passwordRehashService) {
+        return new RehashingAuthenticationProvider(userDetailsService, passwordEncoder, passwordRehashService);
     }
 
     @Bean
@@ -37,7 +64,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, Environment environment) throws Exception {
         http
             .csrf(csrf -> csrf.disable()) // REST API sin CSRF
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -47,7 +74,18 @@ public class SecurityConfig {
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/",
-                    "/api/auth/**").permitAll()
+                    "/auth/login",
+                    "/auth/register",
+                    // Salud para el balanceador (sin detalles)
+                    "/actuator/health").permitAll()
+                // Métricas para Prometheus: solo por el puerto de gestión (MANAGEMENT_PORT),
+                // que no se publica fuera de la red interna
+                .requestMatchers(request -> isManagementPort(request, environment)).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // Portadas locales: las etiquetas img no envían el token
+                .requestMatchers(HttpMethod.GET, "/covers/**").permitAll()
+                // Contadores internos (cachés, tokens revocados): solo administradores
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
 
@@ -56,6 +94,16 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * Request recibida por el puerto de gestión de Actuator (management.server.port).
+     * El puerto real se lee al atender la request porque puede ser aleatorio en los tests;
+     * si gestión y API comparten puerto, local.management.port no existe y devuelve false.
+     */
+    private static boolean isManagementPort(HttpServletRequest request, Environment environment) {
+        Integer port = environment.getProperty("local.management.port", Integer.class);
+        return port != null && port == request.getLocalPort();
+    }
 }
 
 /* Flujo de seguridad JWT
@@ -107,7 +155,8 @@ public class SecurityConfig {
 │  - Intercepta la request      │
 │  - Extrae token de Authorization
 │  - Valida token con JwtTokenProvider
-│  - Si válido: carga usuario con UserDetailsService
+│  - Si válido: construye el usuario con los claims
+│    (id, roles) y comprueba la versión de tokens
 │  - Inserta Authentication en SecurityContext
 └─────────────┬────────────────┘
               │
@@ -0,0 +1,203 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.whitechapel.comics_collection_api.entity.RevokedToken;
+import com.whitechapel.comics_collection_api.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de tokens revocados individualmente (claim "jti").
+ *
+ * Función:
+ *  - El filtro JWT pregunta isRevoked() en cada request sin consultar PostgreSQL
+ *  - Un filtro de Bloom descarta en O(1) la inmensa mayoría de tokens (no revocados);
+ *    solo sus posibles positivos se confirman en el mapa exacto jti -> expiración
+ *  - La tabla revoked_token persiste las revocaciones para sobrevivir a reinicios
+ *  - Un job periódico lee las revocaciones hechas en otras instancias (revoked_at
+ *    posterior a la última lectura): se ven aquí tras security.revocation.sync-interval-ms
+ *  - Otro job periódico purga las revocaciones de tokens ya expirados (memoria y tabla)
+ *
+ * Complementa a TokenVersionRegistry: aquella revoca todos los tokens de un usuario,
+ * esta revoca un token concreto (logout de un dispositivo).
+ */
+@Component
+public class TokenRevocationRegistry implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    // Margen hacia atrás de cada lectura periódica: revoked_at se fija antes del commit
+    // (una transacción lenta confirma filas "antiguas") y los relojes de las instancias difieren
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final int expectedEntries;
+
+    private final double falsePositiveRate;
+
+    // jti -> expiración (epoch millis); fuente exacta en memoria
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // Se sustituye entera al purgar o al superar su capacidad (los Bloom no admiten borrados)
+    private volatile BloomFilter filter;
+    private volatile int filterCapacity;
+
+    // Inicio de la última lectura de la tabla (carga o sync)
+    private volatile Instant syncedAt;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   @Value("${security.revocation.expected-entries:10000}") int expectedEntries,
+                                   @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filterCapacity = expectedEntries;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Carga las revocaciones vigentes al arrancar, antes de que el servidor web
+     * acepte requests: con ApplicationReadyEvent había una ventana en la que un
+     * token revocado volvía a ser válido tras un reinicio.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    synchronized void load() {
+        Instant now = Instant.now();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            revoked.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+        }
+        rebuildFilter();
+        syncedAt = now;
+        logger.info("Registro de revocaciones cargado: {} tokens", revoked.size());
+    }
+
+    /**
+     * Incorpora las revocaciones guardadas por otras instancias desde la última lectura.
+     * Volver a leer una ya conocida (por el margen SYNC_OVERLAP) no cambia nada.
+     * La consulta se hace sin el monitor: revocar en esta instancia no espera a la BD.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:10000}",
+               initialDelayString = "${security.revocation.sync-interval-ms:10000}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = (syncedAt != null ? syncedAt : now).minus(SYNC_OVERLAP);
+        int added = 0;
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now)) {
+            if (!revoked.containsKey(token.getJti())) {
+                remember(token.getJti(), token.getExpiresAt().toEpochMilli());
+                added++;
+            }
+        }
+        syncedAt = now;
+        if (added > 0) {
+            logger.debug("Revocaciones de otras instancias incorporadas: {}", added);
+        }
+    }
+
+    /**
+     * Comprueba si un token fue revocado. Tokens sin jti (emitidos antes de existir
+     * el claim) no pueden revocarse individualmente.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * Revoca un token hasta su expiración.
+     * La memoria se actualiza después del commit: si la transacción se deshace,
+     * el token no queda revocado en esta instancia y válido en las demás.
+     */
+    @Transactional
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return; // Sin jti no se puede identificar; si ya expiró no hace falta revocarlo
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, userId, expiresAt, Instant.now()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(jti, expiresAt.toEpochMilli());
+                }
+            });
+        } else {
+            remember(jti, expiresAt.toEpochMilli());
+        }
+    }
+
+    /**
+     * Purga las revocaciones de tokens ya expirados: un token expirado
+     * lo rechaza el parser JWT y ya no necesita estar aquí.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.prune-interval-ms:600000}",
+               initialDelayString = "${security.revocation.prune-interval-ms:600000}")
+    @Transactional
+    public void prune() {
+        long now = System.currentTimeMillis();
+        forgetExpired(now);
+        int deleted = revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+        if (deleted > 0) {
+            logger.debug("Revocaciones expiradas purgadas: {}", deleted);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(revoked.size(), filterCapacity, filter.sizeInBytes());
+    }
+
+    /**
+     * Añade una revocación a la memoria. Las escrituras (revocar, purgar y reconstruir)
+     * se serializan con el monitor: una revocación nunca cae en un filtro que se está
+     * sustituyendo. Las lecturas (isRevoked) no se bloquean.
+     */
+    synchronized void remember(String jti, long expiresAt) {
+        revoked.put(jti, expiresAt);
+        filter.put(jti);
+        if (revoked.size() > filterCapacity) {
+            rebuildFilter(); // Por encima de su capacidad la tasa de falsos positivos se dispara
+        }
+    }
+
+    synchronized void forgetExpired(long now) {
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildFilter();
+        }
+    }
+
+    // Solo con el monitor tomado. El filtro nuevo se rellena antes de publicarlo
+    private void rebuildFilter() {
+        int capacity = Math.max(expectedEntries, revoked.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filterCapacity = capacity;
+        filter = rebuilt;
+    }
+
+    public record Stats(int revokedTokens, int filterCapacity, long filterBytes) {
+
+        @JsonProperty
+        public double bytesPerToken() {
+            return revokedTokens == 0 ? 0 : (double) filterBytes / revokedTokens;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de la versión de tokens de cada usuario.
+ *
+ * Función:
+ *  - Cada JWT lleva la versión vigente del usuario en el claim "ver"
+ *  - Un token solo es válido si su versión coincide con la actual
+ *  - Incrementar la versión revoca de golpe todos los tokens del usuario
+ *    (logout global, cambio de roles o de contraseña)
+ *
+ * Buenas prácticas:
+ *  - La versión se sirve desde memoria durante security.token-version.ttl-seconds:
+ *    el filtro JWT no hace una consulta en cada request, y un revokeAll() hecho en
+ *    otra instancia se ve como mucho tras ese tiempo
+ *  - La consulta se hace fuera de cualquier lock (nunca dentro de computeIfAbsent)
+ *  - Los usuarios inexistentes no se cachean
+ *  - Las versiones solo crecen: una lectura lenta nunca sustituye a una versión más nueva
+ *  - La columna app_user.token_version es la fuente de verdad y sobrevive a reinicios
+ */
+@Component
+public class TokenVersionRegistry {
+
+    // Valor usado cuando el usuario ya no existe: ningún token puede coincidir
+    private static final int UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository, UserDetailsCache userDetailsCache,
+                                @Value("${security.token-version.ttl-seconds:30}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Versión vigente de los tokens del usuario.
+     */
+    public int currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.version();
+        }
+        return refresh(userId, now);
+    }
+
+    /**
+     * Comprueba si la versión de un token sigue vigente.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return userId != null && tokenVersion != UNKNOWN_USER && currentVersion(userId) == tokenVersion;
+    }
+
+    /**
+     * Revoca todos los tokens emitidos hasta ahora para el usuario.
+     * Debe llamarse al cambiar sus roles o su contraseña: también desaloja
+     * al usuario de la caché de UserDetails.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        refresh(userId, System.currentTimeMillis());
+        userDetailsCache.evictById(userId);
+    }
+
+    /**
+     * Olvida la versión en memoria; se volverá a leer en el siguiente uso.
+     */
+    public void forget(Long userId) {
+        versions.remove(userId);
+    }
+
+    /**
+     * Lee la versión de la base de datos y la guarda, salvo que ya haya una más nueva.
+     */
+    private int refresh(Long userId, long now) {
+        Integer loaded = userRepository.findTokenVersionById(userId).orElse(null);
+        if (loaded == null) {
+            versions.remove(userId);
+            return UNKNOWN_USER;
+        }
+        Entry fresh = new Entry(loaded, now + ttlMillis);
+        return versions.merge(userId, fresh,
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current).version();
+    }
+
+    private record Entry(int version, long expiresAt) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caché acotada (LRU + TTL) de UserDetails delante de la base de datos.
+ *
+ * Función:
+ *  - Evita una consulta a app_user + user_roles en cada login
+ *  - Guarda copias inmutables (UserSnapshot), nunca entidades JPA
+ *  - Expone contadores de aciertos, fallos y desalojos para dimensionarla
+ *
+ * Invalidación explícita:
+ *  - /auth/register desaloja el username registrado
+ *  - Cambios de roles o password pasan por TokenVersionRegistry.revokeAll(),
+ *    que desaloja al usuario por id
+ *  - Cada desalojo avanza una generación: una carga que empezó antes de un
+ *    desalojo no se guarda, para no reponer una copia ya obsoleta
+ */
+@Component
+public class UserDetailsCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // LinkedHashMap en orden de acceso = LRU; protegido por el monitor de la instancia
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Avanza con cada desalojo explícito; protegido por el monitor de la instancia
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserDetailsCache(@Value("${security.user-cache.max-size:1000}") int maxSize,
+                            @Value("${security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Devuelve el usuario en caché o lo carga con el loader indicado.
+     * Los fallos de carga (usuario inexistente) no se cachean.
+     */
+    public UserSnapshot get(String username, Function<String, UserSnapshot> loader) {
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+            Entry entry = entries.get(username);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.user;
+            }
+            if (entry != null) {
+                entries.remove(username);
+                evictions.increment();
+            }
+        }
+
+        // La carga se hace fuera del lock para no serializar las consultas
+        misses.increment();
+        UserSnapshot user = loader.apply(username);
+
+        synchronized (this) {
+            if (generation != loadGeneration) {
+                // Hubo un desalojo durante la carga: la copia puede ser anterior a él
+                return user;
+            }
+            entries.put(username, new Entry(user, now + ttlMillis));
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Desaloja un usuario por username.
+     */
+    public synchronized void evict(String username) {
+        generation++;
+        if (entries.remove(username) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Desaloja un usuario por id (cambios de roles o de password).
+     */
+    public synchronized void evictById(Long userId) {
+        generation++;
+        if (entries.values().removeIf(entry -> entry.user.id().equals(userId))) {
+            invalidations.increment();
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Instantánea de los contadores de la caché.
+     */
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    public record Stats(int size, int maxSize, long hits, long misses, long evictions, long invalidations) {
+
+        @JsonProperty
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(UserSnapshot user, long expiresAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Copia inmutable de un usuario para la caché de UserDetails.
+ *
+ * Función:
+ *  - Guarda solo lo necesario para autenticar (id, username, hash, authorities, versión)
+ *  - Evita cachear entidades User vivas con su colección de Role
+ *
+ * Nota: no implementa CredentialsContainer a propósito; la misma instancia se
+ * comparte entre requests y Spring Security no debe borrarle el password.
+ */
+public record UserSnapshot(Long id,
+                           String username,
+                           String password,
+                           Set<GrantedAuthority> authorities,
+                           int tokenVersion) implements UserDetails {
+
+    public UserSnapshot {
+        authorities = Set.copyOf(authorities);
+    }
+
+    /**
+     * Crea la copia a partir de la entidad cargada de la base de datos.
+     */
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                Set.copyOf(user.getAuthorities()),
+                user.getTokenVersion());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        // Nunca exponer el hash del password en logs
+        return "UserSnapshot[id=" + id + ", username=" + username + ", authorities=" + authorities + "]";
+    }
+}
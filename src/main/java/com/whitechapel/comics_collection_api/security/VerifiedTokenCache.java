@@ -0,0 +1,87 @@
+package com.whitechapel.comics_collection_api.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché acotada de tokens JWT ya verificados.
+ *
+ * Función:
+ *  - Evita repetir la verificación de firma HMAC para clientes que envían
+ *    el mismo token en cada request
+ *  - Cada entrada caduca con el propio token (claim "exp"), nunca sobrevive a él
+ *
+ * Buenas prácticas:
+ *  - Tamaño máximo fijo: al llenarse se purgan primero las entradas expiradas
+ *    y, si no basta, se descartan entradas arbitrarias
+ *  - Solo se guardan tokens cuya firma ya fue validada por el parser
+ */
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+
+    private final Map<String, Claims> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Devuelve los claims de un token verificado previamente,
+     * o null si no está en caché o ya ha expirado.
+     */
+    public Claims get(String token, long nowMillis) {
+        Claims claims = entries.get(token);
+        if (claims == null) {
+            return null;
+        }
+        if (isExpired(claims, nowMillis)) {
+            entries.remove(token);
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Guarda los claims de un token recién verificado.
+     */
+    public void put(String token, Claims claims, long nowMillis) {
+        if (claims.getExpiration() == null) {
+            return; // Sin expiración no sabemos cuándo invalidar la entrada
+        }
+        if (entries.size() >= maxEntries) {
+            makeRoom(nowMillis);
+        }
+        entries.put(token, claims);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void makeRoom(long nowMillis) {
+        // 1. Purgar entradas expiradas
+        entries.values().removeIf(claims -> isExpired(claims, nowMillis));
+
+        // 2. Si sigue llena, descartar entradas hasta dejar un 10% libre
+        Iterator<String> it = entries.keySet().iterator();
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static boolean isExpired(Claims claims, long nowMillis) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.getTime() <= nowMillis;
+    }
+}
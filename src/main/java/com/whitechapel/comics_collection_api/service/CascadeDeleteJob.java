@@ -0,0 +1,76 @@
+package com.whitechapel.comics_collection_api.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de un borrado en cascada (publisher o serie con sus cómics).
+ *
+ * Se serializa tal cual como respuesta de progreso; los contadores son
+ * atómicos porque el job avanza en otro hilo mientras se consulta.
+ */
+public class CascadeDeleteJob {
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String target;
+    private final Long targetId;
+    private final long totalComics;
+    private final AtomicLong deletedComics = new AtomicLong();
+    private final Instant startedAt = Instant.now();
+
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    CascadeDeleteJob(String id, String target, Long targetId, long totalComics) {
+        this.id = id;
+        this.target = target;
+        this.targetId = targetId;
+        this.totalComics = totalComics;
+    }
+
+    public String getId() { return id; }
+
+    public String getTarget() { return target; }
+
+    public Long getTargetId() { return targetId; }
+
+    public State getState() { return state; }
+
+    public long getTotalComics() { return totalComics; }
+
+    public long getDeletedComics() { return deletedComics.get(); }
+
+    /**
+     * Fracción completada (0..1); el total es una estimación tomada al empezar.
+     */
+    public double getProgress() {
+        if (state == State.COMPLETED) return 1.0;
+        return totalComics == 0 ? 0.0 : Math.min(1.0, (double) deletedComics.get() / totalComics);
+    }
+
+    public Instant getStartedAt() { return startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+
+    public String getError() { return error; }
+
+    boolean isFinished() { return state != State.RUNNING; }
+
+    void advance(long comics) {
+        deletedComics.addAndGet(comics);
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+}
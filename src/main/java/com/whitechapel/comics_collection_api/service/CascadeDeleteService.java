@@ -0,0 +1,331 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.ComicState;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Borrado en cascada de publishers y series con sentencias set-based.
+ *
+ * Función:
+ *  - Sustituye a la cascada JPA (CascadeType.ALL + orphanRemoval), que carga cada
+ *    cómic en el contexto de persistencia y lo borra uno a uno
+ *  - Por bloques de ids: "delete from comic_creators where comic_id in (...)" y
+ *    "delete from Comic where id in (...)"; al final las series y el publisher
+ *  - Cascadas pequeñas: en la request, en una sola transacción
+ *  - Cascadas grandes: job en segundo plano, una transacción por bloque,
+ *    con progreso consultable en /api/cascade-deletes/{jobId}
+ *
+ * Buenas prácticas:
+ *  - Transacciones cortas: cada bloque confirma y libera sus locks
+ *  - Publica un solo EntitiesBulkChangedEvent de cómics por cascada, con su estado
+ *    previo, y otro de series y publisher: las sentencias masivas no pasan por los
+ *    listeners de Hibernate y los contadores se ajustan sin reconstruirse por bloque
+ *  - El job guarda el estado de los cómics ya borrados (unos 100 bytes por cómic)
+ *    hasta publicarlo al final, también si falla a medias
+ *  - Un solo job activo por publisher o serie
+ */
+@Service
+public class CascadeDeleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CascadeDeleteService.class);
+
+    // Jobs terminados que se siguen mostrando antes de olvidarlos
+    private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+    private final ComicRepository comicRepository;
+
+    private final SeriesRepository seriesRepository;
+
+    private final PublisherRepository publisherRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transaction;
+
+    private final int chunkSize;
+
+    private final long syncThreshold;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, CascadeDeleteJob> jobs = new ConcurrentHashMap<>();
+
+    // "publisher:3" -> job activo
+    private final Map<String, CascadeDeleteJob> activeByTarget = new ConcurrentHashMap<>();
+
+    public CascadeDeleteService(ComicRepository comicRepository,
+                                SeriesRepository seriesRepository,
+                                PublisherRepository publisherRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${cascade-delete.chunk-size:1000}") int chunkSize,
+                                @Value("${cascade-delete.sync-threshold:1000}") long syncThreshold,
+                                @Value("${cascade-delete.queue:16}") int queueCapacity) {
+        this.comicRepository = comicRepository;
+        this.seriesRepository = seriesRepository;
+        this.publisherRepository = publisherRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.syncThreshold = syncThreshold;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "cascade-delete-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Borra una serie y sus cómics.
+     *
+     * @return vacío si la serie no existe; si no, el job (COMPLETED si se hizo en la request)
+     */
+    public Optional<CascadeDeleteJob> deleteSeries(Long seriesId) {
+        if (!seriesRepository.existsById(seriesId)) {
+            return Optional.empty();
+        }
+        return Optional.of(start(new Cascade("series", seriesId,
+                limit -> comicRepository.findStatesBySeriesId(seriesId, limit),
+                () -> comicRepository.countBySeriesId(seriesId),
+                () -> {
+                    seriesRepository.deleteAllByIdIn(Set.of(seriesId));
+                    eventPublisher.publishEvent(new EntitiesBulkChangedEvent(Series.class, ChangeType.DELETE, Set.of(seriesId)));
+                })));
+    }
+
+    /**
+     * Borra un publisher, sus series y todos sus cómics.
+     *
+     * @return vacío si el publisher no existe; si no, el job (COMPLETED si se hizo en la request)
+     */
+    public Optional<CascadeDeleteJob> deletePublisher(Long publisherId) {
+        if (!publisherRepository.existsById(publisherId)) {
+            return Optional.empty();
+        }
+        return Optional.of(start(new Cascade("publisher", publisherId,
+                limit -> comicRepository.findStatesByPublisherCascade(publisherId, limit),
+                () -> comicRepository.countByPublisherCascade(publisherId),
+                () -> {
+                    List<Long> seriesIds = seriesRepository.findIdsByPublisherId(publisherId);
+                    if (!seriesIds.isEmpty()) {
+                        seriesRepository.deleteAllByIdIn(seriesIds);
+                        eventPublisher.publishEvent(new EntitiesBulkChangedEvent(Series.class, ChangeType.DELETE, Set.copyOf(seriesIds)));
+                    }
+                    publisherRepository.deleteWithoutCascadeById(publisherId);
+                    eventPublisher.publishEvent(new EntitiesBulkChangedEvent(Publisher.class, ChangeType.DELETE, Set.of(publisherId)));
+                })));
+    }
+
+    /**
+     * Estado de un job (en curso o terminado hace menos de una hora).
+     */
+    public Optional<CascadeDeleteJob> job(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CascadeDeleteJob start(Cascade cascade) {
+        pruneFinished();
+        String key = cascade.target() + ":" + cascade.targetId();
+        CascadeDeleteJob active = activeByTarget.get(key);
+        if (active != null) {
+            return active; // Ya se está borrando
+        }
+
+        long total = cascade.count().getAsLong();
+        CascadeDeleteJob job = new CascadeDeleteJob(UUID.randomUUID().toString(), cascade.target(), cascade.targetId(), total);
+
+        if (total <= syncThreshold) {
+            // Cascada pequeña: todo en la request y en una sola transacción
+            transaction.executeWithoutResult(status -> {
+                DeletedComics deleted = new DeletedComics();
+                int chunk;
+                while ((chunk = deleteChunk(cascade, deleted)) > 0) {
+                    job.advance(chunk);
+                }
+                deleted.publish(eventPublisher);
+                cascade.deleteParents().run();
+            });
+            job.complete();
+            return job;
+        }
+
+        if (activeByTarget.putIfAbsent(key, job) != null) {
+            return activeByTarget.get(key);
+        }
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(cascade, job, key));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            activeByTarget.remove(key);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Demasiados borrados en curso, reintenta más tarde");
+        }
+        return job;
+    }
+
+    private void run(Cascade cascade, CascadeDeleteJob job, String key) {
+        long start = System.currentTimeMillis();
+        // Cómics de los bloques ya confirmados: se publican todos juntos al final
+        DeletedComics committed = new DeletedComics();
+        boolean published = false;
+        try {
+            // Un bloque por transacción mientras salgan bloques completos
+            int deleted;
+            do {
+                DeletedComics chunk = new DeletedComics();
+                deleted = transaction.execute(status -> deleteChunk(cascade, chunk));
+                committed.addAll(chunk);
+                job.advance(deleted);
+            } while (deleted == chunkSize);
+
+            // Última transacción: cómics añadidos mientras tanto, series y publisher
+            transaction.executeWithoutResult(status -> {
+                DeletedComics all = new DeletedComics();
+                all.addAll(committed);
+                int remaining;
+                while ((remaining = deleteChunk(cascade, all)) > 0) {
+                    job.advance(remaining);
+                }
+                all.publish(eventPublisher);
+                cascade.deleteParents().run();
+            });
+            published = true;
+            job.complete();
+            logger.info("Borrado en cascada de {} {} terminado: {} cómics en {} ms",
+                    cascade.target(), cascade.targetId(), job.getDeletedComics(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            logger.error("Borrado en cascada de {} {} fallido tras {} cómics",
+                    cascade.target(), cascade.targetId(), job.getDeletedComics(), e);
+        } finally {
+            if (!published) {
+                publishCommitted(committed);
+            }
+            activeByTarget.remove(key);
+        }
+    }
+
+    /**
+     * Job fallido o interrumpido: los bloques ya confirmados siguen borrados y
+     * las estructuras derivadas tienen que enterarse.
+     */
+    private void publishCommitted(DeletedComics committed) {
+        if (committed.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> committed.publish(eventPublisher));
+        } catch (RuntimeException e) {
+            logger.error("No se pudo publicar el borrado de {} cómics", committed.ids.size(), e);
+        }
+    }
+
+    /**
+     * Borra el siguiente bloque de cómics (enlaces con creadores y cómics) y
+     * guarda su estado previo en deleted.
+     */
+    private int deleteChunk(Cascade cascade, DeletedComics deleted) {
+        List<ComicState> states = cascade.comics().apply(Limit.of(chunkSize));
+        if (states.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = states.stream().map(ComicState::id).toList();
+        comicRepository.deleteCreatorLinksByComicIdIn(ids);
+        comicRepository.deleteAllByIdIn(ids);
+        deleted.add(states);
+        return ids.size();
+    }
+
+    private void pruneFinished() {
+        Instant limit = Instant.now().minus(FINISHED_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    private record Cascade(String target,
+                           Long targetId,
+                           Function<Limit, List<ComicState>> comics,
+                           LongSupplier count,
+                           Runnable deleteParents) {
+    }
+
+    /**
+     * Cómics borrados por una cascada, para publicarlos en un único evento.
+     */
+    private static final class DeletedComics {
+
+        private final Set<Long> ids = new HashSet<>();
+
+        private final List<ComicState> states = new ArrayList<>();
+
+        void add(List<ComicState> chunk) {
+            chunk.forEach(state -> {
+                if (ids.add(state.id())) {
+                    states.add(state);
+                }
+            });
+        }
+
+        void addAll(DeletedComics other) {
+            add(other.states);
+        }
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        /**
+         * Publica el evento en la transacción actual (los listeners actúan tras el commit).
+         */
+        void publish(ApplicationEventPublisher eventPublisher) {
+            if (!isEmpty()) {
+                eventPublisher.publishEvent(new EntitiesBulkChangedEvent(
+                        Comic.class, ChangeType.DELETE, Set.copyOf(ids), List.copyOf(states)));
+            }
+        }
+    }
+}
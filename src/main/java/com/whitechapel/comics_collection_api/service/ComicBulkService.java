@@ -0,0 +1,159 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.dto.BulkItemResult;
+import com.whitechapel.comics_collection_api.dto.ComicBulkPatch;
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.ComicState;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Operaciones por lotes sobre cómics: lectura, modificación y borrado de varios ids.
+ *
+ * Función:
+ *  - Lectura: 2 sentencias sea cual sea el número de ids (vistas + creadores)
+ *  - Escritura: sentencias set-based ("update/delete ... where id in") en una
+ *    sola transacción, en lugar de N requests con N transacciones
+ *  - Devuelve un resultado por id (200 o 404), en el orden en que se pidieron
+ *
+ * Buenas prácticas:
+ *  - Límite de ids por llamada para acotar el tamaño de la cláusula IN
+ *  - Las modificaciones incrementan version y lastModified (ETags coherentes)
+ *  - Publica EntitiesBulkChangedEvent con el estado anterior de los cómics (leído en
+ *    la misma consulta que comprueba qué ids existen): las sentencias masivas no pasan
+ *    por los listeners de Hibernate y las estructuras derivadas se actualizan solo
+ *    para esos cómics
+ *  - Ese estado se lee con las filas bloqueadas (for update): otra escritura sobre los
+ *    mismos cómics espera al commit y no deja los contadores desajustados
+ */
+@Service
+@Transactional
+public class ComicBulkService {
+
+    // Máximo de ids por llamada
+    public static final int MAX_IDS = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ComicRepository comicRepository;
+
+    private final ComicQueryService comicQueryService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ComicBulkService(ComicRepository comicRepository,
+                            ComicQueryService comicQueryService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.comicRepository = comicRepository;
+        this.comicQueryService = comicQueryService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Varios cómics por id con un resultado por id (404 para los que no existen).
+     */
+    @Transactional(readOnly = true)
+    public List<BulkItemResult<ComicView>> findAll(Collection<Long> ids) {
+        Set<Long> requested = checkIds(ids);
+        Map<Long, ComicView> found = comicQueryService.findAllById(requested).stream()
+                .collect(Collectors.toMap(ComicView::id, Function.identity()));
+        return requested.stream()
+                .map(id -> found.containsKey(id)
+                        ? BulkItemResult.ok(id, found.get(id))
+                        : BulkItemResult.<ComicView>notFound(id))
+                .toList();
+    }
+
+    /**
+     * Aplica los mismos cambios a varios cómics con un único UPDATE.
+     */
+    public List<BulkItemResult<Void>> patch(ComicBulkPatch patch) {
+        Set<Long> requested = checkIds(patch.ids());
+        if (!patch.hasChanges()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No changes to apply");
+        }
+        List<ComicState> previous = comicRepository.findStatesForUpdateByIdIn(requested);
+        Set<Long> existing = idsOf(previous);
+        if (!existing.isEmpty()) {
+            Map<String, Object> changes = new HashMap<>();
+            if (patch.owned() != null) changes.put("owned", patch.owned());
+            if (patch.condition() != null) changes.put("condition", patch.condition());
+            if (patch.purchasePrice() != null) changes.put("purchasePrice", patch.purchasePrice());
+            if (patch.purchaseDate() != null) changes.put("purchaseDate", patch.purchaseDate());
+            if (patch.notes() != null) changes.put("notes", patch.notes());
+
+            // Los nombres de propiedad son fijos (no vienen del cliente): JPQL construido con seguridad
+            StringBuilder jpql = new StringBuilder("update Comic c set ");
+            changes.keySet().forEach(property -> jpql.append("c.").append(property).append(" = :").append(property).append(", "));
+            jpql.append("c.version = c.version + 1, c.lastModified = :now where c.id in :ids");
+
+            Query update = entityManager.createQuery(jpql.toString());
+            changes.forEach(update::setParameter);
+            update.setParameter("now", Instant.now());
+            update.setParameter("ids", existing);
+            update.executeUpdate();
+
+            eventPublisher.publishEvent(new EntitiesBulkChangedEvent(Comic.class, ChangeType.UPDATE, existing, previous));
+        }
+        return results(requested, existing);
+    }
+
+    /**
+     * Borra varios cómics con dos sentencias (enlaces con creadores y cómics).
+     */
+    public List<BulkItemResult<Void>> delete(Collection<Long> ids) {
+        Set<Long> requested = checkIds(ids);
+        List<ComicState> previous = comicRepository.findStatesForUpdateByIdIn(requested);
+        Set<Long> existing = idsOf(previous);
+        if (!existing.isEmpty()) {
+            comicRepository.deleteCreatorLinksByComicIdIn(existing);
+            comicRepository.deleteAllByIdIn(existing);
+            eventPublisher.publishEvent(new EntitiesBulkChangedEvent(Comic.class, ChangeType.DELETE, existing, previous));
+        }
+        return results(requested, existing);
+    }
+
+    private static Set<Long> checkIds(Collection<Long> ids) {
+        // Sin duplicados y en el orden pedido
+        Set<Long> unique = ids != null ? new LinkedHashSet<>(ids) : new LinkedHashSet<>();
+        unique.remove(null);
+        if (unique.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids is required");
+        }
+        if (unique.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids per request");
+        }
+        return unique;
+    }
+
+    private static Set<Long> idsOf(List<ComicState> states) {
+        return states.stream().map(ComicState::id).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static List<BulkItemResult<Void>> results(Set<Long> requested, Set<Long> existing) {
+        return requested.stream()
+                .map(id -> existing.contains(id) ? BulkItemResult.<Void>ok(id) : BulkItemResult.<Void>notFound(id))
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.dto.ComicCreatorRef;
+import com.whitechapel.comics_collection_api.dto.ComicView;
+import com.whitechapel.comics_collection_api.dto.EntityRef;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.pagination.CursorPage;
+import com.whitechapel.comics_collection_api.pagination.KeysetCursor;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de lectura de cómics (read model).
+ *
+ * Función:
+ *  - Devuelve ComicView en lugar de entidades Comic
+ *  - Coste en SQL constante por página: filas (serie + publisher por JOIN),
+ *    count cuando se pide Page, y una única consulta IN para los creadores
+ *
+ * Buenas prácticas:
+ *  - Transacciones de solo lectura
+ *  - Nunca se recorren colecciones perezosas (N+1)
+ */
+@Service
+@Transactional(readOnly = true)
+public class ComicQueryService {
+
+    private final ComicRepository comicRepository;
+
+    public ComicQueryService(ComicRepository comicRepository) {
+        this.comicRepository = comicRepository;
+    }
+
+    /**
+     * Página de cómics: 3 sentencias (filas, count y creadores).
+     */
+    public Page<ComicView> findPage(Pageable pageable) {
+        Page<ComicView> page = comicRepository.findViews(pageable);
+        Map<Long, List<EntityRef>> creators = creatorsByComic(page.map(ComicView::id).getContent());
+        return page.map(view -> view.withCreators(creators.getOrDefault(view.id(), List.of())));
+    }
+
+    /**
+     * Un cómic por id: 2 sentencias (fila y creadores).
+     */
+    public Optional<ComicView> findById(Long id) {
+        return findAllById(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Varios cómics por id: 2 sentencias sea cual sea el número de ids.
+     */
+    public List<ComicView> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ComicView> views = comicRepository.findViewsByIdIn(ids);
+        Map<Long, List<EntityRef>> creators = creatorsByComic(views.stream().map(ComicView::id).toList());
+        return views.stream()
+                .map(view -> view.withCreators(creators.getOrDefault(view.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Página por cursor (keyset): 2 sentencias (filas con entity graph y creadores).
+     */
+    public CursorPage<ComicView> scroll(KeysetCursor keyset, Limit limit) {
+        Window<Comic> window = "purchaseDate".equals(keyset.property())
+                ? comicRepository.findAllByPurchaseDateIsNotNull(keyset.position(), keyset.sort(), limit)
+                : comicRepository.findAllBy(keyset.position(), keyset.sort(), limit);
+        Map<Long, List<EntityRef>> creators = creatorsByComic(window.getContent().stream().map(Comic::getId).toList());
+        return CursorPage.of(window, keyset,
+                comic -> ComicView.of(comic, creators.getOrDefault(comic.getId(), List.of())));
+    }
+
+    /**
+     * Carga los creadores de todos los cómics indicados con una sola consulta.
+     */
+    private Map<Long, List<EntityRef>> creatorsByComic(List<Long> comicIds) {
+        if (comicIds.isEmpty()) {
+            return Map.of();
+        }
+        return comicRepository.findCreatorRefsByComicIdIn(comicIds).stream()
+                .collect(Collectors.groupingBy(ComicCreatorRef::comicId,
+                        Collectors.mapping(ComicCreatorRef::toRef, Collectors.toList())));
+    }
+}
@@ -0,0 +1,265 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Actualizaciones de entidades que solo escriben lo que ha cambiado.
+ *
+ * Función:
+ *  - JSON Merge Patch (RFC 7396) para comics, series, publishers y creators:
+ *    los campos ausentes no se tocan, null borra el valor
+ *  - Las entidades llevan @DynamicUpdate: el UPDATE solo incluye las columnas sucias
+ *    (y ninguno si el patch no cambia nada)
+ *  - Los creadores de un cómic se modifican sobre la colección gestionada:
+ *    Hibernate solo inserta o borra las filas de comic_creators que cambian,
+ *    en lugar de borrarlas todas y reinsertarlas
+ *
+ * Buenas prácticas:
+ *  - Las referencias (series, publisher, creators) se indican por id
+ *    ({"id": 3} o 3) y se comprueba que existen antes de asignarlas: un id
+ *    inexistente es un 400, no una violación de clave foránea (500) al hacer flush
+ *  - Un campo desconocido en el patch es un 400 (no se ignora en silencio)
+ *  - Se valida la entidad resultante con las mismas constraints que en POST/PUT
+ *  - id, version y lastModified nunca se aceptan del cliente
+ */
+@Service
+@Transactional
+public class EntityUpdateService {
+
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    private static final Set<String> READ_ONLY = Set.of("id", "version", "lastModified");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ComicRepository comicRepository;
+
+    private final SeriesRepository seriesRepository;
+
+    private final PublisherRepository publisherRepository;
+
+    private final CreatorRepository creatorRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    public EntityUpdateService(ComicRepository comicRepository,
+                               SeriesRepository seriesRepository,
+                               PublisherRepository publisherRepository,
+                               CreatorRepository creatorRepository,
+                               ObjectMapper objectMapper,
+                               Validator validator) {
+        this.comicRepository = comicRepository;
+        this.seriesRepository = seriesRepository;
+        this.publisherRepository = publisherRepository;
+        this.creatorRepository = creatorRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    // ------------------------
+    // Comics
+    // ------------------------
+
+    /**
+     * Sustituye los campos editables de un cómic (PUT).
+     * Los creadores se sincronizan por diferencia, no se reemplaza la colección.
+     */
+    public Optional<Comic> updateComic(Long id, Comic details) {
+        Optional<Comic> optional = comicRepository.findById(id);
+        optional.ifPresent(comic -> {
+            comic.setTitle(details.getTitle());
+            comic.setIssueNumber(details.getIssueNumber());
+            comic.setYear(details.getYear());
+            comic.setVariant(details.getVariant());
+            comic.setSeries(details.getSeries() != null ? reference(Series.class, "series", details.getSeries().getId()) : null);
+            syncCreators(comic, details.getCreators() == null ? Set.of() : details.getCreators().stream()
+                    .map(Creator::getId)
+                    .collect(Collectors.toSet()));
+            comic.setOwned(details.isOwned());
+            comic.setCondition(details.getCondition());
+            comic.setPurchasePrice(details.getPurchasePrice());
+            comic.setPurchaseDate(details.getPurchaseDate());
+            comic.setNotes(details.getNotes());
+            comic.setCoverImageUrl(details.getCoverImageUrl());
+        });
+        return optional;
+    }
+
+    /**
+     * Aplica un JSON Merge Patch a un cómic.
+     * Ejemplo: {"condition": "Near Mint", "creators": [{"id": 1}, {"id": 7}]}
+     */
+    public Optional<Comic> patchComic(Long id, ObjectNode patch) {
+        Optional<Comic> optional = comicRepository.findById(id);
+        optional.ifPresent(comic -> {
+            ObjectNode scalars = patch.deepCopy();
+            JsonNode series = scalars.remove("series");
+            if (series != null) {
+                comic.setSeries(reference(Series.class, "series", requiredId("series", series)));
+            }
+            JsonNode publisher = scalars.remove("publisher");
+            if (publisher != null) {
+                comic.setPublisher(reference(Publisher.class, "publisher", referenceId("publisher", publisher)));
+            }
+            JsonNode creators = scalars.remove("creators");
+            if (creators != null) {
+                syncCreators(comic, referenceIds("creators", creators));
+            }
+            merge(comic, scalars);
+        });
+        return optional;
+    }
+
+    // ------------------------
+    // Series, publishers y creators
+    // ------------------------
+
+    public Optional<Series> patchSeries(Long id, ObjectNode patch) {
+        Optional<Series> optional = seriesRepository.findById(id);
+        optional.ifPresent(series -> {
+            ObjectNode scalars = patch.deepCopy();
+            JsonNode publisher = scalars.remove("publisher");
+            if (publisher != null) {
+                series.setPublisher(reference(Publisher.class, "publisher", requiredId("publisher", publisher)));
+            }
+            merge(series, scalars);
+        });
+        return optional;
+    }
+
+    public Optional<Publisher> patchPublisher(Long id, ObjectNode patch) {
+        Optional<Publisher> optional = publisherRepository.findById(id);
+        optional.ifPresent(publisher -> merge(publisher, patch.deepCopy()));
+        return optional;
+    }
+
+    public Optional<Creator> patchCreator(Long id, ObjectNode patch) {
+        Optional<Creator> optional = creatorRepository.findById(id);
+        optional.ifPresent(creator -> merge(creator, patch.deepCopy()));
+        return optional;
+    }
+
+    // ------------------------
+    // Auxiliares
+    // ------------------------
+
+    /**
+     * Deja en comic.creators exactamente los ids indicados tocando solo la diferencia.
+     */
+    private void syncCreators(Comic comic, Set<Long> wanted) {
+        Set<Creator> creators = comic.getCreators();
+        if (creators == null) {
+            comic.setCreators(creators = new HashSet<>());
+        }
+        // getId() de un proxy no lo inicializa
+        Set<Long> current = creators.stream().map(Creator::getId).collect(Collectors.toSet());
+        Set<Long> added = new HashSet<>(wanted);
+        added.removeAll(current);
+        // Se comprueban los nuevos antes de tocar la colección
+        List<Creator> found = added.isEmpty() ? List.of() : creatorRepository.findAllById(added);
+        if (found.size() != added.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "creators contains an id that does not exist");
+        }
+        creators.removeIf(creator -> !wanted.contains(creator.getId()));
+        creators.addAll(found);
+    }
+
+    /**
+     * Copia sobre la entidad los campos simples del patch y valida el resultado.
+     */
+    private <T> void merge(T entity, ObjectNode patch) {
+        READ_ONLY.forEach(patch::remove);
+        try {
+            objectMapper.readerForUpdating(entity)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (JacksonException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    /**
+     * Entidad referenciada por id, o 400 si no existe. find() y no getReference():
+     * un proxy de un id inexistente solo falla al hacer flush, como violación de FK.
+     */
+    private <T> T reference(Class<T> type, String field, Long id) {
+        if (id == null) {
+            return null;
+        }
+        T entity = entityManager.find(type, id);
+        if (entity == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " " + id + " does not exist");
+        }
+        return entity;
+    }
+
+    private static Long referenceId(String field, JsonNode node) {
+        if (node.isNull()) {
+            return null;
+        }
+        JsonNode id = node.isObject() ? node.get("id") : node;
+        if (id == null || !id.isIntegralNumber()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be an id or {\"id\": ...}");
+        }
+        return id.asLong();
+    }
+
+    private static Long requiredId(String field, JsonNode node) {
+        Long id = referenceId(field, node);
+        if (id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " is required");
+        }
+        return id;
+    }
+
+    private static Set<Long> referenceIds(String field, JsonNode node) {
+        if (node.isNull()) {
+            return Set.of();
+        }
+        if (!node.isArray()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be an array");
+        }
+        Set<Long> ids = new HashSet<>();
+        for (JsonNode element : node) {
+            Long id = referenceId(field, element);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Servicio que escribe listados completos en formato NDJSON (un JSON por línea).
+ *
+ * Función:
+ *  - Lee las filas con un cursor de servidor (Stream + fetch size)
+ *  - Escribe cada fila en la respuesta según se lee: la memoria usada no
+ *    depende del tamaño de la tabla
+ *
+ * Buenas prácticas:
+ *  - Transacción de solo lectura abierta mientras dura el Stream
+ *  - Proyecciones (records) en lugar de entidades: nada queda en el contexto de persistencia
+ *  - Flush periódico para que el cliente reciba datos desde el principio
+ */
+@Service
+@Transactional(readOnly = true)
+public class NdjsonStreamService {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    // Cada cuántas filas se fuerza el envío de lo escrito al socket
+    private static final int FLUSH_EVERY = 500;
+
+    private final SeriesRepository seriesRepository;
+    private final CreatorRepository creatorRepository;
+    private final ObjectWriter lineWriter;
+
+    public NdjsonStreamService(SeriesRepository seriesRepository,
+                               CreatorRepository creatorRepository,
+                               ObjectMapper objectMapper) {
+        this.seriesRepository = seriesRepository;
+        this.creatorRepository = creatorRepository;
+        this.lineWriter = objectMapper.writer().withRootValueSeparator("\n");
+    }
+
+    /**
+     * Escribe todas las series (SeriesView) en NDJSON.
+     */
+    public void writeSeries(OutputStream out) {
+        try (Stream<?> rows = seriesRepository.streamAllViews()) {
+            write(rows, out);
+        }
+    }
+
+    /**
+     * Escribe todos los creadores (CreatorView) en NDJSON.
+     */
+    public void writeCreators(OutputStream out) {
+        try (Stream<?> rows = creatorRepository.streamAllViews()) {
+            write(rows, out);
+        }
+    }
+
+    private void write(Stream<?> rows, OutputStream out) {
+        try (SequenceWriter sequence = lineWriter.writeValues(out)) {
+            int[] count = {0};
+            rows.forEach(row -> {
+                sequence.write(row);
+                if (++count[0] % FLUSH_EVERY == 0) {
+                    sequence.flush();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.dto.VersionStamp;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Huellas de versión (ETag / Last-Modified) de los recursos de la API.
+ *
+ * Función:
+ *  - Un recurso: una consulta de columnas sueltas (version, lastModified) del recurso
+ *    y de las entidades que aparecen en su vista
+ *  - Un listado: agregados (count, suma de ids, suma de versiones) de cada tabla
+ *    que aparece en la respuesta
+ *
+ * Buenas prácticas:
+ *  - Nunca se cargan entidades: así un 304 cuesta una consulta pequeña
+ *    en lugar de cargar y serializar el grafo completo
+ */
+@Service
+@Transactional(readOnly = true)
+public class VersionStampService {
+
+    private final ComicRepository comicRepository;
+
+    private final SeriesRepository seriesRepository;
+
+    private final PublisherRepository publisherRepository;
+
+    private final CreatorRepository creatorRepository;
+
+    public VersionStampService(ComicRepository comicRepository,
+                               SeriesRepository seriesRepository,
+                               PublisherRepository publisherRepository,
+                               CreatorRepository creatorRepository) {
+        this.comicRepository = comicRepository;
+        this.seriesRepository = seriesRepository;
+        this.publisherRepository = publisherRepository;
+        this.creatorRepository = creatorRepository;
+    }
+
+    public Optional<VersionStamp> comic(Long id) {
+        return comicRepository.findVersionStampById(id);
+    }
+
+    public Optional<VersionStamp> series(Long id) {
+        return seriesRepository.findVersionStampById(id);
+    }
+
+    public Optional<VersionStamp> publisher(Long id) {
+        return publisherRepository.findVersionStampById(id);
+    }
+
+    public Optional<VersionStamp> creator(Long id) {
+        return creatorRepository.findVersionStampById(id);
+    }
+
+    /**
+     * Listados de cómics: muestran serie, publisher y creadores.
+     */
+    public VersionStamp comics() {
+        return comicRepository.collectionVersionStamp()
+                .combine(seriesRepository.collectionVersionStamp())
+                .combine(publisherRepository.collectionVersionStamp())
+                .combine(creatorRepository.collectionVersionStamp());
+    }
+
+    /**
+     * Listados de series: muestran el publisher.
+     */
+    public VersionStamp seriesList() {
+        return seriesRepository.collectionVersionStamp()
+                .combine(publisherRepository.collectionVersionStamp());
+    }
+
+    public VersionStamp publishers() {
+        return publisherRepository.collectionVersionStamp();
+    }
+
+    public VersionStamp creators() {
+        return creatorRepository.collectionVersionStamp();
+    }
+}
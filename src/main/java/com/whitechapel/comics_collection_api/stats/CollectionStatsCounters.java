@@ -0,0 +1,203 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.event.EntityChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores en memoria de las cifras más consultadas de la colección.
+ *
+ * Función:
+ *  - Al arrancar se inicializan con una única consulta agregada (GROUP BY publisher)
+ *  - Después se actualizan de forma incremental con cada alta, cambio o baja de
+ *    un cómic (EntityChangedEvent, tras el commit): las lecturas son O(1) y
+ *    nunca recorren la tabla comic
+ *  - Las operaciones masivas traen el estado anterior de los cómics afectados
+ *    y se aplican igual, solo sobre esos cómics
+ *  - Si un cambio llega sin estado anterior se recalculan desde la base de datos
+ *    con {@link #rebuild()}
+ *
+ * Los importes se guardan en céntimos (long) para no acumular errores de redondeo.
+ * El paso de precio a céntimos redondea igual en SQL (rebuild) y en Java (eventos):
+ * si no, un precio como 1.005 contaría distinto tras un rebuild.
+ */
+@Component
+public class CollectionStatsCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionStatsCounters.class);
+
+    // Clave usada para los cómics sin publisher (ConcurrentHashMap no admite null)
+    private static final long NO_PUBLISHER = 0L;
+
+    // PostgreSQL convierte float8 a numeric con 15 dígitos significativos (DBL_DIG)
+    private static final MathContext FLOAT8_TO_NUMERIC = new MathContext(15, RoundingMode.HALF_UP);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<Long, Counters> byPublisher = new ConcurrentHashMap<>();
+
+    public CollectionStatsCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Recalcula todos los contadores con una consulta agregada.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Counters> fresh = new ConcurrentHashMap<>();
+        jdbcTemplate.query("select coalesce(publisher_id, 0) as publisher_id, count(*) as comics, "
+                + "count(*) filter (where owned) as owned, "
+                + "coalesce(sum(round(purchase_price::numeric * 100)) filter (where owned), 0) as spent "
+                + "from comic group by coalesce(publisher_id, 0)", (RowCallbackHandler) rs -> {
+            Counters counters = new Counters();
+            counters.comics.set(rs.getLong("comics"));
+            counters.owned.set(rs.getLong("owned"));
+            counters.spentCents.set(rs.getLong("spent"));
+            fresh.put(rs.getLong("publisher_id"), counters);
+        });
+        byPublisher = fresh;
+        logger.info("Estadísticas de la colección recalculadas ({} publishers)", fresh.size());
+    }
+
+    /**
+     * Actualización incremental tras cada commit de un cómic.
+     */
+    @EventListener
+    public synchronized void onEntityChanged(EntityChangedEvent event) {
+        if (!event.is(Comic.class)) {
+            return;
+        }
+        Comic comic = (Comic) event.entity();
+        switch (event.type()) {
+            case INSERT -> apply(contributionOf(comic), 1);
+            case DELETE -> apply(contributionOf(comic), -1);
+            case UPDATE -> {
+                if (!event.hasPreviousState()) {
+                    rebuild();
+                    return;
+                }
+                apply(new Contribution(event.previousId("publisher"),
+                        Boolean.TRUE.equals(event.previous("owned")),
+                        cents((Double) event.previous("purchasePrice"))), -1);
+                apply(contributionOf(comic), 1);
+            }
+        }
+    }
+
+    /**
+     * Operaciones masivas sobre cómics: se resta la aportación anterior de los afectados
+     * y, en UPDATE, se suma la actual releída con una consulta IN.
+     * Sin estado anterior se recalcula todo.
+     */
+    @TransactionalEventListener
+    public synchronized void onBulkChanged(EntitiesBulkChangedEvent event) {
+        if (!event.is(Comic.class)) {
+            return;
+        }
+        if (!event.hasPreviousState()) {
+            rebuild();
+            return;
+        }
+        event.previousComics().forEach(previous -> apply(
+                new Contribution(previous.publisherId(), previous.owned(), cents(previous.purchasePrice())), -1));
+        if (event.type() == ChangeType.UPDATE) {
+            new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                    "select publisher_id, owned, purchase_price from comic where id in (:ids)",
+                    Map.of("ids", event.ids()), (RowCallbackHandler) rs -> apply(new Contribution(
+                            rs.getObject("publisher_id", Long.class), rs.getBoolean("owned"),
+                            cents(rs.getObject("purchase_price", Double.class))), 1));
+        }
+    }
+
+    /**
+     * Cifras globales (suma de los contadores por publisher).
+     */
+    public CollectionSummary summary() {
+        long comics = 0, owned = 0, spent = 0;
+        for (Counters counters : byPublisher.values()) {
+            comics += counters.comics.get();
+            owned += counters.owned.get();
+            spent += counters.spentCents.get();
+        }
+        return new CollectionSummary(comics, owned, comics - owned, BigDecimal.valueOf(spent, 2));
+    }
+
+    /**
+     * Cifras por publisher; los nombres se resuelven con el mapa indicado.
+     */
+    public List<PublisherStats> byPublisher(Map<Long, String> publisherNames) {
+        List<PublisherStats> stats = new ArrayList<>();
+        new HashMap<>(byPublisher).forEach((publisherId, counters) -> {
+            if (counters.comics.get() == 0) {
+                return;
+            }
+            Long id = publisherId == NO_PUBLISHER ? null : publisherId;
+            stats.add(new PublisherStats(id, id == null ? null : publisherNames.get(id),
+                    counters.comics.get(), counters.owned.get(),
+                    BigDecimal.valueOf(counters.spentCents.get(), 2)));
+        });
+        stats.sort((a, b) -> b.value().compareTo(a.value()));
+        return stats;
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        Counters counters = byPublisher.computeIfAbsent(
+                contribution.publisherId() == null ? NO_PUBLISHER : contribution.publisherId(),
+                id -> new Counters());
+        counters.comics.addAndGet(sign);
+        if (contribution.owned()) {
+            counters.owned.addAndGet(sign);
+            counters.spentCents.addAndGet(sign * contribution.priceCents());
+        }
+    }
+
+    private static Contribution contributionOf(Comic comic) {
+        Long publisherId = comic.getPublisher() != null ? comic.getPublisher().getId() : null;
+        return new Contribution(publisherId, comic.isOwned(), cents(comic.getPurchasePrice()));
+    }
+
+    /**
+     * Mismo cálculo que round(purchase_price::numeric * 100) en rebuild(): conversión
+     * a decimal con 15 dígitos y redondeo de la mitad hacia arriba (round de numeric).
+     * Math.round(price * 100) no vale: 1.005 * 100 en double es 100.4999...
+     */
+    private static long cents(Double price) {
+        return price == null ? 0 : new BigDecimal(price, FLOAT8_TO_NUMERIC)
+                .movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Aportación de un cómic a los contadores.
+     */
+    private record Contribution(Long publisherId, boolean owned, long priceCents) {
+    }
+
+    private static final class Counters {
+        final AtomicLong comics = new AtomicLong();
+        final AtomicLong owned = new AtomicLong();
+        final AtomicLong spentCents = new AtomicLong();
+    }
+}
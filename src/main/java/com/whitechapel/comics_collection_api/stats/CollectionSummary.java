@@ -0,0 +1,11 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * Cifras globales de la colección.
+ *
+ * @param totalSpent suma de purchasePrice de los cómics en propiedad
+ */
+public record CollectionSummary(long totalComics, long ownedComics, long wantedComics, BigDecimal totalSpent) {
+}
@@ -0,0 +1,11 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * Cifras de la colección por publisher (publisherId null = cómics sin publisher).
+ *
+ * @param value suma de purchasePrice de los cómics en propiedad del publisher
+ */
+public record PublisherStats(Long publisherId, String publisherName, long comics, long ownedComics, BigDecimal value) {
+}
@@ -0,0 +1,14 @@
+package com.whitechapel.comics_collection_api.stats;
+
+/**
+ * Grado de compleción de una serie: números distintos en propiedad frente a Series.numbers.
+ */
+public record SeriesCompletion(Long seriesId, String title, int numbers, long ownedIssues, double completion) {
+
+    /**
+     * Constructor usado por la consulta agregada "select new SeriesCompletion(...)".
+     */
+    public SeriesCompletion(Long seriesId, String title, int numbers, Long ownedIssues) {
+        this(seriesId, title, numbers, ownedIssues, numbers > 0 ? Math.min(1.0, (double) ownedIssues / numbers) : 0.0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import java.util.List;
+
+/**
+ * Huecos de una serie: qué números faltan dentro de 1..numbers.
+ *
+ * @param ownedIssues      números distintos en propiedad dentro de 1..numbers
+ * @param missingIssues    números que faltan, en orden ascendente
+ * @param longestRunStart  primer número de la racha más larga de números consecutivos en propiedad (0 si no hay)
+ * @param longestRunLength longitud de esa racha
+ */
+public record SeriesGaps(Long seriesId, int numbers, int ownedIssues, double completion,
+                         List<Integer> missingIssues, int longestRunStart, int longestRunLength) {
+}
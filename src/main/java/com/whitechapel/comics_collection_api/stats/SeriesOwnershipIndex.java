@@ -0,0 +1,270 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.event.EntityChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de los números en propiedad de cada serie (un bitmap por serie).
+ *
+ * Función:
+ *  - Responde "qué números me faltan", "% de compleción" y "racha más larga"
+ *    para una serie o para todas las series de un publisher sin tocar la base de datos
+ *  - Se construye al arrancar con dos consultas de columnas sueltas
+ *    (series e issue_number de los cómics en propiedad); nunca carga Series.comics
+ *  - Se mantiene al día con los EntityChangedEvent de Comic y Series
+ *
+ * Buenas prácticas:
+ *  - Cada serie se guarda como una instantánea inmutable: los cambios sustituyen
+ *    la entrada completa (copy-on-write), así las lecturas no necesitan bloqueo
+ *  - rebuild() publica un mapa nuevo con una sola escritura volatile: un lector ve
+ *    el índice anterior o el nuevo completo, nunca uno vacío a medio rellenar
+ *  - Las escrituras (rebuild y cambios incrementales) se serializan con el monitor
+ *  - Un alta solo activa un bit; bajas y cambios recalculan la serie afectada con
+ *    una consulta pequeña, porque otro cómic (p. ej. una variante) puede tener el mismo número
+ *  - Solo se guardan los números dentro de 1..numbers: el bitmap ocupa lo que la serie,
+ *    no lo que el issue_number más alto (2147483647 serían 256 MB). Si numbers crece,
+ *    la serie se recalcula para recuperar los números que ahora entran
+ */
+@Component
+public class SeriesOwnershipIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeriesOwnershipIndex.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Se sustituye entero en rebuild(); los cambios incrementales modifican el mapa vigente
+    private volatile Map<Long, SeriesBits> bySeries = new ConcurrentHashMap<>();
+
+    public SeriesOwnershipIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reconstruye el índice completo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, SeriesBits> fresh = new ConcurrentHashMap<>();
+        jdbcTemplate.query("select id, numbers, publisher_id from series", (RowCallbackHandler) rs ->
+                fresh.put(rs.getLong("id"),
+                        new SeriesBits(rs.getInt("numbers"), rs.getLong("publisher_id"), new BitSet())));
+        jdbcTemplate.query("select series_id, issue_number from comic where owned", (RowCallbackHandler) rs -> {
+            SeriesBits bits = fresh.get(rs.getLong("series_id"));
+            if (bits != null && bits.covers(rs.getInt("issue_number"))) {
+                bits.owned().set(rs.getInt("issue_number"));
+            }
+        });
+        bySeries = fresh;
+        logger.info("Índice de números en propiedad construido ({} series)", fresh.size());
+    }
+
+    @EventListener
+    public synchronized void onEntityChanged(EntityChangedEvent event) {
+        if (event.is(Series.class)) {
+            onSeriesChanged(event);
+        } else if (event.is(Comic.class)) {
+            onComicChanged(event);
+        }
+    }
+
+    /**
+     * Operaciones masivas: se recalculan solo las series de los cómics afectados
+     * (el estado anterior trae su serie). Sin estado anterior se reconstruye todo.
+     */
+    @TransactionalEventListener
+    public synchronized void onBulkChanged(EntitiesBulkChangedEvent event) {
+        if (event.is(Comic.class)) {
+            if (!event.hasPreviousState()) {
+                rebuild();
+                return;
+            }
+            Set<Long> seriesIds = new HashSet<>();
+            event.previousComics().forEach(previous -> seriesIds.add(previous.seriesId()));
+            recompute(seriesIds);
+        } else if (event.is(Series.class) && event.type() == ChangeType.DELETE) {
+            event.ids().forEach(bySeries::remove);
+        }
+    }
+
+    /**
+     * Huecos de una serie, o vacío si la serie no existe.
+     */
+    public Optional<SeriesGaps> gaps(Long seriesId) {
+        SeriesBits bits = bySeries.get(seriesId);
+        return bits == null ? Optional.empty() : Optional.of(bits.gaps(seriesId));
+    }
+
+    /**
+     * Huecos de todas las series de un publisher, ordenadas por id de serie.
+     */
+    public List<SeriesGaps> gapsByPublisher(Long publisherId) {
+        List<SeriesGaps> result = new ArrayList<>();
+        bySeries.forEach((seriesId, bits) -> {
+            if (Objects.equals(bits.publisherId(), publisherId)) {
+                result.add(bits.gaps(seriesId));
+            }
+        });
+        result.sort(Comparator.comparing(SeriesGaps::seriesId));
+        return result;
+    }
+
+    private void onSeriesChanged(EntityChangedEvent event) {
+        Series series = (Series) event.entity();
+        switch (event.type()) {
+            case DELETE -> bySeries.remove(series.getId());
+            case INSERT, UPDATE -> {
+                Long publisherId = series.getPublisher() != null ? series.getPublisher().getId() : null;
+                SeriesBits current = bySeries.get(series.getId());
+                BitSet owned = current == null ? new BitSet()
+                        : series.getNumbers() < current.numbers() ? current.owned().get(0, series.getNumbers() + 1)
+                        : current.owned();
+                bySeries.put(series.getId(), new SeriesBits(series.getNumbers(), publisherId, owned));
+                if (current != null && series.getNumbers() > current.numbers()) {
+                    // Los números entre el total anterior y el nuevo no estaban en el bitmap
+                    recompute(series.getId());
+                }
+            }
+        }
+    }
+
+    private void onComicChanged(EntityChangedEvent event) {
+        Comic comic = (Comic) event.entity();
+        Long seriesId = comic.getSeries() != null ? comic.getSeries().getId() : null;
+        switch (event.type()) {
+            case INSERT -> {
+                if (comic.isOwned() && comic.getIssueNumber() != null) {
+                    bySeries.computeIfPresent(seriesId, (id, bits) -> bits.with(comic.getIssueNumber()));
+                }
+            }
+            case DELETE -> recompute(seriesId);
+            case UPDATE -> {
+                if (!event.hasPreviousState()) {
+                    rebuild();
+                    return;
+                }
+                Long previousSeriesId = event.previousId("series");
+                if (previousSeriesId != null && !previousSeriesId.equals(seriesId)) {
+                    recompute(previousSeriesId);
+                }
+                boolean unchanged = Objects.equals(previousSeriesId, seriesId)
+                        && Objects.equals(event.previous("issueNumber"), comic.getIssueNumber())
+                        && Boolean.valueOf(comic.isOwned()).equals(event.previous("owned"));
+                if (!unchanged) {
+                    recompute(seriesId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Vuelve a leer los números en propiedad de varias series con una sola consulta.
+     */
+    private void recompute(Set<Long> seriesIds) {
+        seriesIds.removeIf(id -> id == null || !bySeries.containsKey(id));
+        if (seriesIds.isEmpty()) {
+            return;
+        }
+        Map<Long, BitSet> owned = new HashMap<>();
+        seriesIds.forEach(id -> owned.put(id, new BitSet()));
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "select series_id, issue_number from comic where series_id in (:ids) and owned",
+                Map.of("ids", seriesIds), (RowCallbackHandler) rs -> {
+                    long seriesId = rs.getLong("series_id");
+                    int issue = rs.getInt("issue_number");
+                    if (bySeries.get(seriesId).covers(issue)) {
+                        owned.get(seriesId).set(issue);
+                    }
+                });
+        owned.forEach((seriesId, bits) -> bySeries.computeIfPresent(seriesId,
+                (id, current) -> new SeriesBits(current.numbers(), current.publisherId(), bits)));
+    }
+
+    /**
+     * Vuelve a leer los números en propiedad de una serie.
+     */
+    private void recompute(Long seriesId) {
+        if (seriesId == null || !bySeries.containsKey(seriesId)) {
+            return;
+        }
+        SeriesBits current = bySeries.get(seriesId);
+        BitSet owned = new BitSet();
+        jdbcTemplate.query("select issue_number from comic where series_id = ? and owned",
+                (RowCallbackHandler) rs -> {
+                    if (current.covers(rs.getInt(1))) {
+                        owned.set(rs.getInt(1));
+                    }
+                }, seriesId);
+        bySeries.computeIfPresent(seriesId, (id, bits) -> new SeriesBits(bits.numbers(), bits.publisherId(), owned));
+    }
+
+    /**
+     * Instantánea inmutable de una serie: total de números, publisher y bitmap de números en propiedad.
+     * El BitSet no se modifica una vez publicado en el mapa.
+     */
+    private record SeriesBits(int numbers, Long publisherId, BitSet owned) {
+
+        /**
+         * Si el número entra en el bitmap (1..numbers).
+         */
+        boolean covers(int issueNumber) {
+            return issueNumber >= 1 && issueNumber <= numbers;
+        }
+
+        SeriesBits with(int issueNumber) {
+            if (!covers(issueNumber) || owned.get(issueNumber)) {
+                return this;
+            }
+            BitSet copy = (BitSet) owned.clone();
+            copy.set(issueNumber);
+            return new SeriesBits(numbers, publisherId, copy);
+        }
+
+        SeriesGaps gaps(Long seriesId) {
+            // Solo cuentan los números dentro de 1..numbers
+            BitSet inRange = owned.get(1, numbers + 1);
+            int ownedIssues = inRange.cardinality();
+
+            List<Integer> missing = new ArrayList<>(numbers - ownedIssues);
+            for (int issue = owned.nextClearBit(1); issue <= numbers; issue = owned.nextClearBit(issue + 1)) {
+                missing.add(issue);
+            }
+
+            int runStart = 0, runLength = 0;
+            for (int start = owned.nextSetBit(1); start > 0 && start <= numbers; ) {
+                int end = Math.min(owned.nextClearBit(start), numbers + 1);
+                if (end - start > runLength) {
+                    runStart = start;
+                    runLength = end - start;
+                }
+                start = owned.nextSetBit(end);
+            }
+
+            double completion = numbers > 0 ? (double) ownedIssues / numbers : 0.0;
+            return new SeriesGaps(seriesId, numbers, ownedIssues, completion, missing, runStart, runLength);
+        }
+    }
+}
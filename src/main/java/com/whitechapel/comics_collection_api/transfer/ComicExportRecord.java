@@ -0,0 +1,48 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registro exportado de un cómic.
+ * Mismos campos que ComicImportRow (más el id), de modo que una exportación
+ * se puede volver a importar tal cual.
+ */
+public record ComicExportRecord(Long id,
+                                String title,
+                                Integer issueNumber,
+                                Integer year,
+                                String variant,
+                                String series,
+                                String publisher,
+                                List<String> creators,
+                                boolean owned,
+                                String condition,
+                                Double purchasePrice,
+                                LocalDate purchaseDate,
+                                String notes,
+                                String coverImageUrl) {
+
+    /**
+     * Columnas del CSV exportado (mismo orden que los campos).
+     */
+    public static final List<String> CSV_HEADER = List.of("id", "title", "issueNumber", "year", "variant",
+            "series", "publisher", "creators", "owned", "condition", "purchasePrice", "purchaseDate",
+            "notes", "coverImageUrl");
+
+    static ComicExportRecord of(ComicExportRow row, List<String> creators) {
+        return new ComicExportRecord(row.id(), row.title(), row.issueNumber(), row.year(), row.variant(),
+                row.series(), row.publisher(), creators, row.owned(), row.condition(), row.purchasePrice(),
+                row.purchaseDate(), row.notes(), row.coverImageUrl());
+    }
+
+    /**
+     * Valores en el orden de CSV_HEADER; los creadores se separan con ';' como en la importación
+     * (escapando ';' y '\' dentro de los nombres).
+     */
+    List<Object> csvValues() {
+        return Arrays.asList(id, title, issueNumber, year, variant, series, publisher,
+                CsvWriter.joinList(creators), owned, condition, purchasePrice, purchaseDate, notes, coverImageUrl);
+    }
+}
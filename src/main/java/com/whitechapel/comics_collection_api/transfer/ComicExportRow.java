@@ -0,0 +1,23 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import java.time.LocalDate;
+
+/**
+ * Fila plana de la consulta de exportación: un cómic con un único creador
+ * (un cómic con N creadores produce N filas consecutivas; sin creadores, una fila con creator null).
+ */
+public record ComicExportRow(Long id,
+                             String title,
+                             Integer issueNumber,
+                             Integer year,
+                             String variant,
+                             String series,
+                             String publisher,
+                             boolean owned,
+                             String condition,
+                             Double purchasePrice,
+                             LocalDate purchaseDate,
+                             String notes,
+                             String coverImageUrl,
+                             String creator) {
+}
@@ -0,0 +1,102 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Exportación de toda la colección en NDJSON o CSV con memoria constante.
+ *
+ * Función:
+ *  - Lee con un cursor de servidor (Stream + fetch size 1000)
+ *  - Lee proyecciones, no entidades: el contexto de persistencia queda vacío
+ *    y no hay que hacer detach/clear
+ *  - Agrupa las filas consecutivas de un mismo cómic (una por creador) y
+ *    escribe cada registro directamente en el OutputStream de la respuesta
+ */
+@Service
+@Transactional(readOnly = true)
+public class ComicExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private final ComicRepository comicRepository;
+    private final ObjectWriter lineWriter;
+
+    public ComicExportService(ComicRepository comicRepository, ObjectMapper objectMapper) {
+        this.comicRepository = comicRepository;
+        this.lineWriter = objectMapper.writerFor(ComicExportRecord.class).withRootValueSeparator("\n");
+    }
+
+    /**
+     * Escribe la colección completa en el formato indicado.
+     * El llamante es responsable de cerrar la salida.
+     */
+    public void export(OutputStream out, Format format) {
+        try (Stream<ComicExportRow> rows = comicRepository.streamExportRows()) {
+            if (format == Format.CSV) {
+                writeCsv(rows, out);
+            } else {
+                writeNdjson(rows, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Stream<ComicExportRow> rows, OutputStream out) {
+        SequenceWriter sequence = lineWriter.writeValues(out);
+        forEachRecord(rows, sequence::write);
+        sequence.flush(); // Sin cerrar: el stream de salida lo gestiona el controller
+    }
+
+    private void writeCsv(Stream<ComicExportRow> rows, OutputStream out) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            CsvWriter csv = new CsvWriter(writer);
+            csv.writeRecord(ComicExportRecord.CSV_HEADER);
+            forEachRecord(rows, record -> csv.writeRecord(record.csvValues()));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Agrupa filas consecutivas con el mismo id en un único registro.
+     * Solo mantiene en memoria el cómic actual.
+     */
+    private static void forEachRecord(Stream<ComicExportRow> rows, Consumer<ComicExportRecord> consumer) {
+        Iterator<ComicExportRow> it = rows.iterator();
+        ComicExportRow current = null;
+        List<String> creators = new ArrayList<>();
+        while (it.hasNext()) {
+            ComicExportRow row = it.next();
+            if (current != null && !current.id().equals(row.id())) {
+                consumer.accept(ComicExportRecord.of(current, List.copyOf(creators)));
+                creators.clear();
+            }
+            current = row;
+            if (row.creator() != null) {
+                creators.add(row.creator());
+            }
+        }
+        if (current != null) {
+            consumer.accept(ComicExportRecord.of(current, List.copyOf(creators)));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fila de importación de cómics (una línea NDJSON o un registro CSV).
+ * Las relaciones se indican por nombre: series por título, publisher y creadores por nombre.
+ * Se ignoran campos desconocidos (p. ej. el id de una exportación previa).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ComicImportRow(String title,
+                             Integer issueNumber,
+                             Integer year,
+                             String variant,
+                             String series,
+                             String publisher,
+                             List<String> creators,
+                             Boolean owned,
+                             String condition,
+                             Double purchasePrice,
+                             LocalDate purchaseDate,
+                             String notes,
+                             String coverImageUrl) {
+}
@@ -0,0 +1,470 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de cómics desde CSV o NDJSON.
+ *
+ * Función:
+ *  - Lee la entrada en streaming (un registro cada vez, nunca el fichero completo)
+ *  - Resuelve series, publishers y creadores por nombre con diccionarios en memoria
+ *    (nombre -> id) cargados una sola vez; los creadores que no existen se crean en
+ *    la misma transacción que los cómics que los usan, y solo para filas válidas
+ *  - Inserta en bloques de CHUNK_SIZE filas por transacción; Hibernate agrupa los
+ *    INSERT en lotes JDBC (hibernate.jdbc.batch_size) gracias a los ids por secuencia
+ *  - Los errores se informan por fila sin abortar la importación: si un bloque falla
+ *    en la base de datos, se reintenta fila a fila para aislar la fila culpable (un
+ *    creador que no cabe en su columna solo hace fallar su fila)
+ *  - En CSV las filas se numeran por la línea donde empiezan y las líneas en blanco
+ *    se ignoran; una comilla sin cerrar es un error de su fila (y la última fila)
+ */
+@Service
+public class ComicImportService {
+
+    // Filas por transacción
+    private static final int CHUNK_SIZE = 1000;
+
+    // Número máximo de errores devueltos en el informe
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // Valor del diccionario de series cuando hay varias con el mismo título
+    private static final long AMBIGUOUS = -1L;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Validator validator;
+    private final ObjectReader rowReader;
+
+    public ComicImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              Validator validator,
+                              ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.rowReader = objectMapper.readerFor(ComicImportRow.class);
+    }
+
+    /**
+     * Importa un CSV con cabecera: title, issueNumber, year, variant, series, publisher,
+     * creators (separados por ';'; un ';' o '\' dentro de un nombre va precedido de '\'), owned,
+     * condition, purchasePrice, purchaseDate, notes, coverImageUrl.
+     */
+    public ImportReport importCsv(InputStream input) {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (CsvReader.MalformedRecordException e) {
+            // Sin cabecera no hay columnas: no se puede importar ninguna fila
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cabecera CSV mal formada: " + e.getMessage());
+        }
+        if (header == null) {
+            return run(List.<ParsedRow>of().iterator());
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        Iterator<ParsedRow> rows = new Iterator<>() {
+            private boolean malformed;
+            private ParsedRow next = read();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public ParsedRow next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                ParsedRow row = next;
+                next = malformed ? null : read();
+                return row;
+            }
+
+            /**
+             * Siguiente registro ya convertido; un registro mal formado es el último
+             * (la comilla sin cerrar se ha llevado el resto de la entrada).
+             */
+            private ParsedRow read() {
+                List<String> record;
+                try {
+                    record = csv.next();
+                } catch (CsvReader.MalformedRecordException e) {
+                    malformed = true;
+                    return new ParsedRow(e.line(), null, "CSV mal formado: " + e.getMessage());
+                }
+                if (record == null) {
+                    return null;
+                }
+                long number = csv.lineNumber();
+                try {
+                    return new ParsedRow(number, fromCsv(record, columns), null);
+                } catch (RuntimeException e) {
+                    return new ParsedRow(number, null, "Fila no válida: " + e.getMessage());
+                }
+            }
+        };
+        return run(rows);
+    }
+
+    /**
+     * Importa NDJSON: un objeto JSON (ComicImportRow) por línea.
+     */
+    public ImportReport importNdjson(InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Iterator<ParsedRow> rows = new Iterator<>() {
+            private long lineNumber = 0;
+            private String next = readLine();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public ParsedRow next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String line = next;
+                long number = lineNumber;
+                next = readLine();
+                try {
+                    return new ParsedRow(number, rowReader.readValue(line), null);
+                } catch (RuntimeException e) {
+                    return new ParsedRow(number, null, "JSON no válido: " + e.getMessage());
+                }
+            }
+
+            private String readLine() {
+                try {
+                    String line;
+                    do {
+                        line = reader.readLine();
+                        lineNumber++;
+                    } while (line != null && line.isBlank());
+                    return line;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return run(rows);
+    }
+
+    // ------------------------
+    // Proceso común
+    // ------------------------
+
+    private ImportReport run(Iterator<ParsedRow> rows) {
+        long start = System.currentTimeMillis();
+        Dictionaries dictionaries = loadDictionaries();
+        Report report = new Report();
+
+        List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, dictionaries, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, dictionaries, report);
+        }
+
+        return new ImportReport(report.processed, report.imported, report.failed,
+                List.copyOf(report.errors), report.failed > report.errors.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    private void importChunk(List<ParsedRow> chunk, Dictionaries dictionaries, Report report) {
+        // 1. Resolver nombres -> ids y validar fuera de la transacción
+        List<ResolvedRow> resolved = new ArrayList<>(chunk.size());
+        for (ParsedRow parsed : chunk) {
+            report.processed++;
+            if (parsed.error() != null) {
+                report.fail(parsed.number(), parsed.error());
+                continue;
+            }
+            String error = resolve(parsed, dictionaries, resolved);
+            if (error != null) {
+                report.fail(parsed.number(), error);
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        // 2. Insertar el bloque completo en una transacción (INSERT por lotes JDBC)
+        try {
+            persist(resolved, dictionaries);
+            report.imported += resolved.size();
+        } catch (RuntimeException chunkFailure) {
+            // 3. Un fallo de base de datos invalida el bloque: reintentar fila a fila
+            for (ResolvedRow row : resolved) {
+                try {
+                    persist(List.of(row), dictionaries);
+                    report.imported++;
+                } catch (RuntimeException rowFailure) {
+                    report.fail(row.number(), "Error al guardar: " + rootMessage(rowFailure));
+                }
+            }
+        }
+    }
+
+    private void persist(List<ResolvedRow> rows, Dictionaries dictionaries) {
+        Map<String, Long> created = new HashMap<>();
+        transaction.executeWithoutResult(status -> {
+            createMissingCreators(rows, dictionaries, created);
+            for (ResolvedRow row : rows) {
+                entityManager.persist(toComic(row, dictionaries, created));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        // Solo tras el commit: si el bloque se revierte, esos ids no existen
+        dictionaries.creatorsByName.putAll(created);
+    }
+
+    /**
+     * Construye la entidad usando referencias (getReference): no se hace SELECT
+     * de series, publishers ni creadores.
+     */
+    private Comic toComic(ResolvedRow resolved, Dictionaries dictionaries, Map<String, Long> created) {
+        ComicImportRow row = resolved.row();
+        Set<Creator> creators = new HashSet<>();
+        for (String name : resolved.creatorNames()) {
+            Long creatorId = dictionaries.creatorsByName.get(key(name));
+            creators.add(entityManager.getReference(Creator.class,
+                    creatorId != null ? creatorId : created.get(key(name))));
+        }
+        Comic comic = new Comic();
+        comic.setTitle(row.title());
+        comic.setIssueNumber(row.issueNumber());
+        comic.setYear(row.year());
+        comic.setVariant(row.variant());
+        comic.setSeries(entityManager.getReference(Series.class, resolved.seriesId()));
+        comic.setPublisher(resolved.publisherId() != null
+                ? entityManager.getReference(Publisher.class, resolved.publisherId())
+                : null);
+        comic.setCreators(creators);
+        comic.setOwned(row.owned() == null || row.owned());
+        comic.setCondition(row.condition());
+        comic.setPurchasePrice(row.purchasePrice());
+        comic.setPurchaseDate(row.purchaseDate());
+        comic.setNotes(row.notes());
+        comic.setCoverImageUrl(row.coverImageUrl());
+        return comic;
+    }
+
+    /**
+     * Resuelve las referencias por nombre y valida la fila.
+     * @return mensaje de error, o null si la fila es válida
+     */
+    private String resolve(ParsedRow parsed, Dictionaries dictionaries, List<ResolvedRow> resolved) {
+        ComicImportRow row = parsed.row();
+
+        Long seriesId = row.series() == null ? null : dictionaries.seriesByTitle.get(key(row.series()));
+        if (seriesId == null) {
+            return "Serie desconocida: " + row.series();
+        }
+        if (seriesId == AMBIGUOUS) {
+            return "Serie ambigua (varias con el título): " + row.series();
+        }
+
+        Long publisherId;
+        if (row.publisher() == null || row.publisher().isBlank()) {
+            publisherId = dictionaries.publisherBySeries.get(seriesId);
+        } else {
+            publisherId = dictionaries.publishersByName.get(key(row.publisher()));
+            if (publisherId == null) {
+                return "Publisher desconocido: " + row.publisher();
+            }
+        }
+
+        // Validaciones de Comic.java sobre los campos simples
+        Comic probe = new Comic();
+        probe.setTitle(row.title());
+        probe.setIssueNumber(row.issueNumber());
+        probe.setYear(row.year());
+        probe.setPurchasePrice(row.purchasePrice());
+        probe.setPurchaseDate(row.purchaseDate());
+        if (row.issueNumber() == null || row.year() == null) {
+            return "issueNumber y year son obligatorios";
+        }
+        Set<ConstraintViolation<Comic>> violations = validator.validate(probe);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        resolved.add(new ResolvedRow(parsed.number(), row, seriesId, publisherId, creatorNames(row)));
+        return null;
+    }
+
+    /**
+     * Crea los creadores de las filas que aún no existen, dentro de la transacción
+     * del bloque: si el bloque se revierte, no quedan creadores sin cómics.
+     * Se hace antes de persistir los cómics para no intercalar sus INSERT (IDENTITY,
+     * inmediatos) con los lotes JDBC de los cómics.
+     */
+    private void createMissingCreators(List<ResolvedRow> rows, Dictionaries dictionaries, Map<String, Long> created) {
+        for (ResolvedRow row : rows) {
+            for (String name : row.creatorNames()) {
+                String key = key(name);
+                if (!dictionaries.creatorsByName.containsKey(key) && !created.containsKey(key)) {
+                    Creator creator = new Creator();
+                    creator.setName(name);
+                    entityManager.persist(creator); // IDENTITY: el INSERT es inmediato y el id ya existe
+                    created.put(key, creator.getId());
+                }
+            }
+        }
+    }
+
+    private Dictionaries loadDictionaries() {
+        Dictionaries dictionaries = new Dictionaries();
+        jdbcTemplate.query("select id, title, publisher_id from series", (RowCallbackHandler) rs -> {
+            long id = rs.getLong("id");
+            dictionaries.seriesByTitle.merge(key(rs.getString("title")), id, (a, b) -> AMBIGUOUS);
+            dictionaries.publisherBySeries.put(id, rs.getLong("publisher_id"));
+        });
+        jdbcTemplate.query("select id, name from publisher", (RowCallbackHandler) rs ->
+                dictionaries.publishersByName.put(key(rs.getString("name")), rs.getLong("id")));
+        jdbcTemplate.query("select id, name from creator", (RowCallbackHandler) rs ->
+                dictionaries.creatorsByName.putIfAbsent(key(rs.getString("name")), rs.getLong("id")));
+        return dictionaries;
+    }
+
+    private static ComicImportRow fromCsv(List<String> record, Map<String, Integer> columns) {
+        Function<String, String> field = name -> {
+            Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+            if (index == null || index >= record.size()) return null;
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        };
+        String creators = field.apply("creators");
+        String owned = field.apply("owned");
+        String issueNumber = field.apply("issueNumber");
+        String year = field.apply("year");
+        String price = field.apply("purchasePrice");
+        String date = field.apply("purchaseDate");
+        return new ComicImportRow(
+                field.apply("title"),
+                issueNumber == null ? null : Integer.valueOf(issueNumber),
+                year == null ? null : Integer.valueOf(year),
+                field.apply("variant"),
+                field.apply("series"),
+                field.apply("publisher"),
+                creators == null ? List.of() : CsvReader.splitList(creators).stream().map(String::trim).toList(),
+                owned == null ? null : Boolean.valueOf(owned),
+                field.apply("condition"),
+                price == null ? null : Double.valueOf(price),
+                date == null ? null : LocalDate.parse(date),
+                field.apply("notes"),
+                field.apply("coverImageUrl"));
+    }
+
+    private static Set<String> creatorNames(ComicImportRow row) {
+        Set<String> names = new LinkedHashSet<>();
+        if (row.creators() != null) {
+            for (String name : row.creators()) {
+                if (name != null && !name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    // ------------------------
+    // Estructuras internas
+    // ------------------------
+
+    private record ParsedRow(long number, ComicImportRow row, String error) {
+    }
+
+    private record ResolvedRow(long number, ComicImportRow row, Long seriesId, Long publisherId,
+                               Set<String> creatorNames) {
+    }
+
+    private static final class Dictionaries {
+        final Map<String, Long> seriesByTitle = new HashMap<>();
+        final Map<Long, Long> publisherBySeries = new HashMap<>();
+        final Map<String, Long> publishersByName = new HashMap<>();
+        final Map<String, Long> creatorsByName = new HashMap<>();
+    }
+
+    private static final class Report {
+        long processed;
+        long imported;
+        long failed;
+        final List<ImportReport.RowError> errors = new ArrayList<>();
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.RowError(row, message));
+            }
+        }
+    }
+}
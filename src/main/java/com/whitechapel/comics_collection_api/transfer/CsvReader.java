@@ -0,0 +1,181 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV mínimo (RFC 4180) que procesa la entrada en streaming.
+ *
+ * Soporta:
+ *  - Campos entre comillas con separadores, saltos de línea y comillas dobles ("")
+ *  - Finales de línea \n y \r\n
+ *  - Líneas en blanco, que se saltan (no son registros)
+ *
+ * No carga el fichero completo: lee un registro cada vez.
+ * Un registro mal formado lanza {@link MalformedRecordException} con la línea donde
+ * empieza, para informarlo como error de ese registro.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int pending = -2; // -2 = sin carácter pendiente
+    private long recordNumber = 0;
+    private long line = 1;
+    private long recordLine = 0;
+    private boolean afterCarriageReturn;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Número del último registro leído (1 = cabecera).
+     */
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Línea de la entrada donde empieza el último registro leído (1 = primera línea).
+     * Difiere de recordNumber() si hay líneas en blanco o campos con saltos de línea.
+     */
+    public long lineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Lee el siguiente registro no vacío, o null al llegar al final.
+     */
+    public List<String> next() {
+        try {
+            while (true) {
+                long start = line;
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                recordLine = start;
+                List<String> record = readRecord(c);
+                if (record != null) {
+                    return record;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Separa un campo de lista escrito con {@link CsvWriter#joinList}: ';' separa
+     * valores y '\' escapa el carácter siguiente. Sin escapes equivale a split(";").
+     */
+    public static List<String> splitList(String field) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == CsvWriter.LIST_ESCAPE && i + 1 < field.length()) {
+                value.append(field.charAt(++i));
+            } else if (c == CsvWriter.LIST_SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Lee un registro a partir de su primer carácter.
+     * @return los campos, o null si la línea estaba en blanco
+     */
+    private List<String> readRecord(int c) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean anyQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    recordNumber++;
+                    throw new MalformedRecordException(recordLine, "Comillas sin cerrar desde la línea " + recordLine);
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                anyQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        pending = nextChar;
+                    }
+                }
+                if (fields.isEmpty() && !anyQuoted && field.toString().isBlank()) {
+                    return null;
+                }
+                fields.add(field.toString());
+                recordNumber++;
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Siguiente carácter; cuenta las líneas (\n, \r\n o \r sueltos), también dentro de comillas.
+     */
+    private int read() throws IOException {
+        if (pending != -2) {
+            // Ya se contó al leerlo por primera vez
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\r' || (c == '\n' && !afterCarriageReturn)) {
+            line++;
+        }
+        afterCarriageReturn = c == '\r';
+        return c;
+    }
+
+    /**
+     * Registro que no se puede interpretar. Tras una comilla sin cerrar el resto
+     * de la entrada forma parte del campo, así que no quedan más registros.
+     */
+    public static class MalformedRecordException extends IllegalArgumentException {
+
+        private final long line;
+
+        public MalformedRecordException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        public long line() {
+            return line;
+        }
+    }
+}
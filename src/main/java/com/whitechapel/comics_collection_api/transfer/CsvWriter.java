@@ -0,0 +1,70 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Escritor CSV mínimo (RFC 4180): entrecomilla los campos que lo necesitan
+ * y duplica las comillas internas. Los null se escriben como campo vacío.
+ *
+ * Las listas dentro de un campo (creadores) se separan con ';' y se escapan
+ * con '\' ({@link #joinList}); {@link CsvReader#splitList} las recupera.
+ */
+public class CsvWriter {
+
+    static final char LIST_SEPARATOR = ';';
+    static final char LIST_ESCAPE = '\\';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(List<?> values) {
+        try {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values.get(i);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Une una lista en un solo campo: "a;b". Los ';' y '\' de cada valor se escapan
+     * con '\' ("Smith; Jr." -> "Smith\; Jr.") para que la lista se recupere tal cual.
+     */
+    public static String joinList(List<String> values) {
+        StringBuilder joined = new StringBuilder();
+        for (int v = 0; v < values.size(); v++) {
+            if (v > 0) {
+                joined.append(LIST_SEPARATOR);
+            }
+            String value = values.get(v);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == LIST_SEPARATOR || c == LIST_ESCAPE) {
+                    joined.append(LIST_ESCAPE);
+                }
+                joined.append(c);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static String escape(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
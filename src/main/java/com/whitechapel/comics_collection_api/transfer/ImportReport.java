@@ -0,0 +1,23 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva.
+ *
+ * @param errors          errores por fila (como máximo los primeros N)
+ * @param errorsTruncated true si hubo más errores de los que se devuelven
+ */
+public record ImportReport(long processed,
+                           long imported,
+                           long failed,
+                           List<RowError> errors,
+                           boolean errorsTruncated,
+                           long elapsedMillis) {
+
+    /**
+     * Error de una fila concreta (número de línea/registro de la entrada).
+     */
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,96 @@
+-- =============================================================
+-- Esquema base: tablas, secuencias y claves que antes generaba
+-- Hibernate con ddl-auto=create. Debe coincidir con las entidades
+-- (spring.jpa.hibernate.ddl-auto=validate lo comprueba al arrancar).
+-- =============================================================
+
+-- -----------------------------
+-- Usuarios y roles
+-- -----------------------------
+create table role (
+    id   bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    constraint uk_role_name unique (name)
+);
+
+create table app_user (
+    id            bigint generated by default as identity primary key,
+    username      varchar(255) not null,
+    password      varchar(255) not null,
+    token_version integer      not null default 0,
+    constraint uk_app_user_username unique (username)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (user_id, role_id),
+    constraint fk_user_roles_user foreign key (user_id) references app_user (id),
+    constraint fk_user_roles_role foreign key (role_id) references role (id)
+);
+
+create table revoked_token (
+    jti        varchar(36)                 not null primary key,
+    user_id    bigint                      not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null
+);
+
+-- -----------------------------
+-- Catálogo
+-- -----------------------------
+create table publisher (
+    id            bigint generated by default as identity primary key,
+    version       bigint,
+    last_modified timestamp(6) with time zone,
+    name          varchar(255) not null,
+    constraint uk_publisher_name unique (name)
+);
+
+create table creator (
+    id            bigint generated by default as identity primary key,
+    version       bigint,
+    last_modified timestamp(6) with time zone,
+    name          varchar(255) not null
+);
+
+create table series (
+    id            bigint generated by default as identity primary key,
+    version       bigint,
+    last_modified timestamp(6) with time zone,
+    title         varchar(255) not null,
+    numbers       integer      not null,
+    publisher_id  bigint       not null,
+    constraint fk_series_publisher foreign key (publisher_id) references publisher (id)
+);
+
+-- Asignación por bloques (allocationSize = 50 en Comic)
+create sequence comic_seq start with 1 increment by 50;
+
+create table comic (
+    id              bigint       not null primary key,
+    version         bigint,
+    last_modified   timestamp(6) with time zone,
+    title           varchar(255) not null,
+    issue_number    integer      not null,
+    year            integer      not null,
+    variant         varchar(255),
+    publisher_id    bigint,
+    series_id       bigint       not null,
+    owned           boolean      not null,
+    condition       varchar(255),
+    purchase_price  float(53),
+    purchase_date   date,
+    notes           varchar(1000),
+    cover_image_url varchar(255),
+    constraint fk_comic_publisher foreign key (publisher_id) references publisher (id),
+    constraint fk_comic_series foreign key (series_id) references series (id)
+);
+
+create table comic_creators (
+    comic_id   bigint not null,
+    creator_id bigint not null,
+    primary key (comic_id, creator_id),
+    constraint fk_comic_creators_comic foreign key (comic_id) references comic (id),
+    constraint fk_comic_creators_creator foreign key (creator_id) references creator (id)
+);
@@ -0,0 +1,35 @@
+-- =============================================================
+-- Índices para los predicados de los repositories.
+-- IndexCoverageTests falla si una consulta nueva filtra por una
+-- columna sin índice (o una clave foránea queda sin indexar).
+-- =============================================================
+
+-- Claves foráneas: joins de las vistas, cascadas y borrados
+create index idx_comic_series_id on comic (series_id);
+create index idx_comic_publisher_id on comic (publisher_id);
+create index idx_series_publisher_id on series (publisher_id);
+create index idx_comic_creators_creator_id on comic_creators (creator_id);
+create index idx_user_roles_role_id on user_roles (role_id);
+
+-- findByOwnedTrueOrderByPurchaseDateDesc: filtro y orden en el mismo índice
+create index idx_comic_owned_purchase_date on comic (owned, purchase_date desc);
+
+-- Scroll por fecha de compra (findAllByPurchaseDateIsNotNull, keyset (purchase_date, id))
+create index idx_comic_purchase_date_id on comic (purchase_date, id);
+
+-- Búsquedas exactas por nombre o título
+create index idx_creator_name on creator (name);
+create index idx_series_title on series (title);
+
+-- Purga de revocaciones expiradas y carga al arrancar.
+-- Las bases creadas con ddl-auto=create ya lo tienen (antes era un @Index de RevokedToken)
+create index if not exists idx_revoked_token_expires_at on revoked_token (expires_at);
+
+-- findBy...ContainingIgnoreCase: Spring Data genera "upper(col) like upper('%x%')";
+-- con comodín inicial solo sirve un índice de trigramas sobre la misma expresión
+create extension if not exists pg_trgm;
+
+create index idx_comic_title_trgm on comic using gin (upper(title) gin_trgm_ops);
+create index idx_series_title_trgm on series using gin (upper(title) gin_trgm_ops);
+create index idx_publisher_name_trgm on publisher using gin (upper(name) gin_trgm_ops);
+create index idx_creator_name_trgm on creator using gin (upper(name) gin_trgm_ops);
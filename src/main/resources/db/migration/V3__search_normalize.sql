@@ -0,0 +1,24 @@
+-- =============================================================
+-- Búsqueda en PostgreSQL (search.backend=postgres, PostgresSearchBackend).
+-- Se crea con cualquier backend: los índices GIN se mantienen en cada
+-- escritura y el backend no tiene que ejecutar DDL al arrancar.
+-- =============================================================
+
+create extension if not exists pg_trgm;
+create extension if not exists unaccent;
+
+-- Minúsculas y sin acentos; immutable para poder indexarla
+-- (unaccent con el diccionario explícito no depende de search_path)
+create or replace function search_normalize(text) returns text
+    language sql immutable parallel safe as
+$$ select lower(public.unaccent('public.unaccent'::regdictionary, coalesce($1, ''))) $$;
+
+-- Bases creadas antes con el DDL del backend: if not exists
+create index if not exists comic_title_search_idx on comic
+    using gin (search_normalize(title) gin_trgm_ops);
+create index if not exists comic_text_search_idx on comic
+    using gin (search_normalize(coalesce(variant, '') || ' ' || coalesce(notes, '')) gin_trgm_ops);
+create index if not exists series_title_search_idx on series
+    using gin (search_normalize(title) gin_trgm_ops);
+create index if not exists creator_name_search_idx on creator
+    using gin (search_normalize(name) gin_trgm_ops);
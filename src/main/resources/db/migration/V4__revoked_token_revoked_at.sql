@@ -0,0 +1,6 @@
+-- =============================================================
+-- Lectura periódica de revocaciones (TokenRevocationRegistry.sync):
+-- cada instancia pide las filas con revoked_at posterior a su última lectura.
+-- =============================================================
+
+create index idx_revoked_token_revoked_at on revoked_token (revoked_at);
@@ -0,0 +1,150 @@
+package com.whitechapel.comics_collection_api.cache;
+
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caché de segundo nivel de los datos de referencia: tras modificar un Publisher o
+ * un Creator ninguna lectura devuelve la versión anterior, ni por id ni por nombre.
+ *
+ * Sin @Transactional: la caché solo se rellena y se invalida al hacer commit, así que
+ * cada paso va en su propia transacción y los datos se borran al terminar.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTests {
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private TransactionTemplate transaction;
+
+	private Statistics statistics;
+
+	private String name;
+
+	private Long publisherId;
+
+	private Long creatorId;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		name = "Cached " + UUID.randomUUID();
+		publisherId = transaction.execute(status ->
+				publisherRepository.save(Publisher.builder().name(name).build()).getId());
+		creatorId = transaction.execute(status ->
+				creatorRepository.save(Creator.builder().name(name).build()).getId());
+	}
+
+	// deleteById ignora los ids que ya no existen (deleteRemovesTheCachedEntry)
+	@AfterEach
+	void tearDown() {
+		transaction.executeWithoutResult(status -> {
+			publisherRepository.deleteById(publisherId);
+			creatorRepository.deleteById(creatorId);
+		});
+	}
+
+	@Test
+	void publisherByIdIsServedFromCacheAndRefreshedOnUpdate() {
+		loadPublisher();
+		long hits = regionHits(SecondLevelCacheConfig.PUBLISHER_REGION);
+		assertThat(loadPublisher().getName()).isEqualTo(name);
+		assertThat(regionHits(SecondLevelCacheConfig.PUBLISHER_REGION)).isGreaterThan(hits);
+
+		transaction.executeWithoutResult(status ->
+				publisherRepository.findById(publisherId).orElseThrow().setName(name + " (renamed)"));
+
+		assertThat(loadPublisher().getName()).isEqualTo(name + " (renamed)");
+	}
+
+	@Test
+	void creatorByIdIsServedFromCacheAndRefreshedOnUpdate() {
+		loadCreator();
+		long hits = regionHits(SecondLevelCacheConfig.CREATOR_REGION);
+		assertThat(loadCreator().getName()).isEqualTo(name);
+		assertThat(regionHits(SecondLevelCacheConfig.CREATOR_REGION)).isGreaterThan(hits);
+
+		transaction.executeWithoutResult(status ->
+				creatorRepository.findById(creatorId).orElseThrow().setName(name + " (renamed)"));
+
+		assertThat(loadCreator().getName()).isEqualTo(name + " (renamed)");
+	}
+
+	@Test
+	void publisherFindByNameIsInvalidatedByRename() {
+		assertThat(transaction.execute(status -> publisherRepository.findByName(name))).isPresent();
+		long queryHits = statistics.getQueryCacheHitCount();
+		assertThat(transaction.execute(status -> publisherRepository.findByName(name))).isPresent();
+		assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+
+		transaction.executeWithoutResult(status ->
+				publisherRepository.findById(publisherId).orElseThrow().setName(name + " (renamed)"));
+
+		assertThat(transaction.execute(status -> publisherRepository.findByName(name))).isEmpty();
+		assertThat(transaction.execute(status -> publisherRepository.findByName(name + " (renamed)")))
+				.get().extracting(Publisher::getId).isEqualTo(publisherId);
+	}
+
+	@Test
+	void creatorFindByNameIsInvalidatedByRename() {
+		assertThat(transaction.execute(status -> creatorRepository.findByName(name))).isPresent();
+		long queryHits = statistics.getQueryCacheHitCount();
+		assertThat(transaction.execute(status -> creatorRepository.findByName(name))).isPresent();
+		assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+
+		transaction.executeWithoutResult(status ->
+				creatorRepository.findById(creatorId).orElseThrow().setName(name + " (renamed)"));
+
+		assertThat(transaction.execute(status -> creatorRepository.findByName(name))).isEmpty();
+		assertThat(transaction.execute(status -> creatorRepository.findByName(name + " (renamed)")))
+				.get().extracting(Creator::getId).isEqualTo(creatorId);
+	}
+
+	@Test
+	void deleteRemovesTheCachedEntry() {
+		loadPublisher();
+		transaction.executeWithoutResult(status -> publisherRepository.deleteById(publisherId));
+
+		assertThat(transaction.execute(status -> publisherRepository.findById(publisherId))).isEmpty();
+		assertThat(transaction.execute(status -> publisherRepository.findByName(name))).isEmpty();
+	}
+
+	private Publisher loadPublisher() {
+		return transaction.execute(status -> publisherRepository.findById(publisherId).orElseThrow());
+	}
+
+	private Creator loadCreator() {
+		return transaction.execute(status -> creatorRepository.findById(creatorId).orElseThrow());
+	}
+
+	private long regionHits(String region) {
+		return statistics.getCacheRegionStatistics(region).getHitCount();
+	}
+}
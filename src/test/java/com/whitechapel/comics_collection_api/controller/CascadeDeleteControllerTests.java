@@ -0,0 +1,168 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteJob;
+import com.whitechapel.comics_collection_api.service.CascadeDeleteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DELETE de series y publishers: 204 si la cascada se hace en la request, 202 con
+ * Location al job si va en segundo plano, y GET /api/cascade-deletes/{jobId} con
+ * su progreso.
+ *
+ * Mismas propiedades que CascadeDeleteServiceTests: bloques de 2 cómics y hasta
+ * 3 cómics en la request.
+ */
+@SpringBootTest(properties = {
+		"cascade-delete.chunk-size=2",
+		"cascade-delete.sync-threshold=3"
+})
+@WithMockUser
+class CascadeDeleteControllerTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private CascadeDeleteService cascadeDeleteService;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private MockMvc mockMvc;
+
+	private Long publisherId;
+
+	private Long smallSeriesId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Publisher publisher = publisherRepository.save(
+					Publisher.builder().name("Cascade " + UUID.randomUUID()).build());
+			Series small = seriesRepository.save(
+					Series.builder().title("Small " + UUID.randomUUID()).numbers(2).publisher(publisher).build());
+			Series large = seriesRepository.save(
+					Series.builder().title("Large " + UUID.randomUUID()).numbers(5).publisher(publisher).build());
+			publisherId = publisher.getId();
+			smallSeriesId = small.getId();
+			for (int issue = 1; issue <= 2; issue++) {
+				saveComic(small, publisher, issue);
+			}
+			for (int issue = 1; issue <= 5; issue++) {
+				saveComic(large, publisher, issue);
+			}
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (publisherRepository.existsById(publisherId)) {
+			cascadeDeleteService.deletePublisher(publisherId).ifPresent(this::awaitFinished);
+		}
+	}
+
+	@Test
+	void smallCascadeAnswersNoContent() throws Exception {
+		mockMvc.perform(delete("/api/series/{id}", smallSeriesId)).andExpect(status().isNoContent());
+
+		assertThat(seriesRepository.existsById(smallSeriesId)).isFalse();
+		mockMvc.perform(delete("/api/series/{id}", smallSeriesId)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void largeCascadeAnswersAcceptedWithTheJobLocation() throws Exception {
+		String location = mockMvc.perform(delete("/api/publishers/{id}", publisherId))
+				.andExpect(status().isAccepted())
+				.andExpect(header().string("Location", startsWith("/api/cascade-deletes/")))
+				.andExpect(jsonPath("$.target").value("publisher"))
+				.andExpect(jsonPath("$.totalComics").value(7))
+				.andReturn().getResponse().getHeader("Location");
+		String jobId = location.substring(location.lastIndexOf('/') + 1);
+		awaitFinished(cascadeDeleteService.job(jobId).orElseThrow());
+
+		mockMvc.perform(get(location))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(jobId))
+				.andExpect(jsonPath("$.state").value("COMPLETED"))
+				.andExpect(jsonPath("$.deletedComics").value(7))
+				.andExpect(jsonPath("$.progress").value(1.0));
+		assertThat(publisherRepository.existsById(publisherId)).isFalse();
+	}
+
+	@Test
+	void unknownJobIsNotFound() throws Exception {
+		mockMvc.perform(get("/api/cascade-deletes/{jobId}", UUID.randomUUID())).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void anonymousRequestIsRejected() throws Exception {
+		mockMvc.perform(get("/api/cascade-deletes/{jobId}", UUID.randomUUID()).with(anonymous()))
+				.andExpect(status().is4xxClientError());
+	}
+
+	private void awaitFinished(CascadeDeleteJob job) {
+		Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+		while (job.getFinishedAt() == null) {
+			assertThat(Instant.now()).as("job %s sin terminar", job.getId()).isBefore(deadline);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private void saveComic(Series series, Publisher publisher, int issue) {
+		comicRepository.save(Comic.builder()
+				.title(series.getTitle() + " #" + issue)
+				.issueNumber(issue)
+				.year(2000)
+				.owned(true)
+				.series(series)
+				.publisher(publisher)
+				.creators(new HashSet<>())
+				.build());
+	}
+}
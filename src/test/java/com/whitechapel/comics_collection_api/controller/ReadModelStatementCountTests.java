@@ -0,0 +1,159 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba que los endpoints de lectura ejecutan un número constante de
+ * sentencias SQL, independiente del número de filas (sin N+1).
+ *
+ * Las cifras incluyen las consultas de versión del GET condicional
+ * (1 por recurso; 1 por tabla en los listados).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReadModelStatementCountTests {
+
+	private static final int COMICS = 30;
+
+	@Autowired
+	private ComicController comicController;
+
+	@Autowired
+	private SeriesController seriesController;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private Long firstComicId;
+
+	@BeforeEach
+	void setUp() {
+		Publisher publisher = publisherRepository.save(
+				Publisher.builder().name("Publisher " + UUID.randomUUID()).build());
+		Series series = seriesRepository.save(
+				Series.builder().title("Series").numbers(COMICS).publisher(publisher).build());
+		List<Creator> creators = creatorRepository.saveAll(List.of(
+				Creator.builder().name("Writer").build(),
+				Creator.builder().name("Artist").build()));
+
+		for (int i = 1; i <= COMICS; i++) {
+			Comic comic = comicRepository.save(Comic.builder()
+					.title("Issue #" + i)
+					.issueNumber(i)
+					.year(1990)
+					.owned(true)
+					.series(series)
+					.publisher(publisher)
+					.creators(new HashSet<>(Set.copyOf(creators)))
+					.build());
+			if (firstComicId == null) {
+				firstComicId = comic.getId();
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void comicPageUsesConstantStatements() {
+		comicController.getAllComics(PageRequest.of(0, COMICS), get());
+
+		// versiones (comic, series, publisher, creator) + filas + count + creadores
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4 + 3);
+	}
+
+	@Test
+	void comicByIdUsesConstantStatements() {
+		comicController.getComicById(firstComicId, get());
+
+		// versión + fila + creadores
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 2);
+	}
+
+	@Test
+	void comicByIdNotModifiedOnlyReadsVersion() {
+		ServletWebRequest first = get();
+		comicController.getComicById(firstComicId, first);
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotBlank();
+		statistics.clear();
+
+		ServletWebRequest conditional = get();
+		((MockHttpServletRequest) conditional.getRequest()).addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+		ResponseEntity<?> response = comicController.getComicById(firstComicId, conditional);
+
+		// 304 con una sola consulta de versión, sin cargar el cómic
+		assertThat(response).isNull();
+		assertThat(conditional.getResponse().getStatus()).isEqualTo(304);
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void comicScrollUsesConstantStatements() {
+		comicController.scrollComics("title", "asc", COMICS, null);
+
+		// filas con entity graph + creadores
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void seriesPageUsesConstantStatements() {
+		seriesController.getAll(PageRequest.of(0, COMICS), get());
+
+		// versiones (series, publisher) + filas con su publisher + count
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2 + 2);
+	}
+
+	private static ServletWebRequest get() {
+		return new ServletWebRequest(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+	}
+}
@@ -0,0 +1,70 @@
+package com.whitechapel.comics_collection_api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * gzip solo en el servidor de la API: el puerto de gestión (Actuator) responde sin
+ * comprimir aunque el cliente lo acepte.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "management.server.port=0")
+class ResponseCompressionTests {
+
+	// Por encima de api.compression.min-response-size
+	private static final int MIN_COMPRESSED_SIZE = 2048;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Value("${local.server.port}")
+	private int serverPort;
+
+	@Value("${local.management.port}")
+	private int managementPort;
+
+	@Test
+	void apiJsonIsCompressedWhenAccepted() throws Exception {
+		HttpResponse<byte[]> response = get(serverPort, "/v3/api-docs", "gzip");
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+	}
+
+	@Test
+	void apiJsonIsNotCompressedWithoutAcceptEncoding() throws Exception {
+		HttpResponse<byte[]> response = get(serverPort, "/v3/api-docs", "identity");
+
+		assertThat(response.body().length).isGreaterThan(MIN_COMPRESSED_SIZE);
+		assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+	}
+
+	@Test
+	void actuatorIsNeverCompressed() throws Exception {
+		HttpResponse<byte[]> metrics = get(managementPort, "/actuator/metrics", "gzip");
+
+		assertThat(metrics.statusCode()).isEqualTo(200);
+		assertThat(metrics.headers().firstValue("Content-Type")).hasValueSatisfying(
+				type -> assertThat(type).startsWith("application/json"));
+		assertThat(metrics.body().length).isGreaterThan(MIN_COMPRESSED_SIZE);
+		assertThat(metrics.headers().firstValue("Content-Encoding")).isEmpty();
+	}
+
+	private HttpResponse<byte[]> get(int port, String path, String acceptEncoding)
+			throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Accept", "application/json")
+				.header("Accept-Encoding", acceptEncoding)
+				.GET()
+				.build();
+		return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+	}
+}
@@ -0,0 +1,39 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cabecera Range: rangos parciales (206), cabeceras ignoradas (200 con el fichero
+ * completo, array vacío) y rangos no satisfacibles (416, null).
+ */
+class CoverSenderTests {
+
+	private static final long LENGTH = 10;
+
+	@Test
+	void satisfiableRangesAreClampedToTheFile() {
+		assertThat(CoverSender.parseRange("bytes=0-0", LENGTH)).containsExactly(0, 0);
+		assertThat(CoverSender.parseRange("bytes=2-100", LENGTH)).containsExactly(2, 9);
+		assertThat(CoverSender.parseRange("bytes=4-", LENGTH)).containsExactly(4, 9);
+		assertThat(CoverSender.parseRange("bytes=-3", LENGTH)).containsExactly(7, 9);
+		assertThat(CoverSender.parseRange("bytes=-30", LENGTH)).containsExactly(0, 9);
+	}
+
+	@Test
+	void invalidOrUnsupportedRangesServeTheWholeFile() {
+		assertThat(CoverSender.parseRange("bytes=5-3", LENGTH)).isEmpty();
+		assertThat(CoverSender.parseRange("bytes=1-2,4-5", LENGTH)).isEmpty();
+		assertThat(CoverSender.parseRange("items=1-2", LENGTH)).isEmpty();
+		assertThat(CoverSender.parseRange("bytes=x-y", LENGTH)).isEmpty();
+		assertThat(CoverSender.parseRange("bytes=5", LENGTH)).isEmpty();
+	}
+
+	@Test
+	void rangesStartingPastTheEndAreNotSatisfiable() {
+		assertThat(CoverSender.parseRange("bytes=10-20", LENGTH)).isNull();
+		assertThat(CoverSender.parseRange("bytes=-0", LENGTH)).isNull();
+		assertThat(CoverSender.parseRange("bytes=0-", 0)).isNull();
+	}
+}
@@ -0,0 +1,55 @@
+package com.whitechapel.comics_collection_api.cover;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lectura de originales: las dimensiones se comprueban en la cabecera y las
+ * imágenes por encima del límite no se decodifican.
+ */
+class ThumbnailGeneratorTests {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void imagesWithinTheLimitAreDecoded() throws IOException {
+		Path png = png(40, 20);
+
+		BufferedImage image = generator(800).read(png);
+
+		assertThat(image).isNotNull();
+		assertThat(image.getWidth()).isEqualTo(40);
+		assertThat(image.getHeight()).isEqualTo(20);
+	}
+
+	@Test
+	void imagesOverTheLimitAreRejected() throws IOException {
+		assertThat(generator(799).read(png(40, 20))).isNull();
+	}
+
+	@Test
+	void unknownFormatsAreSkipped() throws IOException {
+		Path file = Files.writeString(directory.resolve("not-an-image.bin"), "plain text");
+
+		assertThat(generator(800).read(file)).isNull();
+	}
+
+	private ThumbnailGenerator generator(long maxPixels) throws IOException {
+		return new ThumbnailGenerator(new CoverStore(directory.resolve("store")), 300, maxPixels, 1, 1);
+	}
+
+	private Path png(int width, int height) throws IOException {
+		Path file = directory.resolve(width + "x" + height + ".png");
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+		return file;
+	}
+}
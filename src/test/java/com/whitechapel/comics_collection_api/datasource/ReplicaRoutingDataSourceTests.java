@@ -0,0 +1,206 @@
+package com.whitechapel.comics_collection_api.datasource;
+
+import com.whitechapel.comics_collection_api.controller.AuthController;
+import com.whitechapel.comics_collection_api.controller.ComicController;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Decisiones de enrutado de {@link ReplicaRoutingDataSource} con una sola base de datos:
+ * la "réplica" es un segundo pool contra el mismo PostgreSQL que se distingue por su
+ * application_name. La prueba con dos instancias reales está en docs/read-replicas.md.
+ */
+@SpringBootTest
+class ReplicaRoutingDataSourceTests {
+
+	private static final String REPLICA = "replica-test";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ComicController comicController;
+
+	@Autowired
+	private AuthController authController;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${spring.datasource.url}")
+	private String url;
+
+	@Value("${spring.datasource.username}")
+	private String username;
+
+	@Value("${spring.datasource.password}")
+	private String password;
+
+	private ReplicaRoutingDataSource routing;
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+		SecurityContextHolder.clearContext();
+		if (routing != null) {
+			routing.close();
+		}
+	}
+
+	@Test
+	void readsOfAnnotatedControllersGoToTheReplica() throws Exception {
+		routing = routing(url);
+		request("GET", comicController);
+
+		assertThat(applicationName()).isEqualTo(REPLICA);
+		assertThat(readOnlyTransaction(true)).isEqualTo(REPLICA);
+		assertThat(readOnlyTransaction(false)).isNotEqualTo(REPLICA);
+	}
+
+	@Test
+	void otherRequestsUseThePrimary() throws Exception {
+		routing = routing(url);
+
+		request("GET", authController);
+		assertThat(applicationName()).isNotEqualTo(REPLICA);
+
+		RequestContextHolder.resetRequestAttributes();
+		assertThat(applicationName()).isNotEqualTo(REPLICA);
+	}
+
+	@Test
+	void readsFollowTheUsersOwnWritesToThePrimary() throws Exception {
+		routing = routing(url);
+
+		authenticate("writer");
+		request("POST", comicController);
+		assertThat(applicationName()).isNotEqualTo(REPLICA);
+
+		request("GET", comicController);
+		assertThat(applicationName()).isNotEqualTo(REPLICA);
+
+		authenticate("reader");
+		assertThat(applicationName()).isEqualTo(REPLICA);
+	}
+
+	@Test
+	void unreachableReplicaFallsBackToThePrimary() throws Exception {
+		routing = routing("jdbc:postgresql://localhost:1/comics_collection");
+		request("GET", comicController);
+
+		assertThat(routing.replicas().get(0).isAvailable()).isFalse();
+		assertThat(applicationName()).isNotEqualTo(REPLICA);
+	}
+
+	@Test
+	void replicaPoolsAppearInMetricsAndHealth() throws Exception {
+		routing = routing(url);
+		DataSource proxy = new LazyConnectionDataSourceProxy(routing);
+		ReadReplicaConfig config = new ReadReplicaConfig();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+		config.replicaPoolMetrics(proxy).bindTo(registry);
+		request("GET", comicController);
+		applicationName();
+
+		assertThat(registry.find("hikaricp.connections.acquire").tag("pool", REPLICA).timer()).isNotNull();
+		assertThat(registry.find("hikaricp.connections").tag("pool", REPLICA).gauge()).isNotNull();
+
+		Health health = config.readReplicasHealthIndicator(proxy).health();
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsKey(REPLICA);
+	}
+
+	@Test
+	void unavailableReplicaIsUnknownInHealth() {
+		routing = routing("jdbc:postgresql://localhost:1/comics_collection");
+
+		Health health = new ReadReplicaConfig()
+				.readReplicasHealthIndicator(new LazyConnectionDataSourceProxy(routing)).health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+		assertThat(routing.replicas().get(0).lagMillis()).isEqualTo(-1);
+	}
+
+	// ------------------------
+	// Utilidades
+	// ------------------------
+
+	private ReplicaRoutingDataSource routing(String replicaUrl) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName(REPLICA);
+		config.setJdbcUrl(replicaUrl);
+		config.setUsername(username);
+		config.setPassword(password);
+		config.setMaximumPoolSize(2);
+		config.setConnectionTimeout(500);
+		config.setInitializationFailTimeout(-1);
+		config.addDataSourceProperty("ApplicationName", REPLICA);
+
+		ReplicaDataSource replica = new ReplicaDataSource(REPLICA, new HikariDataSource(config));
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource, List.of(replica), 1_000, 60_000);
+		routing.checkReplicas();
+		return routing;
+	}
+
+	private static void request(String method, Object controller) throws NoSuchMethodException {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, "/");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(controller, Object.class.getMethod("toString")));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	private static void authenticate(String user) {
+		SecurityContextHolder.getContext().setAuthentication(
+				UsernamePasswordAuthenticationToken.authenticated(user, null, AuthorityUtils.NO_AUTHORITIES));
+	}
+
+	private String readOnlyTransaction(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> {
+			try {
+				return applicationName();
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private String applicationName() throws SQLException {
+		try (Connection connection = routing.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("show application_name")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.whitechapel.comics_collection_api.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Los serializadores específicos de las vistas producen exactamente el mismo JSON
+ * que la serialización por defecto de los records (mismos campos, orden y null).
+ * Si falla tras añadir un componente a una vista, falta escribirlo en su serializador.
+ *
+ * Se comprueba con un mapper por defecto y con el que configura Spring Boot (el
+ * que usan los controllers): sus features y módulos también deben dar lo mismo.
+ */
+@SpringBootTest
+class ViewSerializerTests {
+
+	private final JsonMapper mapper = JsonMapper.builder().build();
+
+	// Sin los serializadores: introspección por defecto de los records
+	private final ObjectMapper reflective = withoutSerializers(mapper);
+
+	@Autowired
+	private JsonMapper springMapper;
+
+	@Test
+	void comicViewMatchesDefaultSerialization() {
+		ComicView full = new ComicView(1L, "Amazing Spider-Man #1", 1, 1963, "Standard \"A\"",
+				new EntityRef(1L, "Amazing Spider-Man"), new EntityRef(2L, "Marvel"),
+				List.of(new EntityRef(3L, "Stan Lee"), new EntityRef(4L, "Steve Ditko")),
+				true, "Near Mint", 1000.5, LocalDate.of(2020, 1, 31), "Notas\ncon salto", "/covers/abc.jpg");
+		ComicView empty = new ComicView(2L, "Sin datos", null, null, null,
+				null, null, List.of(), false, null, null, null, null, null);
+
+		assertSameJson(full);
+		assertSameJson(empty);
+		assertSameJson(new PageImpl<>(List.of(full, empty), PageRequest.of(0, 20), 2));
+	}
+
+	@Test
+	void seriesViewMatchesDefaultSerialization() {
+		assertSameJson(new SeriesView(1L, "Amazing Spider-Man", 441, 2L, "Marvel"));
+		assertSameJson(new SeriesView(2L, null, 0, null, null));
+	}
+
+	private void assertSameJson(Object value) {
+		assertThat(mapper.writeValueAsString(value)).isEqualTo(reflective.writeValueAsString(value));
+		assertThat(springMapper.writeValueAsString(value))
+				.isEqualTo(withoutSerializers(springMapper).writeValueAsString(value));
+	}
+
+	private static ObjectMapper withoutSerializers(JsonMapper base) {
+		return base.rebuild()
+				.addMixIn(ComicView.class, DefaultSerialization.class)
+				.addMixIn(SeriesView.class, DefaultSerialization.class)
+				.build();
+	}
+
+	@JsonSerialize(using = ValueSerializer.None.class)
+	private interface DefaultSerialization {
+	}
+}
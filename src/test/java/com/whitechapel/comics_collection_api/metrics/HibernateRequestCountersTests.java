@@ -0,0 +1,96 @@
+package com.whitechapel.comics_collection_api.metrics;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountingStatementInspector y HibernateLoadCounter cuentan el trabajo real de
+ * Hibernate en los contadores de la request en curso.
+ */
+@SpringBootTest
+@Transactional
+class HibernateRequestCountersTests {
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@AfterEach
+	void tearDown() {
+		RequestQueryStats.end();
+	}
+
+	@Test
+	void statementsEntityLoadsAndCollectionFetchesAreCounted() {
+		Long seriesId = createSeriesWithComics(3);
+		entityManager.clear();
+
+		RequestQueryStats.Counts counts = RequestQueryStats.begin();
+		Series series = seriesRepository.findById(seriesId).orElseThrow();
+		int comics = series.getComics().size();
+
+		assertThat(comics).isEqualTo(3);
+		assertThat(counts.statements).isGreaterThanOrEqualTo(2);
+		// La serie y sus tres comics
+		assertThat(counts.entityLoads).isGreaterThanOrEqualTo(4);
+		assertThat(counts.collectionFetches).isEqualTo(1);
+	}
+
+	@Test
+	void inspectorLeavesTheSqlUnchanged() {
+		RequestQueryStats.Counts counts = RequestQueryStats.begin();
+
+		String sql = "select 1";
+		assertThat(new CountingStatementInspector().inspect(sql)).isSameAs(sql);
+		assertThat(counts.statements).isEqualTo(1);
+	}
+
+	@Test
+	void workOutsideARequestIsNotCounted() {
+		Long seriesId = createSeriesWithComics(1);
+		entityManager.clear();
+
+		seriesRepository.findById(seriesId).orElseThrow().getComics().size();
+
+		RequestQueryStats.Counts counts = RequestQueryStats.begin();
+		assertThat(counts.statements).isZero();
+		assertThat(counts.entityLoads).isZero();
+		assertThat(counts.collectionFetches).isZero();
+	}
+
+	private Long createSeriesWithComics(int count) {
+		Publisher publisher = publisherRepository.save(
+				Publisher.builder().name("Metrics " + UUID.randomUUID()).build());
+		Series series = seriesRepository.save(
+				Series.builder().title("Metrics " + UUID.randomUUID()).numbers(count).publisher(publisher).build());
+		for (int i = 1; i <= count; i++) {
+			comicRepository.save(Comic.builder().title("Metrics #" + i).issueNumber(i).year(2020)
+					.series(series).publisher(publisher).creators(new HashSet<>()).build());
+		}
+		entityManager.flush();
+		return series.getId();
+	}
+}
@@ -0,0 +1,86 @@
+package com.whitechapel.comics_collection_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Métricas por request: se publican con el patrón del endpoint, también si la
+ * request falla, y fuera de una request no se cuenta nada.
+ */
+class RequestMetricsFilterTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final RequestMetricsFilter filter = new RequestMetricsFilter(registry);
+
+	@AfterEach
+	void tearDown() {
+		RequestQueryStats.end();
+	}
+
+	@Test
+	void countsAreRecordedWithTheEndpointPattern() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/comics/42");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/comics/{id}");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			RequestQueryStats.statementPrepared();
+			RequestQueryStats.statementPrepared();
+			RequestQueryStats.entityLoaded();
+			RequestQueryStats.collectionFetched();
+		});
+
+		assertThat(summary("hibernate.request.statements", "/api/comics/{id}").totalAmount()).isEqualTo(2);
+		assertThat(summary("hibernate.request.entity.loads", "/api/comics/{id}").totalAmount()).isEqualTo(1);
+		assertThat(summary("hibernate.request.collection.fetches", "/api/comics/{id}").totalAmount()).isEqualTo(1);
+	}
+
+	@Test
+	void requestsWithoutHandlerAreTaggedUnknown() throws Exception {
+		filter.doFilter(new MockHttpServletRequest("GET", "/nothing/here"), new MockHttpServletResponse(),
+				(req, res) -> RequestQueryStats.statementPrepared());
+
+		assertThat(summary("hibernate.request.statements", "UNKNOWN").count()).isEqualTo(1);
+	}
+
+	@Test
+	void failedRequestsAreStillRecorded() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/comics");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/comics");
+
+		assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			RequestQueryStats.statementPrepared();
+			throw new ServletException("boom");
+		})).isInstanceOf(ServletException.class);
+
+		DistributionSummary statements = registry.find("hibernate.request.statements")
+				.tags("method", "POST", "uri", "/api/comics").summary();
+		assertThat(statements).isNotNull();
+		assertThat(statements.totalAmount()).isEqualTo(1);
+	}
+
+	@Test
+	void nothingIsCountedOutsideARequest() throws Exception {
+		RequestQueryStats.statementPrepared();
+		RequestQueryStats.entityLoaded();
+
+		RequestQueryStats.Counts counts = RequestQueryStats.begin();
+		assertThat(counts.statements).isZero();
+		assertThat(counts.entityLoads).isZero();
+	}
+
+	private DistributionSummary summary(String name, String uri) {
+		DistributionSummary summary = registry.find(name).tags("method", "GET", "uri", uri).summary();
+		assertThat(summary).as(name).isNotNull();
+		return summary;
+	}
+}
@@ -0,0 +1,344 @@
+package com.whitechapel.comics_collection_api.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba que el esquema creado por las migraciones (db/migration) tiene
+ * índices para todo lo que consultan los repositories.
+ *
+ * - Toda clave foránea tiene un índice cuyas primeras columnas son las de la clave
+ * - Todo predicado de un método de repository (derivado del nombre o @Query)
+ *   tiene un índice que empieza por esa columna; los derivados con OrderBy
+ *   necesitan además las columnas de orden a continuación
+ * - Containing + IgnoreCase necesita un índice GIN de trigramas sobre upper(columna)
+ *
+ * Si falla tras añadir una consulta, crea el índice en una nueva migración.
+ */
+@SpringBootTest
+class IndexCoverageTests {
+
+	private static final Pattern ALIAS = Pattern.compile(
+			"\\b(?:from|join|update)\\s+(\\w+(?:\\.\\w+)?)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern PREDICATE = Pattern.compile(
+			"\\b(\\w+)\\.([\\w.]+)\\s*(?:=|<>|<=|>=|<|>|\\bin\\b|\\blike\\b|\\bbetween\\b|\\bis\\b)",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern NATIVE_PREDICATE = Pattern.compile(
+			"\\bfrom\\s+(\\w+)\\s+where\\s+(\\w+)\\s*(?:=|\\bin\\b)", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern WHERE = Pattern.compile(
+			"\\bwhere\\b(.*?)(?:\\bgroup\\s+by\\b|\\border\\s+by\\b|$)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// tabla -> índices (claves normalizadas) de la base de datos
+	private Map<String, List<IndexDef>> indexes;
+
+	@BeforeEach
+	void loadIndexes() {
+		indexes = new HashMap<>();
+		jdbcTemplate.query("select tablename, indexdef from pg_indexes where schemaname = 'public'", (RowCallbackHandler) rs -> {
+			indexes.computeIfAbsent(rs.getString("tablename"), table -> new ArrayList<>())
+					.add(IndexDef.parse(rs.getString("indexdef")));
+		});
+	}
+
+	@Test
+	void everyForeignKeyIsIndexed() {
+		List<String> unindexed = jdbcTemplate.queryForList(
+				"select c.conrelid::regclass::text || '.' || c.conname from pg_constraint c "
+						+ "where c.contype = 'f' and c.connamespace = 'public'::regnamespace "
+						+ "and not exists (select 1 from pg_index i where i.indrelid = c.conrelid "
+						+ "and (i.indkey::int2[])[0:array_length(c.conkey, 1) - 1] @> c.conkey)",
+				String.class);
+
+		assertThat(unindexed).as("claves foráneas sin índice").isEmpty();
+	}
+
+	@Test
+	void everyRepositoryPredicateIsIndexed() {
+		List<String> missing = new ArrayList<>();
+		Repositories repositories = new Repositories(applicationContext);
+
+		for (Class<?> domainType : repositories) {
+			RepositoryInformation information = repositories.getRepositoryInformationFor(domainType).orElseThrow();
+			for (Method method : information.getQueryMethods()) {
+				String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+				Query query = method.getAnnotation(Query.class);
+				List<Requirement> requirements = query == null
+						? derivedRequirements(method, domainType)
+						: query.nativeQuery() ? nativeRequirements(query.value()) : jpqlRequirements(query.value());
+				for (Requirement requirement : requirements) {
+					if (!isCovered(requirement)) {
+						missing.add(name + " -> " + requirement);
+					}
+				}
+			}
+		}
+
+		assertThat(missing).as("predicados de repository sin índice").isEmpty();
+	}
+
+	// ------------------------
+	// Requisitos por tipo de consulta
+	// ------------------------
+
+	/**
+	 * Consultas derivadas del nombre (findBy..., countBy...).
+	 */
+	private static List<Requirement> derivedRequirements(Method method, Class<?> domainType) {
+		PartTree tree;
+		try {
+			tree = new PartTree(method.getName(), domainType);
+		} catch (RuntimeException e) {
+			return List.of(); // No es una consulta derivada
+		}
+
+		String table = table(domainType);
+		List<Requirement> requirements = new ArrayList<>();
+		List<String> keys = new ArrayList<>();
+		for (Part part : tree.getParts()) {
+			Column column = column(domainType, part.getProperty());
+			if (part.getType() == Part.Type.CONTAINING && part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER) {
+				requirements.add(Requirement.trigram(column.table(), "upper(" + column.name() + ")"));
+			} else if (column.table().equals(table)) {
+				keys.add(column.name());
+			} else {
+				requirements.add(Requirement.of(column.table(), List.of(column.name())));
+			}
+		}
+		if (!keys.isEmpty()) {
+			for (Sort.Order order : tree.getSort()) {
+				keys.add(snake(order.getProperty()));
+			}
+			requirements.add(Requirement.of(table, keys));
+		}
+		return requirements;
+	}
+
+	/**
+	 * Consultas JPQL: cada "alias.propiedad <operador>" del where.
+	 */
+	private static List<Requirement> jpqlRequirements(String jpql) {
+		Map<String, Class<?>> aliases = new HashMap<>();
+		Matcher alias = ALIAS.matcher(jpql);
+		while (alias.find()) {
+			String source = alias.group(1);
+			int dot = source.indexOf('.');
+			Class<?> type = dot < 0
+					? entity(source)
+					: fieldType(aliases.get(source.substring(0, dot)), source.substring(dot + 1));
+			if (type != null) {
+				aliases.put(alias.group(2), type);
+			}
+		}
+
+		List<Requirement> requirements = new ArrayList<>();
+		Matcher where = WHERE.matcher(jpql);
+		if (!where.find()) {
+			return requirements;
+		}
+		Matcher predicate = PREDICATE.matcher(where.group(1));
+		while (predicate.find()) {
+			Class<?> type = aliases.get(predicate.group(1));
+			if (type != null) {
+				Column column = column(type, PropertyPath.from(predicate.group(2), type));
+				requirements.add(Requirement.of(column.table(), List.of(column.name())));
+			}
+		}
+		return requirements;
+	}
+
+	/**
+	 * Consultas nativas sencillas: "from tabla where columna ...".
+	 */
+	private static List<Requirement> nativeRequirements(String sql) {
+		Matcher predicate = NATIVE_PREDICATE.matcher(sql);
+		List<Requirement> requirements = new ArrayList<>();
+		while (predicate.find()) {
+			requirements.add(Requirement.of(predicate.group(1), List.of(predicate.group(2))));
+		}
+		return requirements;
+	}
+
+	private boolean isCovered(Requirement requirement) {
+		for (IndexDef index : indexes.getOrDefault(requirement.table(), List.of())) {
+			if (requirement.trigram()) {
+				if (index.trigram() && index.keys().get(0).equals(requirement.keys().get(0))) {
+					return true;
+				}
+			} else if (index.startsWith(requirement.keys())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// ------------------------
+	// Correspondencia entidad -> tabla/columna (misma convención que Spring Boot)
+	// ------------------------
+
+	/**
+	 * Resuelve una ruta de propiedades: "series.publisher.id" desde Comic es series.publisher_id.
+	 */
+	private static Column column(Class<?> type, PropertyPath path) {
+		PropertyPath current = path;
+		Class<?> owner = type;
+		while (current.hasNext() && !(isEntity(current.getType()) && isIdOnly(current.next()))) {
+			owner = current.getType();
+			current = current.next();
+		}
+		if (current.hasNext()) {
+			return new Column(table(owner), snake(current.getSegment()) + "_id"); // asociación.id -> FK
+		}
+		if (isEntity(current.getType())) {
+			return new Column(table(owner), snake(current.getSegment()) + "_id");
+		}
+		return new Column(table(owner), snake(current.getSegment()));
+	}
+
+	private static boolean isIdOnly(PropertyPath path) {
+		return path.getSegment().equals("id") && !path.hasNext();
+	}
+
+	private static boolean isEntity(Class<?> type) {
+		return type.isAnnotationPresent(Entity.class);
+	}
+
+	private static Class<?> entity(String simpleName) {
+		try {
+			return Class.forName("com.whitechapel.comics_collection_api.entity." + simpleName);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static Class<?> fieldType(Class<?> owner, String name) {
+		if (owner == null) {
+			return null;
+		}
+		try {
+			Field field = owner.getDeclaredField(name);
+			if (isEntity(field.getType())) {
+				return field.getType();
+			}
+			// Colecciones: el tipo del elemento
+			return PropertyPath.from(name, owner).getType();
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+
+	private static String table(Class<?> type) {
+		Table table = type.getAnnotation(Table.class);
+		return table != null && !table.name().isEmpty() ? table.name() : snake(type.getSimpleName());
+	}
+
+	private static String snake(String name) {
+		return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+	}
+
+	// ------------------------
+	// Tipos auxiliares
+	// ------------------------
+
+	private record Column(String table, String name) {
+	}
+
+	private record Requirement(String table, List<String> keys, boolean trigram) {
+
+		static Requirement of(String table, List<String> keys) {
+			return new Requirement(table, List.copyOf(keys), false);
+		}
+
+		static Requirement trigram(String table, String expression) {
+			return new Requirement(table, List.of(expression), true);
+		}
+
+		@Override
+		public String toString() {
+			return table + (trigram ? " gin_trgm_ops " : " ") + keys;
+		}
+	}
+
+	/**
+	 * Índice leído de pg_indexes, con sus claves normalizadas
+	 * ("upper((title)::text) gin_trgm_ops" -> "upper(title)").
+	 */
+	private record IndexDef(List<String> keys, boolean trigram) {
+
+		static IndexDef parse(String indexdef) {
+			int using = indexdef.indexOf(" USING ");
+			int open = indexdef.indexOf('(', using);
+			int depth = 0;
+			int close = open;
+			List<String> keys = new ArrayList<>();
+			StringBuilder key = new StringBuilder();
+			for (int i = open + 1; i < indexdef.length(); i++) {
+				char c = indexdef.charAt(i);
+				if (c == '(') depth++;
+				if (c == ')' && depth-- == 0) {
+					close = i;
+					break;
+				}
+				if (c == ',' && depth == 0) {
+					keys.add(normalize(key.toString()));
+					key.setLength(0);
+				} else {
+					key.append(c);
+				}
+			}
+			keys.add(normalize(key.toString()));
+			boolean trigram = indexdef.substring(using, close).contains("gin_trgm_ops");
+			return new IndexDef(keys, trigram);
+		}
+
+		boolean startsWith(List<String> required) {
+			if (required.size() > keys.size()) {
+				return false;
+			}
+			// Las columnas de igualdad pueden ir en cualquier orden dentro del prefijo
+			return Set.copyOf(keys.subList(0, required.size())).equals(Set.copyOf(required));
+		}
+
+		private static String normalize(String key) {
+			String expression = key.trim().split("\\s+(?![^(]*\\))")[0];
+			return expression.replace("::text", "")
+					.replace("::character varying", "")
+					.replaceAll("\\(\\((\\w+)\\)\\)", "($1)")
+					.replace("\"", "");
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.whitechapel.comics_collection_api.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ranking del índice invertido en memoria: peso del título, coincidencias exactas,
+ * por prefijo y con erratas, filtro por tipo y paginación.
+ */
+class InMemorySearchBackendTests {
+
+	private static final Set<SearchType> ALL = EnumSet.allOf(SearchType.class);
+
+	private InMemorySearchBackend backend;
+
+	@BeforeEach
+	void setUp() {
+		backend = new InMemorySearchBackend();
+		backend.index(new SearchDocument(SearchType.COMIC, 1L, "Amazing Spider-Man", "Standard"));
+		backend.index(new SearchDocument(SearchType.COMIC, 2L, "Fantastic Four", "Cameo de Spider-Man"));
+		backend.index(new SearchDocument(SearchType.SERIES, 3L, "Spider-Woman", null));
+		backend.index(new SearchDocument(SearchType.CREATOR, 4L, "Álvaro Ortiz", null));
+		backend.index(new SearchDocument(SearchType.CREATOR, 5L, "Peter Møller", null));
+	}
+
+	@Test
+	void titleMatchesRankAboveSecondaryText() {
+		SearchResults results = backend.search("spider man", ALL, 0, 10);
+
+		assertThat(results.hits()).extracting(SearchHit::id).startsWith(1L, 2L);
+		assertThat(results.hits().get(0).score()).isGreaterThan(results.hits().get(1).score());
+	}
+
+	@Test
+	void exactMatchRanksAbovePrefixMatch() {
+		backend.index(new SearchDocument(SearchType.SERIES, 6L, "Spiders", null));
+
+		SearchResults results = backend.search("spider", EnumSet.of(SearchType.SERIES), 0, 10);
+
+		assertThat(results.hits()).extracting(SearchHit::id).containsExactly(3L, 6L);
+	}
+
+	@Test
+	void findsPrefixesTyposAndAccentlessQueries() {
+		assertThat(backend.search("spid", ALL, 0, 10).hits()).extracting(SearchHit::id).contains(1L, 3L);
+		assertThat(backend.search("spidr", ALL, 0, 10).hits()).extracting(SearchHit::id).contains(1L, 3L);
+		assertThat(backend.search("alvaro", ALL, 0, 10).hits()).extracting(SearchHit::id).containsExactly(4L);
+	}
+
+	@Test
+	void nonAsciiTermIsMatchedWhole() {
+		SearchResults results = backend.search("møller", ALL, 0, 10);
+
+		assertThat(results.hits()).extracting(SearchHit::id).containsExactly(5L);
+		// Un único término exacto del título (peso 2), no dos fragmentos sueltos
+		assertThat(results.hits().get(0).score()).isEqualTo(2.0);
+	}
+
+	@Test
+	void filtersByTypeAndPaginates() {
+		assertThat(backend.search("spider", EnumSet.of(SearchType.SERIES), 0, 10).hits())
+				.extracting(SearchHit::id).containsExactly(3L);
+
+		SearchResults second = backend.search("spider", ALL, 1, 2);
+		assertThat(second.total()).isEqualTo(3);
+		assertThat(second.hits()).hasSize(1);
+	}
+
+	@Test
+	void pageBeyondIntRangeIsEmpty() {
+		SearchResults results = backend.search("spider", ALL, Integer.MAX_VALUE, 100);
+		assertThat(results.total()).isEqualTo(3);
+		assertThat(results.hits()).isEmpty();
+	}
+
+	@Test
+	void reindexAndRemoveUpdatePostings() {
+		backend.index(new SearchDocument(SearchType.COMIC, 1L, "Amazing Fantasy", null));
+		assertThat(backend.search("spider", EnumSet.of(SearchType.COMIC), 0, 10).hits())
+				.extracting(SearchHit::id).containsExactly(2L);
+
+		backend.remove(SearchType.COMIC, 2L);
+		assertThat(backend.search("spider", EnumSet.of(SearchType.COMIC), 0, 10).total()).isZero();
+	}
+
+	@Test
+	void blankQueryReturnsNothing() {
+		assertThat(backend.search(" - ", ALL, 0, 10).hits()).isEmpty();
+	}
+}
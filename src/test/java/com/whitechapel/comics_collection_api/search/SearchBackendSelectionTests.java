@@ -0,0 +1,41 @@
+package com.whitechapel.comics_collection_api.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * La propiedad search.backend elige exactamente una implementación de SearchBackend.
+ */
+class SearchBackendSelectionTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withBean(JdbcTemplate.class, () -> mock(JdbcTemplate.class))
+			.withUserConfiguration(InMemorySearchBackend.class, PostgresSearchBackend.class);
+
+	@Test
+	void memoryIsTheDefault() {
+		runner.run(context -> assertThat(context).hasSingleBean(SearchBackend.class)
+				.getBean(SearchBackend.class).isInstanceOf(InMemorySearchBackend.class));
+	}
+
+	@Test
+	void memoryCanBeSelectedExplicitly() {
+		runner.withPropertyValues("search.backend=memory")
+				.run(context -> assertThat(context).hasSingleBean(SearchBackend.class)
+						.getBean(SearchBackend.class).isInstanceOf(InMemorySearchBackend.class));
+	}
+
+	@Test
+	void postgresReplacesTheInMemoryIndex() {
+		runner.withPropertyValues("search.backend=postgres")
+				.run(context -> {
+					assertThat(context).hasSingleBean(SearchBackend.class)
+							.doesNotHaveBean(InMemorySearchBackend.class);
+					assertThat(context.getBean(SearchBackend.class).requiresIndexing()).isFalse();
+				});
+	}
+}
@@ -0,0 +1,40 @@
+package com.whitechapel.comics_collection_api.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Normalización y división en términos del buscador en memoria.
+ */
+class TextNormalizerTests {
+
+	@Test
+	void removesAccentsAndLowercases() {
+		assertThat(TextNormalizer.normalize("Álvaro ORTIZ")).isEqualTo("alvaro ortiz");
+		assertThat(TextNormalizer.normalize("Moebius: L'Incal Noir")).isEqualTo("moebius: l'incal noir");
+		assertThat(TextNormalizer.normalize(null)).isEmpty();
+	}
+
+	@Test
+	void splitsOnPunctuationAndSpaces() {
+		assertThat(TextNormalizer.tokenize("Amazing Spider-Man #1 (1963)"))
+				.containsExactly("amazing", "spider", "man", "1", "1963");
+		assertThat(TextNormalizer.tokenize("  -- ")).isEmpty();
+	}
+
+	@Test
+	void keepsLettersOutsideAscii() {
+		// Letras sin descomposición NFD: no deben partir el término
+		assertThat(TextNormalizer.tokenize("Peter Møller")).containsExactly("peter", "møller");
+		assertThat(TextNormalizer.tokenize("Straße")).containsExactly("straße");
+		assertThat(TextNormalizer.tokenize("Ωmega Men")).containsExactly("ωmega", "men");
+		assertThat(TextNormalizer.tokenize("手塚治虫 鉄腕アトム")).containsExactly("手塚治虫", "鉄腕アトム");
+		assertThat(TextNormalizer.tokenize("Тинтин")).containsExactly("тинтин");
+	}
+
+	@Test
+	void trigramsArePaddedLikePgTrgm() {
+		assertThat(TextNormalizer.trigrams("ab")).containsExactlyInAnyOrder("  a", " ab", "ab ");
+	}
+}
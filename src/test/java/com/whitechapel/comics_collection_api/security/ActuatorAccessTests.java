@@ -0,0 +1,53 @@
+package com.whitechapel.comics_collection_api.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Las métricas de Actuator solo son públicas en el puerto de gestión.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "management.server.port=0")
+class ActuatorAccessTests {
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Value("${local.server.port}")
+	private int serverPort;
+
+	@Value("${local.management.port}")
+	private int managementPort;
+
+	@Test
+	void prometheusIsServedOnTheManagementPort() throws Exception {
+		HttpResponse<String> response = get(managementPort, "/actuator/prometheus");
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.body()).contains("jvm_memory_used_bytes");
+	}
+
+	@Test
+	void healthIsPublicOnTheManagementPort() throws Exception {
+		assertThat(get(managementPort, "/actuator/health").statusCode()).isEqualTo(200);
+	}
+
+	@Test
+	void actuatorIsNotPublicOnTheApiPort() throws Exception {
+		assertThat(get(serverPort, "/actuator/prometheus").statusCode()).isIn(401, 403);
+		assertThat(get(serverPort, "/actuator/metrics").statusCode()).isIn(401, 403);
+	}
+
+	private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+}
@@ -0,0 +1,52 @@
+package com.whitechapel.comics_collection_api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Los endpoints de /api/admin exponen contadores internos: solo para ROLE_ADMIN.
+ */
+@SpringBootTest
+class AdminAccessTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+	}
+
+	@Test
+	void anonymousRequestIsRejected() throws Exception {
+		mockMvc.perform(get("/api/admin/user-cache"))
+				.andExpect(status().is4xxClientError());
+	}
+
+	@Test
+	@WithMockUser(roles = "USER")
+	void nonAdminGetsForbidden() throws Exception {
+		mockMvc.perform(get("/api/admin/user-cache")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/admin/second-level-cache")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/admin/revoked-tokens")).andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void adminCanReadCounters() throws Exception {
+		mockMvc.perform(get("/api/admin/user-cache")).andExpect(status().isOk());
+		mockMvc.perform(get("/api/admin/second-level-cache")).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,87 @@
+package com.whitechapel.comics_collection_api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filtro de Bloom: sin falsos negativos, tasa de falsos positivos cercana a la
+ * configurada y put() concurrentes sin perder bits.
+ */
+class BloomFilterTests {
+
+	@Test
+	void addedValuesAreAlwaysFound() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			values.add(UUID.randomUUID().toString());
+		}
+
+		values.forEach(filter::put);
+
+		assertThat(values).allMatch(filter::mightContain);
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTheConfiguredOne() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("revoked-" + i);
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("valid-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		// 1 % configurado; margen amplio para no depender de la distribución del hash
+		assertThat((double) falsePositives / probes).isLessThan(0.02);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(0, 0.001);
+
+		assertThat(filter.mightContain("anything")).isFalse();
+		assertThat(filter.sizeInBytes()).isPositive();
+	}
+
+	@Test
+	void concurrentPutsAreNotLost() throws Exception {
+		BloomFilter filter = new BloomFilter(40_000, 0.001);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10_000; i++) {
+						filter.put(thread + "-" + i);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (int t = 0; t < 4; t++) {
+			for (int i = 0; i < 10_000; i++) {
+				assertThat(filter.mightContain(t + "-" + i)).isTrue();
+			}
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.entity.User;
+import com.whitechapel.comics_collection_api.exception.PasswordHashingRejectedException;
+import com.whitechapel.comics_collection_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login con el pool de hashing: 429 con Retry-After cuando está saturado y rehash
+ * best-effort de los hashes con un coste de BCrypt menor que el configurado.
+ */
+@SpringBootTest(properties = "security.password.bcrypt-strength=5")
+@Transactional
+class PasswordHashingTests {
+
+	private static final String PASSWORD = "secret-password";
+
+	@MockitoBean
+	private PasswordHashingExecutor executor;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private MockMvc mockMvc;
+
+	private String username;
+
+	private String weakHash;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+		// Sin saturación el mock ejecuta la tarea en el propio hilo
+		when(executor.matches(any())).thenAnswer(invocation -> invocation.<Supplier<Boolean>>getArgument(0).get());
+		when(executor.encode(any())).thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(0).get());
+
+		username = "hashing-" + UUID.randomUUID();
+		weakHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword(weakHash);
+		userRepository.save(user);
+	}
+
+	@Test
+	void saturatedPoolAnswers429WithRetryAfter() throws Exception {
+		when(executor.matches(any())).thenThrow(new PasswordHashingRejectedException(1));
+
+		login(username).andExpect(status().isTooManyRequests()).andExpect(header().string("Retry-After", "1"));
+		// Mismo resultado para un usuario inexistente: no se revela cuáles existen
+		login("missing-" + UUID.randomUUID())
+				.andExpect(status().isTooManyRequests()).andExpect(header().string("Retry-After", "1"));
+	}
+
+	@Test
+	void loginRehashesWeakerHashes() throws Exception {
+		login(username).andExpect(status().isOk());
+
+		String stored = storedHash();
+		assertThat(stored).startsWith("$2a$05$");
+		assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+	}
+
+	@Test
+	void rehashIsSkippedWhenThePoolIsSaturated() throws Exception {
+		when(executor.encode(any())).thenThrow(new PasswordHashingRejectedException(1));
+
+		login(username).andExpect(status().isOk());
+
+		assertThat(storedHash()).isEqualTo(weakHash);
+	}
+
+	@Test
+	void wrongPasswordIsUnauthorized() throws Exception {
+		mockMvc.perform(post("/auth/login").param("username", username).param("password", "wrong"))
+				.andExpect(status().isUnauthorized());
+		assertThat(storedHash()).isEqualTo(weakHash);
+	}
+
+	private ResultActions login(String user) throws Exception {
+		return mockMvc.perform(post("/auth/login").param("username", user).param("password", PASSWORD));
+	}
+
+	private String storedHash() {
+		return jdbcTemplate.queryForObject("select password from app_user where username = ?", String.class, username);
+	}
+}
@@ -0,0 +1,126 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.entity.Role;
+import com.whitechapel.comics_collection_api.entity.User;
+import com.whitechapel.comics_collection_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Un cambio de roles incrementa token_version en el mismo commit e invalida al
+ * momento los tokens anteriores en esta instancia; otros cambios no la tocan.
+ *
+ * Sin @Transactional: la invalidación en memoria se hace tras el commit.
+ */
+@SpringBootTest
+class RoleChangeInterceptorTests {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TokenVersionRegistry tokenVersions;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transaction;
+
+	private Long userId;
+
+	private Long userRoleId;
+
+	private Long adminRoleId;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		String suffix = UUID.randomUUID().toString();
+		transaction.executeWithoutResult(status -> {
+			Role userRole = role("ROLE_USER_" + suffix);
+			Role adminRole = role("ROLE_ADMIN_" + suffix);
+			User user = new User();
+			user.setUsername("roles-" + suffix);
+			user.setPassword("{noop}secret");
+			user.setRoles(new HashSet<>(Set.of(adminRole)));
+			userRepository.save(user);
+			userId = user.getId();
+			userRoleId = userRole.getId();
+			adminRoleId = adminRole.getId();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from user_roles where user_id = ?", userId);
+		jdbcTemplate.update("delete from app_user where id = ?", userId);
+		jdbcTemplate.update("delete from role where id in (?, ?)", userRoleId, adminRoleId);
+	}
+
+	@Test
+	void newUserKeepsTheInitialVersion() {
+		assertThat(storedVersion()).isZero();
+	}
+
+	@Test
+	void demotionInvalidatesPreviousTokensImmediately() {
+		assertThat(tokenVersions.isCurrent(userId, 0)).isTrue();
+
+		transaction.executeWithoutResult(status -> {
+			User user = userRepository.findById(userId).orElseThrow();
+			user.getRoles().removeIf(role -> role.getId().equals(adminRoleId));
+			user.getRoles().add(entityManager.getReference(Role.class, userRoleId));
+		});
+
+		assertThat(storedVersion()).isEqualTo(1);
+		assertThat(tokenVersions.isCurrent(userId, 0)).isFalse();
+		assertThat(tokenVersions.isCurrent(userId, 1)).isTrue();
+	}
+
+	@Test
+	void replacingTheRoleSetAlsoBumpsTheVersion() {
+		transaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow()
+				.setRoles(new HashSet<>(Set.of(entityManager.getReference(Role.class, userRoleId)))));
+
+		assertThat(storedVersion()).isEqualTo(1);
+	}
+
+	@Test
+	void otherChangesDoNotBumpTheVersion() {
+		transaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow()
+				.setPassword("{noop}changed"));
+
+		assertThat(storedVersion()).isZero();
+		assertThat(tokenVersions.isCurrent(userId, 0)).isTrue();
+	}
+
+	private Role role(String name) {
+		Role role = new Role();
+		role.setName(name);
+		entityManager.persist(role);
+		return role;
+	}
+
+	private int storedVersion() {
+		return jdbcTemplate.queryForObject("select token_version from app_user where id = ?", Integer.class, userId);
+	}
+}
@@ -0,0 +1,184 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.entity.RevokedToken;
+import com.whitechapel.comics_collection_api.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Revocación de tokens en memoria: carga al arrancar, lectura periódica de otras
+ * instancias, actualización tras el commit y sin revocaciones perdidas mientras el filtro se reconstruye o se purga.
+ */
+class TokenRevocationRegistryTests {
+
+	private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void loadRestoresPersistedRevocations() {
+		Instant expiresAt = Instant.now().plusSeconds(3600);
+		when(repository.findByExpiresAtAfter(any()))
+				.thenReturn(List.of(new RevokedToken("persisted", 1L, expiresAt, Instant.now())));
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+
+		registry.afterSingletonsInstantiated();
+
+		assertThat(registry.isRevoked("persisted")).isTrue();
+		assertThat(registry.isRevoked("other")).isFalse();
+		assertThat(registry.isRevoked(null)).isFalse();
+	}
+
+	@Test
+	void syncPicksUpRevocationsFromOtherInstances() {
+		Instant expiresAt = Instant.now().plusSeconds(3600);
+		when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+		registry.afterSingletonsInstantiated();
+		Instant loadedAt = Instant.now();
+
+		when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+				.thenReturn(List.of(new RevokedToken("elsewhere", 1L, expiresAt, Instant.now())));
+		registry.sync();
+
+		assertThat(registry.isRevoked("elsewhere")).isTrue();
+		assertThat(registry.stats().revokedTokens()).isEqualTo(1);
+
+		// Se lee desde la carga anterior, con margen hacia atrás; repetir no duplica
+		ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+		verify(repository).findByRevokedAtAfterAndExpiresAtAfter(since.capture(), any());
+		assertThat(since.getValue()).isBefore(loadedAt.minusSeconds(30));
+		registry.sync();
+		assertThat(registry.stats().revokedTokens()).isEqualTo(1);
+	}
+
+	@Test
+	void revocationIsVisibleOnlyAfterCommit() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+		TransactionSynchronizationManager.initSynchronization();
+
+		registry.revoke("jti", 1L, Instant.now().plusSeconds(3600));
+		assertThat(registry.isRevoked("jti")).isFalse();
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		assertThat(registry.isRevoked("jti")).isTrue();
+	}
+
+	@Test
+	void rolledBackRevocationIsNotRemembered() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+		TransactionSynchronizationManager.initSynchronization();
+
+		registry.revoke("jti", 1L, Instant.now().plusSeconds(3600));
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(registry.isRevoked("jti")).isFalse();
+	}
+
+	@Test
+	void expiredTokensAreNotRevoked() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+
+		registry.revoke("expired", 1L, Instant.now().minusSeconds(1));
+
+		assertThat(registry.isRevoked("expired")).isFalse();
+		assertThat(registry.stats().revokedTokens()).isZero();
+	}
+
+	@Test
+	void pruneForgetsOnlyExpiredRevocations() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 100, 0.001);
+		long now = System.currentTimeMillis();
+		registry.remember("expired", now - 1);
+		registry.remember("valid", now + 3_600_000);
+
+		registry.prune();
+
+		assertThat(registry.isRevoked("expired")).isFalse();
+		assertThat(registry.isRevoked("valid")).isTrue();
+		assertThat(registry.stats().revokedTokens()).isEqualTo(1);
+	}
+
+	@Test
+	void growingPastCapacityRebuildsALargerFilter() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 10, 0.001);
+		long expiresAt = System.currentTimeMillis() + 3_600_000;
+
+		for (int i = 0; i < 100; i++) {
+			registry.remember("jti-" + i, expiresAt);
+		}
+
+		assertThat(registry.stats().filterCapacity()).isGreaterThanOrEqualTo(100);
+		for (int i = 0; i < 100; i++) {
+			assertThat(registry.isRevoked("jti-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void revocationsDuringRebuildsAndPrunesAreNeverLost() throws Exception {
+		// Capacidad pequeña: las revocaciones fuerzan reconstrucciones mientras se purga
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(repository, 16, 0.001);
+		long expiresAt = System.currentTimeMillis() + 3_600_000;
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		try {
+			Future<?> pruner = executor.submit(() -> {
+				int i = 0;
+				while (running.get()) {
+					registry.remember("short-lived-" + i++, System.currentTimeMillis() - 1);
+					registry.prune();
+				}
+			});
+			List<Future<?>> writers = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int thread = t;
+				writers.add(executor.submit(() -> {
+					for (int i = 0; i < 2_000; i++) {
+						String jti = thread + "-" + i;
+						registry.remember(jti, expiresAt);
+						// Visible en cuanto remember() termina, aunque otro hilo esté reconstruyendo
+						assertThat(registry.isRevoked(jti)).isTrue();
+					}
+				}));
+			}
+			for (Future<?> writer : writers) {
+				writer.get();
+			}
+			running.set(false);
+			pruner.get();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (int t = 0; t < 4; t++) {
+			for (int i = 0; i < 2_000; i++) {
+				assertThat(registry.isRevoked(t + "-" + i)).as(t + "-" + i).isTrue();
+			}
+		}
+		assertThat(registry.stats().revokedTokens()).isEqualTo(8_000);
+	}
+}
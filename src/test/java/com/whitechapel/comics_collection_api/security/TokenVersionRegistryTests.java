@@ -0,0 +1,79 @@
+package com.whitechapel.comics_collection_api.security;
+
+import com.whitechapel.comics_collection_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Versión de tokens en memoria: caché con TTL, sin cachear usuarios inexistentes
+ * y sin perder un revokeAll() frente a una lectura anterior.
+ */
+class TokenVersionRegistryTests {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	private final UserDetailsCache userDetailsCache = new UserDetailsCache(10, 300);
+
+	@Test
+	void versionIsServedFromMemoryWithinTtl() {
+		TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, userDetailsCache, 300);
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3));
+
+		assertThat(registry.isCurrent(1L, 3)).isTrue();
+		assertThat(registry.isCurrent(1L, 3)).isTrue();
+		assertThat(registry.isCurrent(1L, 2)).isFalse();
+
+		verify(userRepository, times(1)).findTokenVersionById(1L);
+	}
+
+	@Test
+	void bumpOnAnotherInstanceIsSeenOnceTheEntryExpires() {
+		TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, userDetailsCache, 0);
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3), Optional.of(4));
+
+		assertThat(registry.isCurrent(1L, 3)).isTrue();
+		// Otra instancia ha hecho revokeAll(): la columna ya vale 4
+		assertThat(registry.isCurrent(1L, 3)).isFalse();
+		assertThat(registry.isCurrent(1L, 4)).isTrue();
+	}
+
+	@Test
+	void unknownUsersAreNotCached() {
+		TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, userDetailsCache, 300);
+		when(userRepository.findTokenVersionById(7L)).thenReturn(Optional.empty(), Optional.of(0));
+
+		assertThat(registry.isCurrent(7L, 0)).isFalse();
+		// El usuario se crea después: no queda un -1 cacheado
+		assertThat(registry.isCurrent(7L, 0)).isTrue();
+	}
+
+	@Test
+	void revokeAllInvalidatesPreviousTokensImmediately() {
+		TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, userDetailsCache, 300);
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3), Optional.of(4));
+
+		assertThat(registry.isCurrent(1L, 3)).isTrue();
+		registry.revokeAll(1L);
+
+		verify(userRepository).incrementTokenVersion(1L);
+		assertThat(registry.isCurrent(1L, 3)).isFalse();
+		assertThat(registry.isCurrent(1L, 4)).isTrue();
+	}
+
+	@Test
+	void olderReadNeverReplacesNewerVersion() {
+		TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, userDetailsCache, 0);
+		// revokeAll() deja la 4; una lectura que empezó antes devuelve todavía la 3
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(4), Optional.of(3));
+
+		registry.revokeAll(1L);
+		assertThat(registry.currentVersion(1L)).isEqualTo(4);
+	}
+}
@@ -0,0 +1,76 @@
+package com.whitechapel.comics_collection_api.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caché de UserDetails: aciertos, LRU y desalojos concurrentes con una carga.
+ */
+class UserDetailsCacheTests {
+
+	@Test
+	void secondLookupIsServedFromCache() {
+		UserDetailsCache cache = new UserDetailsCache(10, 300);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get("ana", username -> snapshot(1L, username, loads.incrementAndGet()));
+		UserSnapshot cached = cache.get("ana", username -> snapshot(1L, username, loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(1);
+		assertThat(cached.tokenVersion()).isEqualTo(1);
+		assertThat(cache.stats().hits()).isEqualTo(1);
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvicted() {
+		UserDetailsCache cache = new UserDetailsCache(2, 300);
+		cache.get("a", username -> snapshot(1L, username, 0));
+		cache.get("b", username -> snapshot(2L, username, 0));
+		cache.get("a", username -> snapshot(1L, username, 0));
+		cache.get("c", username -> snapshot(3L, username, 0));
+
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("a", username -> snapshot(1L, username, loads.incrementAndGet()));
+		cache.get("b", username -> snapshot(2L, username, loads.incrementAndGet()));
+
+		// "a" seguía en caché; "b" fue el desalojado
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictionDuringLoadDropsTheLoadedSnapshot() {
+		UserDetailsCache cache = new UserDetailsCache(10, 300);
+
+		// revokeAll() desaloja al usuario mientras otra request lo está cargando
+		UserSnapshot stale = cache.get("ana", username -> {
+			cache.evictById(1L);
+			return snapshot(1L, username, 1);
+		});
+		UserSnapshot fresh = cache.get("ana", username -> snapshot(1L, username, 2));
+
+		assertThat(stale.tokenVersion()).isEqualTo(1);
+		assertThat(fresh.tokenVersion()).isEqualTo(2);
+	}
+
+	@Test
+	void evictByUsernameDuringLoadDropsTheLoadedSnapshot() {
+		UserDetailsCache cache = new UserDetailsCache(10, 300);
+
+		cache.get("ana", username -> {
+			cache.evict(username);
+			return snapshot(1L, username, 1);
+		});
+
+		assertThat(cache.stats().size()).isZero();
+	}
+
+	private static UserSnapshot snapshot(Long id, String username, int tokenVersion) {
+		return new UserSnapshot(id, username, "{noop}secret",
+				Set.of(new SimpleGrantedAuthority("ROLE_USER")), tokenVersion);
+	}
+}
@@ -0,0 +1,207 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.ComicState;
+import com.whitechapel.comics_collection_api.event.EntitiesBulkChangedEvent;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import com.whitechapel.comics_collection_api.stats.CollectionStatsCounters;
+import com.whitechapel.comics_collection_api.stats.CollectionSummary;
+import com.whitechapel.comics_collection_api.stats.SeriesOwnershipIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Borrado en cascada por bloques: en la request o como job, con un solo evento
+ * de cómics por cascada (no uno por bloque) y contadores ajustados sin rebuild.
+ *
+ * Bloques de 2 cómics y cascadas de hasta 3 en la request, para que ambos
+ * caminos borren varios bloques. Sin @Transactional: los listeners se ejecutan
+ * tras el commit.
+ */
+@SpringBootTest(properties = {
+		"cascade-delete.chunk-size=2",
+		"cascade-delete.sync-threshold=3"
+})
+class CascadeDeleteServiceTests {
+
+	@Autowired
+	private CascadeDeleteService cascadeDeleteService;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockitoSpyBean
+	private CollectionStatsCounters statsCounters;
+
+	@MockitoSpyBean
+	private SeriesOwnershipIndex ownershipIndex;
+
+	private TransactionTemplate transaction;
+
+	private Long publisherId;
+
+	private Long smallSeriesId;
+
+	private Long largeSeriesId;
+
+	private final List<Long> smallSeriesComics = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			Publisher publisher = publisherRepository.save(
+					Publisher.builder().name("Cascade " + UUID.randomUUID()).build());
+			Series small = seriesRepository.save(
+					Series.builder().title("Small " + UUID.randomUUID()).numbers(3).publisher(publisher).build());
+			Series large = seriesRepository.save(
+					Series.builder().title("Large " + UUID.randomUUID()).numbers(4).publisher(publisher).build());
+			publisherId = publisher.getId();
+			smallSeriesId = small.getId();
+			largeSeriesId = large.getId();
+			for (int issue = 1; issue <= 3; issue++) {
+				smallSeriesComics.add(saveComic(small, publisher, issue));
+			}
+			for (int issue = 1; issue <= 4; issue++) {
+				saveComic(large, publisher, issue);
+			}
+		});
+		clearInvocations(statsCounters, ownershipIndex);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (publisherRepository.existsById(publisherId)) {
+			cascadeDeleteService.deletePublisher(publisherId).ifPresent(this::awaitFinished);
+		}
+	}
+
+	@Test
+	void smallCascadePublishesOneComicEventForAllChunks() {
+		CollectionSummary before = statsCounters.summary();
+
+		CascadeDeleteJob job = cascadeDeleteService.deleteSeries(smallSeriesId).orElseThrow();
+
+		assertThat(job.getState()).isEqualTo(CascadeDeleteJob.State.COMPLETED);
+		assertThat(job.getDeletedComics()).isEqualTo(3);
+		assertThat(seriesRepository.existsById(smallSeriesId)).isFalse();
+		assertThat(comicRepository.countBySeriesId(smallSeriesId)).isZero();
+
+		EntitiesBulkChangedEvent event = singleComicEvent();
+		assertThat(event.type()).isEqualTo(ChangeType.DELETE);
+		assertThat(event.ids()).containsExactlyInAnyOrderElementsOf(smallSeriesComics);
+		assertThat(event.hasPreviousState()).isTrue();
+
+		CollectionSummary after = statsCounters.summary();
+		assertThat(after.totalComics()).isEqualTo(before.totalComics() - 3);
+		assertThat(after.ownedComics()).isEqualTo(before.ownedComics() - 3);
+		assertThat(after.totalSpent()).isEqualByComparingTo(before.totalSpent().subtract(BigDecimal.valueOf(30)));
+		assertThat(ownershipIndex.gaps(smallSeriesId)).isEmpty();
+		verify(statsCounters, never()).rebuild();
+		verify(ownershipIndex, never()).rebuild();
+	}
+
+	@Test
+	void largeCascadeRunsAsJobAndPublishesOneComicEvent() {
+		CollectionSummary before = statsCounters.summary();
+
+		CascadeDeleteJob job = cascadeDeleteService.deletePublisher(publisherId).orElseThrow();
+		assertThat(job.getTotalComics()).isEqualTo(7);
+		awaitFinished(job);
+
+		assertThat(job.getState()).isEqualTo(CascadeDeleteJob.State.COMPLETED);
+		assertThat(job.getDeletedComics()).isEqualTo(7);
+		assertThat(cascadeDeleteService.job(job.getId())).containsSame(job);
+		assertThat(publisherRepository.existsById(publisherId)).isFalse();
+		assertThat(seriesRepository.existsById(largeSeriesId)).isFalse();
+
+		EntitiesBulkChangedEvent event = singleComicEvent();
+		assertThat(event.ids()).hasSize(7);
+		assertThat(event.previousComics()).extracting(ComicState::publisherId).containsOnly(publisherId);
+
+		CollectionSummary after = statsCounters.summary();
+		assertThat(after.totalComics()).isEqualTo(before.totalComics() - 7);
+		assertThat(after.totalSpent()).isEqualByComparingTo(before.totalSpent().subtract(BigDecimal.valueOf(70)));
+		assertThat(ownershipIndex.gapsByPublisher(publisherId)).isEmpty();
+		verify(statsCounters, never()).rebuild();
+		verify(ownershipIndex, never()).rebuild();
+	}
+
+	@Test
+	void missingTargetsReturnEmpty() {
+		assertThat(cascadeDeleteService.deleteSeries(Long.MAX_VALUE)).isEmpty();
+		assertThat(cascadeDeleteService.deletePublisher(Long.MAX_VALUE)).isEmpty();
+		assertThat(cascadeDeleteService.job("unknown")).isEmpty();
+	}
+
+	private EntitiesBulkChangedEvent singleComicEvent() {
+		ArgumentCaptor<EntitiesBulkChangedEvent> events = ArgumentCaptor.forClass(EntitiesBulkChangedEvent.class);
+		verify(statsCounters, atLeastOnce()).onBulkChanged(events.capture());
+		List<EntitiesBulkChangedEvent> comicEvents = events.getAllValues().stream()
+				.filter(event -> event.is(Comic.class))
+				.toList();
+		assertThat(comicEvents).hasSize(1);
+		return comicEvents.get(0);
+	}
+
+	private void awaitFinished(CascadeDeleteJob job) {
+		Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+		while (!job.isFinished()) {
+			assertThat(Instant.now()).as("job %s sin terminar", job.getId()).isBefore(deadline);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private Long saveComic(Series series, Publisher publisher, int issue) {
+		return comicRepository.save(Comic.builder()
+				.title(series.getTitle() + " #" + issue)
+				.issueNumber(issue)
+				.year(2000)
+				.owned(true)
+				.purchasePrice(10.0)
+				.series(series)
+				.publisher(publisher)
+				.creators(new HashSet<>())
+				.build()).getId();
+	}
+}
@@ -0,0 +1,216 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.dto.BulkItemResult;
+import com.whitechapel.comics_collection_api.dto.ComicBulkPatch;
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ComicState;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import com.whitechapel.comics_collection_api.stats.CollectionStatsCounters;
+import com.whitechapel.comics_collection_api.stats.CollectionSummary;
+import com.whitechapel.comics_collection_api.stats.SeriesOwnershipIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Operaciones por lotes: un resultado por id en el orden pedido, límite de ids,
+ * version incrementada y estructuras derivadas actualizadas solo para los cómics
+ * afectados (sin rebuild completo).
+ *
+ * Sin @Transactional: los listeners de las operaciones masivas se ejecutan tras el
+ * commit, así que cada paso confirma y los datos se borran al terminar.
+ */
+@SpringBootTest
+class ComicBulkServiceTests {
+
+	private static final long MISSING_ID = Long.MAX_VALUE;
+
+	@Autowired
+	private ComicBulkService bulkService;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoSpyBean
+	private CollectionStatsCounters statsCounters;
+
+	@MockitoSpyBean
+	private SeriesOwnershipIndex ownershipIndex;
+
+	private TransactionTemplate transaction;
+
+	private Long publisherId;
+
+	private Long seriesId;
+
+	private final List<Long> comicIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			Publisher publisher = publisherRepository.save(
+					Publisher.builder().name("Bulk " + UUID.randomUUID()).build());
+			Series series = seriesRepository.save(
+					Series.builder().title("Bulk " + UUID.randomUUID()).numbers(3).publisher(publisher).build());
+			publisherId = publisher.getId();
+			seriesId = series.getId();
+			for (int issue = 1; issue <= 3; issue++) {
+				comicIds.add(comicRepository.save(Comic.builder()
+						.title("Bulk #" + issue)
+						.issueNumber(issue)
+						.year(2000)
+						.owned(true)
+						.purchasePrice(10.0)
+						.series(series)
+						.publisher(publisher)
+						.creators(new HashSet<>())
+						.build()).getId());
+			}
+		});
+		clearInvocations(statsCounters, ownershipIndex);
+	}
+
+	@AfterEach
+	void tearDown() {
+		bulkService.delete(comicIds);
+		transaction.executeWithoutResult(status -> {
+			seriesRepository.deleteById(seriesId);
+			publisherRepository.deleteById(publisherId);
+		});
+	}
+
+	@Test
+	void patchReturnsOneResultPerIdInRequestOrder() {
+		List<BulkItemResult<Void>> results = bulkService.patch(
+				patch(List.of(comicIds.get(1), MISSING_ID, comicIds.get(0), comicIds.get(1)), null, "checked"));
+
+		assertThat(results).extracting(BulkItemResult::id)
+				.containsExactly(comicIds.get(1), MISSING_ID, comicIds.get(0));
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(200, 404, 200);
+		assertThat(comicRepository.findById(comicIds.get(0)).orElseThrow().getNotes()).isEqualTo("checked");
+	}
+
+	@Test
+	void patchBumpsVersionOfTheAffectedComicsOnly() {
+		Comic patchedBefore = comicRepository.findById(comicIds.get(0)).orElseThrow();
+		Comic untouchedBefore = comicRepository.findById(comicIds.get(2)).orElseThrow();
+
+		bulkService.patch(patch(List.of(comicIds.get(0)), null, "checked"));
+
+		Comic patched = comicRepository.findById(comicIds.get(0)).orElseThrow();
+		assertThat(patched.getVersion()).isEqualTo(patchedBefore.getVersion() + 1);
+		assertThat(patched.getLastModified()).isAfterOrEqualTo(patchedBefore.getLastModified());
+		assertThat(comicRepository.findById(comicIds.get(2)).orElseThrow().getVersion())
+				.isEqualTo(untouchedBefore.getVersion());
+	}
+
+	@Test
+	void idsAreLimitedPerCall() {
+		List<Long> tooMany = LongStream.rangeClosed(1, ComicBulkService.MAX_IDS + 1).boxed().toList();
+
+		assertThatThrownBy(() -> bulkService.delete(tooMany))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		assertThat(bulkService.findAll(tooMany.subList(0, ComicBulkService.MAX_IDS)))
+				.hasSize(ComicBulkService.MAX_IDS);
+	}
+
+	@Test
+	void patchWithoutChangesIsRejected() {
+		assertThatThrownBy(() -> bulkService.patch(patch(comicIds, null, null)))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+	}
+
+	@Test
+	void bulkPatchUpdatesDerivedStateWithoutRebuild() {
+		CollectionSummary before = statsCounters.summary();
+
+		bulkService.patch(patch(List.of(comicIds.get(0)), false, null));
+
+		CollectionSummary after = statsCounters.summary();
+		assertThat(after.totalComics()).isEqualTo(before.totalComics());
+		assertThat(after.ownedComics()).isEqualTo(before.ownedComics() - 1);
+		assertThat(after.totalSpent()).isEqualByComparingTo(before.totalSpent().subtract(BigDecimal.TEN));
+		assertThat(ownershipIndex.gaps(seriesId).orElseThrow().missingIssues()).containsExactly(1);
+		verify(statsCounters, never()).rebuild();
+		verify(ownershipIndex, never()).rebuild();
+	}
+
+	@Test
+	void bulkDeleteUpdatesDerivedStateWithoutRebuild() {
+		CollectionSummary before = statsCounters.summary();
+
+		List<BulkItemResult<Void>> results = bulkService.delete(List.of(comicIds.get(1), comicIds.get(2), MISSING_ID));
+
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(200, 200, 404);
+		assertThat(comicRepository.findAllById(comicIds)).extracting(Comic::getId).containsExactly(comicIds.get(0));
+		CollectionSummary after = statsCounters.summary();
+		assertThat(after.totalComics()).isEqualTo(before.totalComics() - 2);
+		assertThat(after.ownedComics()).isEqualTo(before.ownedComics() - 2);
+		assertThat(after.totalSpent()).isEqualByComparingTo(before.totalSpent().subtract(BigDecimal.valueOf(20)));
+		assertThat(ownershipIndex.gaps(seriesId).orElseThrow().missingIssues()).containsExactly(2, 3);
+		verify(statsCounters, never()).rebuild();
+		verify(ownershipIndex, never()).rebuild();
+	}
+
+	@Test
+	void previousStateIsReadWithTheRowsLocked() {
+		Long locked = comicIds.get(0);
+		transaction.executeWithoutResult(status -> {
+			assertThat(comicRepository.findStatesForUpdateByIdIn(List.of(locked)))
+					.extracting(ComicState::id).containsExactly(locked);
+
+			// Otra conexión no puede tomar la fila hasta el commit; las demás siguen libres
+			assertThatThrownBy(() -> CompletableFuture.runAsync(() -> jdbcTemplate.queryForList(
+					"select id from comic where id = ? for update nowait", locked)).join())
+					.hasCauseInstanceOf(DataAccessException.class);
+			CompletableFuture.runAsync(() -> jdbcTemplate.queryForList(
+					"select id from comic where id = ? for update nowait", comicIds.get(1))).join();
+		});
+	}
+
+	private static ComicBulkPatch patch(List<Long> ids, Boolean owned, String notes) {
+		return new ComicBulkPatch(ids, owned, null, null, null, notes);
+	}
+}
@@ -0,0 +1,220 @@
+package com.whitechapel.comics_collection_api.service;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JSON Merge Patch: campos ausentes intactos, null borra, referencias y campos
+ * desconocidos rechazados con 400, UPDATE solo con las columnas sucias y
+ * creadores sincronizados por diferencia.
+ *
+ * El SQL se captura con un StatementInspector propio en lugar del de métricas.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.whitechapel.comics_collection_api.service.EntityUpdateServiceTests$RecordingInspector")
+@Transactional
+class EntityUpdateServiceTests {
+
+	@Autowired
+	private EntityUpdateService updateService;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Series series;
+
+	private Creator first;
+
+	private Creator second;
+
+	private Creator third;
+
+	private Long comicId;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString();
+		Publisher publisher = publisherRepository.save(Publisher.builder().name("Patch " + suffix).build());
+		series = seriesRepository.save(Series.builder().title("Patch " + suffix).numbers(10).publisher(publisher).build());
+		first = creatorRepository.save(Creator.builder().name("First " + suffix).build());
+		second = creatorRepository.save(Creator.builder().name("Second " + suffix).build());
+		third = creatorRepository.save(Creator.builder().name("Third " + suffix).build());
+		comicId = comicRepository.save(Comic.builder()
+				.title("Patch #1")
+				.issueNumber(1)
+				.year(2001)
+				.condition("Fine")
+				.notes("signed")
+				.series(series)
+				.publisher(publisher)
+				.creators(new HashSet<>(Set.of(first, second)))
+				.build()).getId();
+		entityManager.flush();
+		entityManager.clear();
+		RecordingInspector.clear();
+	}
+
+	@Test
+	void absentFieldsAreKeptAndNullClears() {
+		patch("{\"condition\": null}");
+
+		Comic comic = reload();
+		assertThat(comic.getCondition()).isNull();
+		assertThat(comic.getNotes()).isEqualTo("signed");
+		assertThat(comic.getTitle()).isEqualTo("Patch #1");
+	}
+
+	@Test
+	void updateWritesOnlyTheDirtyColumns() {
+		patch("{\"notes\": \"unsigned\"}");
+
+		List<String> updates = RecordingInspector.matching("update comic ");
+		assertThat(updates).hasSize(1);
+		String setClause = updates.getFirst().substring(0, updates.getFirst().indexOf(" where "));
+		assertThat(setClause).contains("notes").doesNotContain("title", "condition", "issue_number", "series_id");
+	}
+
+	@Test
+	void patchWithoutChangesWritesNothing() {
+		patch("{\"notes\": \"signed\", \"condition\": \"Fine\"}");
+
+		assertThat(RecordingInspector.matching("update comic ")).isEmpty();
+	}
+
+	@Test
+	void creatorsAreSyncedByDifference() {
+		patch("{\"creators\": [{\"id\": " + second.getId() + "}, " + third.getId() + "]}");
+
+		assertThat(reload().getCreators()).extracting(Creator::getId)
+				.containsExactlyInAnyOrder(second.getId(), third.getId());
+		// Una fila borrada (first) y una insertada (third); nunca "borrar todas y reinsertar"
+		List<String> deletes = RecordingInspector.matching("delete from comic_creators");
+		assertThat(deletes).hasSize(1);
+		assertThat(deletes.getFirst()).contains("creator_id");
+		assertThat(RecordingInspector.matching("insert into comic_creators")).hasSize(1);
+	}
+
+	@Test
+	void unknownReferencesAreBadRequests() {
+		assertBadRequest("{\"series\": " + Long.MAX_VALUE + "}");
+		assertBadRequest("{\"publisher\": {\"id\": " + Long.MAX_VALUE + "}}");
+		assertBadRequest("{\"creators\": [" + Long.MAX_VALUE + "]}");
+		assertBadRequest("{\"series\": null}");
+		assertBadRequest("{\"series\": \"three\"}");
+		assertThat(RecordingInspector.matching("update comic ")).isEmpty();
+	}
+
+	@Test
+	void unknownFieldsAreBadRequests() {
+		assertThatThrownBy(() -> patch("{\"notse\": \"typo\"}"))
+				.isInstanceOfSatisfying(ResponseStatusException.class, e -> {
+					assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+					assertThat(e.getReason()).startsWith("Invalid patch").contains("notse");
+				});
+	}
+
+	@Test
+	void readOnlyFieldsAreIgnored() {
+		Long version = reload().getVersion();
+		entityManager.clear();
+
+		patch("{\"id\": 1, \"version\": 99, \"notes\": \"unsigned\"}");
+
+		Comic comic = reload();
+		assertThat(comic.getId()).isEqualTo(comicId);
+		assertThat(comic.getVersion()).isEqualTo(version + 1);
+	}
+
+	@Test
+	void missingEntityIsEmpty() {
+		assertThat(updateService.patchComic(Long.MAX_VALUE, json("{\"notes\": \"x\"}"))).isEmpty();
+	}
+
+	private void patch(String body) {
+		assertThat(updateService.patchComic(comicId, json(body))).isPresent();
+		entityManager.flush();
+	}
+
+	private void assertBadRequest(String body) {
+		assertThatThrownBy(() -> patch(body))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		entityManager.clear();
+	}
+
+	private Comic reload() {
+		entityManager.clear();
+		return comicRepository.findById(comicId).orElseThrow();
+	}
+
+	private ObjectNode json(String body) {
+		return (ObjectNode) objectMapper.readTree(body);
+	}
+
+	/**
+	 * Guarda el SQL que prepara Hibernate (sin modificarlo).
+	 */
+	public static class RecordingInspector implements StatementInspector {
+
+		private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+			return sql;
+		}
+
+		static void clear() {
+			STATEMENTS.clear();
+		}
+
+		static List<String> matching(String prefix) {
+			synchronized (STATEMENTS) {
+				return STATEMENTS.stream().filter(sql -> sql.startsWith(prefix)).toList();
+			}
+		}
+	}
+}
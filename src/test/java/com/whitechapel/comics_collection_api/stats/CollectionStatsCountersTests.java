@@ -0,0 +1,134 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contadores actualizados por EntityChangedEvent (alta, cambio de publisher y
+ * baja): cada paso coincide con lo que da rebuild() desde la base de datos,
+ * también con precios que redondean distinto en double (1.005, 0.125).
+ *
+ * Sin @Transactional: los eventos se publican tras el commit.
+ */
+@SpringBootTest
+class CollectionStatsCountersTests {
+
+	@Autowired
+	private CollectionStatsCounters counters;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transaction;
+
+	private Publisher first;
+
+	private Publisher second;
+
+	private Series series;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		first = publisherRepository.save(Publisher.builder().name("First " + UUID.randomUUID()).build());
+		second = publisherRepository.save(Publisher.builder().name("Second " + UUID.randomUUID()).build());
+		series = seriesRepository.save(Series.builder().title("Stats").numbers(5).publisher(first).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from comic where series_id = ?", series.getId());
+		jdbcTemplate.update("delete from series where id = ?", series.getId());
+		jdbcTemplate.update("delete from publisher where id in (?, ?)", first.getId(), second.getId());
+		counters.rebuild();
+	}
+
+	@Test
+	void entityEventsMatchTheAggregatedQuery() {
+		Long comicId = transaction.execute(status -> comicRepository.save(Comic.builder()
+				.title("Stats #1")
+				.issueNumber(1)
+				.year(1990)
+				.owned(true)
+				.purchasePrice(1.005)
+				.series(series)
+				.publisher(first)
+				.creators(new HashSet<>())
+				.build()).getId());
+
+		assertThat(stats(first)).hasValueSatisfying(stats -> {
+			assertThat(stats.comics()).isEqualTo(1);
+			assertThat(stats.value()).isEqualByComparingTo("1.01");
+		});
+		assertMatchesRebuild();
+
+		transaction.executeWithoutResult(status -> {
+			Comic comic = comicRepository.findById(comicId).orElseThrow();
+			comic.setPublisher(second);
+			comic.setPurchasePrice(0.125);
+		});
+
+		assertThat(stats(first)).isEmpty();
+		assertThat(stats(second)).hasValueSatisfying(stats -> {
+			assertThat(stats.comics()).isEqualTo(1);
+			assertThat(stats.ownedComics()).isEqualTo(1);
+			assertThat(stats.value()).isEqualByComparingTo("0.13");
+		});
+		assertMatchesRebuild();
+
+		transaction.executeWithoutResult(status -> comicRepository.deleteById(comicId));
+
+		assertThat(stats(second)).isEmpty();
+		assertMatchesRebuild();
+	}
+
+	private void assertMatchesRebuild() {
+		Optional<PublisherStats> firstBefore = stats(first);
+		Optional<PublisherStats> secondBefore = stats(second);
+		BigDecimal spentBefore = counters.summary().totalSpent();
+
+		counters.rebuild();
+
+		assertThat(stats(first)).isEqualTo(firstBefore);
+		assertThat(stats(second)).isEqualTo(secondBefore);
+		assertThat(counters.summary().totalSpent()).isEqualTo(spentBefore);
+	}
+
+	private Optional<PublisherStats> stats(Publisher publisher) {
+		return counters.byPublisher(Map.of()).stream()
+				.filter(stats -> publisher.getId().equals(stats.publisherId()))
+				.findFirst();
+	}
+}
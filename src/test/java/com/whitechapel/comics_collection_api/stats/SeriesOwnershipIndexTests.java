@@ -0,0 +1,159 @@
+package com.whitechapel.comics_collection_api.stats;
+
+import com.whitechapel.comics_collection_api.entity.Comic;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.event.ChangeType;
+import com.whitechapel.comics_collection_api.event.EntityChangedEvent;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Índice de números en propiedad: cálculo de huecos y reconstrucción sin
+ * ventanas en las que las series desaparecen para los lectores.
+ */
+@SpringBootTest
+@Transactional
+class SeriesOwnershipIndexTests {
+
+	@Autowired
+	private SeriesOwnershipIndex index;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Publisher publisher;
+
+	private Series series;
+
+	@BeforeEach
+	void setUp() {
+		publisher = publisherRepository.save(Publisher.builder().name("Publisher " + UUID.randomUUID()).build());
+		series = seriesRepository.save(Series.builder().title("Series").numbers(5).publisher(publisher).build());
+		for (int issue : new int[] {1, 2, 4, 4, 9}) {
+			comicRepository.save(Comic.builder()
+					.title("Issue #" + issue)
+					.issueNumber(issue)
+					.year(1990)
+					.owned(true)
+					.series(series)
+					.publisher(publisher)
+					.creators(new HashSet<>())
+					.build());
+		}
+		comicRepository.save(Comic.builder()
+				.title("Wanted #5")
+				.issueNumber(5)
+				.year(1990)
+				.owned(false)
+				.series(series)
+				.publisher(publisher)
+				.creators(new HashSet<>())
+				.build());
+		entityManager.flush();
+		index.rebuild();
+	}
+
+	@Test
+	void gapsIgnoreDuplicatesUnownedAndOutOfRangeIssues() {
+		SeriesGaps gaps = index.gaps(series.getId()).orElseThrow();
+
+		assertThat(gaps.ownedIssues()).isEqualTo(3);
+		assertThat(gaps.missingIssues()).containsExactly(3, 5);
+		assertThat(gaps.completion()).isEqualTo(0.6);
+		assertThat(gaps.longestRunStart()).isEqualTo(1);
+		assertThat(gaps.longestRunLength()).isEqualTo(2);
+	}
+
+	@Test
+	void issuesAboveTheSeriesTotalAreNotStored() {
+		Comic huge = comicRepository.save(Comic.builder()
+				.title("Issue #" + Integer.MAX_VALUE)
+				.issueNumber(Integer.MAX_VALUE)
+				.year(1990)
+				.owned(true)
+				.series(series)
+				.publisher(publisher)
+				.creators(new HashSet<>())
+				.build());
+		entityManager.flush();
+		index.onEntityChanged(new EntityChangedEvent(ChangeType.INSERT, huge, huge.getId(), Map.of()));
+		index.rebuild();
+
+		SeriesGaps gaps = index.gaps(series.getId()).orElseThrow();
+		assertThat(gaps.ownedIssues()).isEqualTo(3);
+		assertThat(gaps.missingIssues()).containsExactly(3, 5);
+	}
+
+	@Test
+	void growingTheSeriesPicksUpIssuesThatNowFit() {
+		series.setNumbers(10);
+		entityManager.flush();
+		index.onEntityChanged(new EntityChangedEvent(ChangeType.UPDATE, series, series.getId(), Map.of()));
+
+		SeriesGaps gaps = index.gaps(series.getId()).orElseThrow();
+		assertThat(gaps.ownedIssues()).isEqualTo(4);
+		assertThat(gaps.missingIssues()).containsExactly(3, 5, 6, 7, 8, 10);
+	}
+
+	@Test
+	void gapsByPublisherListsItsSeries() {
+		Series other = seriesRepository.save(Series.builder().title("Other").numbers(2).publisher(publisher).build());
+		entityManager.flush();
+		index.rebuild();
+
+		assertThat(index.gapsByPublisher(publisher.getId()))
+				.extracting(SeriesGaps::seriesId)
+				.containsExactly(series.getId(), other.getId());
+		assertThat(index.gaps(-1L)).isEmpty();
+	}
+
+	@Test
+	void readersNeverSeeAnEmptyIndexDuringRebuild() throws InterruptedException {
+		Long seriesId = series.getId();
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger misses = new AtomicInteger();
+		Thread reader = new Thread(() -> {
+			while (running.get()) {
+				if (index.gaps(seriesId).isEmpty()) {
+					misses.incrementAndGet();
+				}
+			}
+		});
+		reader.start();
+		try {
+			for (int i = 0; i < 50; i++) {
+				index.rebuild();
+			}
+		} finally {
+			running.set(false);
+			reader.join();
+		}
+
+		assertThat(misses).hasValue(0);
+	}
+}
@@ -0,0 +1,111 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Los creadores nuevos se crean en la transacción del bloque y solo para filas
+ * válidas; un creador que la base de datos rechaza solo hace fallar su fila.
+ *
+ * Sin @Transactional: el reintento fila a fila necesita que cada bloque tenga su
+ * propia transacción.
+ */
+@SpringBootTest
+class ComicImportCreatorTests {
+
+	@Autowired
+	private ComicImportService importService;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String suffix;
+
+	private Series series;
+
+	@BeforeEach
+	void setUp() {
+		suffix = UUID.randomUUID().toString();
+		Publisher publisher = publisherRepository.save(
+				Publisher.builder().name("Publisher " + suffix).build());
+		series = seriesRepository.save(
+				Series.builder().title("Import " + suffix).numbers(10).publisher(publisher).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from comic_creators where comic_id in (select id from comic where series_id = ?)",
+				series.getId());
+		jdbcTemplate.update("delete from comic where series_id = ?", series.getId());
+		jdbcTemplate.update("delete from creator where name like ?", "%" + suffix + "%");
+		jdbcTemplate.update("delete from series where id = ?", series.getId());
+		jdbcTemplate.update("delete from publisher where id = ?", series.getPublisher().getId());
+	}
+
+	@Test
+	void rejectedRowsDoNotCreateCreators() {
+		ImportReport report = importCsv(String.join("\n",
+				"title,issueNumber,year,series,creators",
+				"Unknown,1,2020,No such series " + suffix + ",Orphan " + suffix,
+				"Invalid,0,2020," + series.getTitle() + ",Invalid " + suffix,
+				"Valid,3,2020," + series.getTitle() + ",Kept " + suffix));
+
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.failed()).isEqualTo(2);
+		assertThat(creatorRepository.findByNameContainingIgnoreCase(suffix))
+				.extracting(Creator::getName)
+				.containsExactly("Kept " + suffix);
+	}
+
+	@Test
+	void creatorTooLongForItsColumnFailsOnlyItsRow() {
+		String tooLong = "x".repeat(300);
+		ImportReport report = importCsv(String.join("\n",
+				"title,issueNumber,year,series,creators",
+				"First,1,2020," + series.getTitle() + ",Shared " + suffix,
+				"Broken,2,2020," + series.getTitle() + ",Shared " + suffix + ";" + tooLong,
+				"Third,3,2020," + series.getTitle() + ",Shared " + suffix));
+
+		assertThat(report.imported()).isEqualTo(2);
+		assertThat(report.failed()).isEqualTo(1);
+		assertThat(report.errors()).singleElement()
+				.satisfies(error -> assertThat(error.row()).isEqualTo(3));
+		assertThat(comicRepository.countBySeriesId(series.getId())).isEqualTo(2);
+		assertThat(creatorRepository.findByNameContainingIgnoreCase(suffix))
+				.extracting(Creator::getName)
+				.containsExactly("Shared " + suffix);
+	}
+
+	private ImportReport importCsv(String csv) {
+		return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+}
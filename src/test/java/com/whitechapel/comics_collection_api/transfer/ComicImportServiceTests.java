@@ -0,0 +1,134 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import com.whitechapel.comics_collection_api.entity.Creator;
+import com.whitechapel.comics_collection_api.entity.Publisher;
+import com.whitechapel.comics_collection_api.entity.Series;
+import com.whitechapel.comics_collection_api.repository.ComicRepository;
+import com.whitechapel.comics_collection_api.repository.CreatorRepository;
+import com.whitechapel.comics_collection_api.repository.PublisherRepository;
+import com.whitechapel.comics_collection_api.repository.SeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Importación CSV: errores por fila con su línea, líneas en blanco ignoradas y
+ * comillas sin cerrar informadas sin abortar lo ya importado.
+ */
+@SpringBootTest
+@Transactional
+class ComicImportServiceTests {
+
+	@Autowired
+	private ComicImportService importService;
+
+	@Autowired
+	private PublisherRepository publisherRepository;
+
+	@Autowired
+	private SeriesRepository seriesRepository;
+
+	@Autowired
+	private ComicRepository comicRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Series series;
+
+	@BeforeEach
+	void setUp() {
+		Publisher publisher = publisherRepository.save(
+				Publisher.builder().name("Publisher " + UUID.randomUUID()).build());
+		series = seriesRepository.save(
+				Series.builder().title("Import " + UUID.randomUUID()).numbers(10).publisher(publisher).build());
+		entityManager.flush();
+	}
+
+	@Test
+	void blankLinesAreSkippedAndErrorsCarryTheirLine() {
+		String title = series.getTitle();
+		ImportReport report = importCsv(String.join("\n",
+				"title,issueNumber,year,series,notes",
+				"First,1,2020," + title + ",",
+				"",
+				"Bad,x,2020," + title + ",",
+				"   ",
+				"Multi,3,2020," + title + ",\"line one",
+				"line two\"",
+				"Last,4,2020," + title + ",",
+				""));
+
+		assertThat(report.processed()).isEqualTo(4);
+		assertThat(report.imported()).isEqualTo(3);
+		assertThat(report.failed()).isEqualTo(1);
+		assertThat(report.errors()).extracting(ImportReport.RowError::row).containsExactly(4L);
+		assertThat(comicRepository.countBySeriesId(series.getId())).isEqualTo(3);
+	}
+
+	@Test
+	void unclosedQuoteIsReportedAsARowError() {
+		String title = series.getTitle();
+		ImportReport report = importCsv(String.join("\n",
+				"title,issueNumber,year,series,notes",
+				"First,1,2020," + title + ",",
+				"Second,2,2020," + title + ",ok",
+				"Broken,3,2020," + title + ",\"never closed",
+				"Swallowed,4,2020," + title + ","));
+
+		assertThat(report.imported()).isEqualTo(2);
+		assertThat(report.failed()).isEqualTo(1);
+		assertThat(report.errors()).singleElement().satisfies(error -> {
+			assertThat(error.row()).isEqualTo(4);
+			assertThat(error.message()).contains("línea 4");
+		});
+		assertThat(comicRepository.countBySeriesId(series.getId())).isEqualTo(2);
+	}
+
+	@Test
+	void escapedCreatorNamesKeepTheirSeparators() {
+		String suffix = UUID.randomUUID().toString();
+		ImportReport report = importCsv(String.join("\n",
+				"title,issueNumber,year,series,creators",
+				"First,1,2020," + series.getTitle() + ",Smith\\; Jr. " + suffix + ";Ann " + suffix));
+
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(creatorRepository.findByNameContainingIgnoreCase(suffix))
+				.extracting(Creator::getName)
+				.containsExactlyInAnyOrder("Smith; Jr. " + suffix, "Ann " + suffix);
+	}
+
+	@Test
+	void malformedHeaderIsABadRequest() {
+		assertThatThrownBy(() -> importCsv("\"title,issueNumber\n"))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+	}
+
+	@Test
+	void emptyInputImportsNothing() {
+		ImportReport report = importCsv("\n\n");
+
+		assertThat(report.processed()).isZero();
+		assertThat(report.errors()).isEmpty();
+	}
+
+	private ImportReport importCsv(String csv) {
+		return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,64 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Lector CSV: comillas, saltos de línea, líneas en blanco y registros mal formados.
+ */
+class CsvReaderTests {
+
+	@Test
+	void readsQuotedFieldsWithSeparatorsAndEscapedQuotes() {
+		CsvReader csv = reader("a,\"b,c\",\"say \"\"hi\"\"\",\n");
+
+		assertThat(csv.next()).containsExactly("a", "b,c", "say \"hi\"", "");
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void quotedFieldMaySpanLines() {
+		CsvReader csv = reader("1,\"line one\r\nline two\"\r\n2,x");
+
+		assertThat(csv.next()).containsExactly("1", "line one\r\nline two");
+		assertThat(csv.lineNumber()).isEqualTo(1);
+		assertThat(csv.next()).containsExactly("2", "x");
+		assertThat(csv.lineNumber()).isEqualTo(3);
+		assertThat(csv.recordNumber()).isEqualTo(2);
+	}
+
+	@Test
+	void skipsBlankLines() {
+		CsvReader csv = reader("\nheader\n\n   \r\nrow\n\n");
+
+		assertThat(csv.next()).containsExactly("header");
+		assertThat(csv.lineNumber()).isEqualTo(2);
+		assertThat(csv.next()).containsExactly("row");
+		assertThat(csv.lineNumber()).isEqualTo(5);
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void quotedEmptyFieldIsARecord() {
+		assertThat(reader("\"\"\n").next()).containsExactly("");
+	}
+
+	@Test
+	void unclosedQuoteReportsTheLineWhereTheRecordStarts() {
+		CsvReader csv = reader("ok,1\nbad,\"never closed\nmore,2\n");
+
+		assertThat(csv.next()).containsExactly("ok", "1");
+		assertThatThrownBy(csv::next)
+				.isInstanceOf(CsvReader.MalformedRecordException.class)
+				.satisfies(e -> assertThat(((CsvReader.MalformedRecordException) e).line()).isEqualTo(2));
+		assertThat(csv.next()).isNull();
+	}
+
+	private static CsvReader reader(String text) {
+		return new CsvReader(new StringReader(text));
+	}
+}
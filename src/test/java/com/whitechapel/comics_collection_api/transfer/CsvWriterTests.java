@@ -0,0 +1,49 @@
+package com.whitechapel.comics_collection_api.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Escritura CSV y listas de creadores: lo exportado se vuelve a leer igual.
+ */
+class CsvWriterTests {
+
+	@Test
+	void quotesOnlyFieldsThatNeedIt() {
+		assertThat(write(Arrays.asList("plain", "a,b", "say \"hi\"", null, "two\nlines")))
+				.isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",,\"two\nlines\"\r\n");
+	}
+
+	@Test
+	void listSeparatorsInsideNamesAreEscaped() {
+		assertThat(CsvWriter.joinList(List.of("Stan Lee", "Smith; Jr.", "a\\b")))
+				.isEqualTo("Stan Lee;Smith\\; Jr.;a\\\\b");
+		assertThat(CsvReader.splitList("Stan Lee;Jack Kirby")).containsExactly("Stan Lee", "Jack Kirby");
+	}
+
+	@Test
+	void creatorNamesRoundTripThroughCsv() {
+		List<String> creators = List.of("Smith; Jr.", "O\\Neil", "Plain", "", "trailing;");
+		ComicExportRecord record = new ComicExportRecord(1L, "Title, with comma", 1, 2020, null,
+				"Series", "Publisher", creators, true, null, 9.99, LocalDate.of(2020, 1, 1), "notes", null);
+
+		List<String> read = new CsvReader(new StringReader(write(record.csvValues()))).next();
+
+		int column = ComicExportRecord.CSV_HEADER.indexOf("creators");
+		assertThat(CsvReader.splitList(read.get(column))).isEqualTo(creators);
+		assertThat(read.get(ComicExportRecord.CSV_HEADER.indexOf("title"))).isEqualTo("Title, with comma");
+	}
+
+	private static String write(List<?> values) {
+		StringWriter out = new StringWriter();
+		new CsvWriter(out).writeRecord(values);
+		return out.toString();
+	}
+}